@@ -0,0 +1,110 @@
+package ezmealplan.benchmark;
+
+import ezmealplan.exceptions.EZMealPlanException;
+import ezmealplan.food.Ingredient;
+import ezmealplan.food.Meal;
+import ezmealplan.logic.MealScanner;
+import ezmealplan.logic.ScanMode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
+/**
+ * Times sequential and parallel MealScanner scans over generated meal lists of doubling sizes, and prints the
+ * smallest size from which the parallel scan is faster at every larger size. That size is the value to use for the
+ * ezmealplan.scan.threshold property on this machine.
+ * Usage: ScanBenchmark [largest list size] [timed runs per size]
+ */
+public class ScanBenchmark {
+    private static final int SMALLEST_SIZE = 256;
+    private static final int DEFAULT_LARGEST_SIZE = 1 << 19;
+    private static final int DEFAULT_RUNS = 15;
+    private static final int WARM_UP_RUNS = 5;
+    private static final int INGREDIENTS_PER_MEAL = 5;
+    private static final String KEYWORD = "chicken";
+    private static final String[] INGREDIENT_NAMES = {"Chicken Breast", "Rice", "Egg", "Tofu", "Beef Slices",
+        "Broccoli", "Garlic", "Noodles", "Spring Onion", "Mushroom", "Pork Belly", "Carrot", "Chicken Stock", "Cheese"};
+    private static final int NOT_FOUND = -1;
+
+    public static void main(String[] args) throws EZMealPlanException {
+        int largestSize = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_LARGEST_SIZE;
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_RUNS;
+        List<Meal> allMeals = generateMeals(largestSize);
+        Predicate<Meal> predicate = ScanBenchmark::hasKeywordIngredient;
+        System.out.printf("Cores available to the fork-join pool: %d%n", ForkJoinPool.getCommonPoolParallelism());
+        System.out.printf("%10s %16s %16s %10s%n", "Meals", "Sequential (ms)", "Parallel (ms)", "Speedup");
+        int crossoverSize = NOT_FOUND;
+        for (int size = SMALLEST_SIZE; size <= largestSize; size *= 2) {
+            List<Meal> meals = allMeals.subList(0, size);
+            double sequentialMillis = time(meals, predicate, ScanMode.SEQUENTIAL, runs);
+            double parallelMillis = time(meals, predicate, ScanMode.PARALLEL, runs);
+            System.out.printf("%10d %16.3f %16.3f %9.2fx%n", size, sequentialMillis, parallelMillis,
+                    sequentialMillis / parallelMillis);
+            if (parallelMillis >= sequentialMillis) {
+                crossoverSize = NOT_FOUND;
+            } else if (crossoverSize == NOT_FOUND) {
+                crossoverSize = size;
+            }
+        }
+        if (crossoverSize == NOT_FOUND) {
+            System.out.println("The parallel scan was not faster at the largest sizes: keep ezmealplan.scan=SEQUENTIAL"
+                    + " or a threshold above " + largestSize + ".");
+        } else {
+            System.out.println("Crossover: the parallel scan is faster from " + crossoverSize + " meals, e.g."
+                    + " -Dezmealplan.scan.threshold=" + crossoverSize);
+        }
+    }
+
+    /**
+     * Returns the median time in milliseconds of scanning the meals in the mode, after checking that the mode finds
+     * the same meals in the same order as a sequential scan.
+     */
+    private static double time(List<Meal> meals, Predicate<Meal> predicate, ScanMode mode, int runs) {
+        MealScanner.setScanMode(ScanMode.SEQUENTIAL);
+        List<Meal> expectedMatches = MealScanner.scan(meals, predicate);
+        MealScanner.setScanMode(mode);
+        for (int i = 0; i < WARM_UP_RUNS; i++) {
+            MealScanner.scan(meals, predicate);
+        }
+        double[] runMillis = new double[runs];
+        for (int i = 0; i < runs; i++) {
+            long startTime = System.nanoTime();
+            List<Meal> matches = MealScanner.scan(meals, predicate);
+            runMillis[i] = (System.nanoTime() - startTime) / 1_000_000.0;
+            if (!matches.equals(expectedMatches)) {
+                throw new IllegalStateException(mode + " scan of " + meals.size() + " meals found different meals");
+            }
+        }
+        Arrays.sort(runMillis);
+        return runMillis[runs / 2];
+    }
+
+    private static boolean hasKeywordIngredient(Meal meal) {
+        for (Ingredient ingredient : meal.getIngredientList()) {
+            if (ingredient.getName().toLowerCase(Locale.ROOT).contains(KEYWORD)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<Meal> generateMeals(int count) throws EZMealPlanException {
+        Random random = new Random(count);
+        List<Meal> meals = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Meal meal = new Meal("Meal " + i);
+            int firstName = random.nextInt(INGREDIENT_NAMES.length);
+            for (int j = 0; j < INGREDIENTS_PER_MEAL; j++) {
+                String name = INGREDIENT_NAMES[(firstName + j) % INGREDIENT_NAMES.length];
+                meal.addIngredient(new Ingredient(name, 50L + random.nextInt(500)));
+            }
+            meals.add(meal);
+        }
+        return meals;
+    }
+}
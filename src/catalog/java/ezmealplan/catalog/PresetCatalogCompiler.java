@@ -0,0 +1,187 @@
+package ezmealplan.catalog;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Compiles the preset meals, written one per line as "mealName | ingredient1Name (price1) | ...", into the binary
+ * catalog read by PresetMeals. Every meal is validated here, so that the application can load the catalog without
+ * checking it again. Any invalid meal fails the build.
+ * The compiler is built on its own, without the application classes, so PRICE_PATTERN, MAX_PRICE_IN_CENTS and the
+ * ingredient format checks duplicate the checks of Ingredient, Money and Storage.parseMeal rather than calling them.
+ * They must be kept in step by hand: if the runtime checks become stricter, the compiler may accept a meal that the
+ * application would reject, and the catalog would be loaded with it all the same.
+ * The catalog is written with a DataOutputStream in the following format:
+ * <pre>
+ * int    magic number 0x455A4D50 ("EZMP")
+ * short  format version
+ * int    number of distinct ingredients, followed by each ingredient as (UTF name, long price in cents)
+ * int    number of meals, followed by each meal as (UTF name, short number of ingredients, int ingredient index...)
+ * </pre>
+ * Meals are written sorted by name (ignoring case) and then by price, which is the order of a MealList.
+ */
+public class PresetCatalogCompiler {
+    private static final int MAGIC_NUMBER = 0x455A4D50;
+    private static final short FORMAT_VERSION = 1;
+    private static final String SPLIT_REGEX = "\\s*\\|\\s*";
+    private static final Pattern PRICE_PATTERN = Pattern.compile("^\\d+\\.\\d{2}$");
+    private static final long MAX_PRICE_IN_CENTS = 999999999999999L;
+
+    /**
+     * Compiles the catalog source file args[0] into the binary catalog file args[1].
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: PresetCatalogCompiler <source file> <catalog file>");
+        }
+        List<String> lines = Files.readAllLines(Path.of(args[0]), StandardCharsets.UTF_8);
+        List<PresetMeal> meals = parseMeals(lines);
+        meals.sort(Comparator.comparing((PresetMeal meal) -> meal.name, String.CASE_INSENSITIVE_ORDER)
+                .thenComparingLong(PresetMeal::getPriceInCents));
+        Path catalogFile = Path.of(args[1]);
+        Files.createDirectories(catalogFile.toAbsolutePath().getParent());
+        try (OutputStream outputStream = Files.newOutputStream(catalogFile)) {
+            writeCatalog(meals, new DataOutputStream(new BufferedOutputStream(outputStream)));
+        }
+        System.out.println("Compiled " + meals.size() + " preset meals into " + catalogFile);
+    }
+
+    private static List<PresetMeal> parseMeals(List<String> lines) {
+        List<PresetMeal> meals = new ArrayList<>();
+        Set<String> mealKeys = new HashSet<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty()) {
+                continue;
+            }
+            int lineNumber = i + 1;
+            PresetMeal meal = parseMeal(line, lineNumber);
+            if (!mealKeys.add(meal.getKey())) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": duplicate meal " + meal.name);
+            }
+            meals.add(meal);
+        }
+        return meals;
+    }
+
+    private static PresetMeal parseMeal(String line, int lineNumber) {
+        String[] parts = line.split(SPLIT_REGEX);
+        int minLengthToHaveIng = 2;
+        if (parts.length < minLengthToHaveIng || parts[0].isEmpty()) {
+            throw new IllegalArgumentException("Line " + lineNumber + ": a meal needs a name and ingredients.");
+        }
+        PresetMeal meal = new PresetMeal(parts[0]);
+        Set<String> ingredientNames = new HashSet<>();
+        for (int i = 1; i < parts.length; i++) {
+            PresetIngredient ingredient = parseIngredient(parts[i], lineNumber);
+            if (!ingredientNames.add(ingredient.name.toLowerCase(Locale.ROOT))) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": duplicate ingredient " + ingredient.name);
+            }
+            meal.ingredients.add(ingredient);
+        }
+        meal.ingredients.sort(Comparator.comparing((PresetIngredient ingredient) -> ingredient.name,
+                String.CASE_INSENSITIVE_ORDER));
+        return meal;
+    }
+
+    private static PresetIngredient parseIngredient(String part, int lineNumber) {
+        int openBracketIndex = part.lastIndexOf('(');
+        int closeBracketIndex = part.lastIndexOf(')');
+        if (openBracketIndex <= 0 || closeBracketIndex < openBracketIndex) {
+            throw new IllegalArgumentException("Line " + lineNumber + ": invalid ingredient format: " + part);
+        }
+        String name = part.substring(0, openBracketIndex).trim();
+        String price = part.substring(openBracketIndex + 1, closeBracketIndex).trim();
+        if (name.isEmpty() || !PRICE_PATTERN.matcher(price).matches()) {
+            throw new IllegalArgumentException("Line " + lineNumber + ": invalid ingredient: " + part);
+        }
+        long priceInCents = Long.parseLong(price.replace(".", ""));
+        if (priceInCents > MAX_PRICE_IN_CENTS) {
+            throw new IllegalArgumentException("Line " + lineNumber + ": price out of range: " + part);
+        }
+        return new PresetIngredient(name, priceInCents);
+    }
+
+    private static void writeCatalog(List<PresetMeal> meals, DataOutputStream output) throws IOException {
+        Map<String, Integer> ingredientIndexes = new LinkedHashMap<>();
+        List<PresetIngredient> distinctIngredients = new ArrayList<>();
+        for (PresetMeal meal : meals) {
+            for (PresetIngredient ingredient : meal.ingredients) {
+                if (!ingredientIndexes.containsKey(ingredient.getKey())) {
+                    ingredientIndexes.put(ingredient.getKey(), distinctIngredients.size());
+                    distinctIngredients.add(ingredient);
+                }
+            }
+        }
+        output.writeInt(MAGIC_NUMBER);
+        output.writeShort(FORMAT_VERSION);
+        output.writeInt(distinctIngredients.size());
+        for (PresetIngredient ingredient : distinctIngredients) {
+            output.writeUTF(ingredient.name);
+            output.writeLong(ingredient.priceInCents);
+        }
+        output.writeInt(meals.size());
+        for (PresetMeal meal : meals) {
+            output.writeUTF(meal.name);
+            output.writeShort(meal.ingredients.size());
+            for (PresetIngredient ingredient : meal.ingredients) {
+                output.writeInt(ingredientIndexes.get(ingredient.getKey()));
+            }
+        }
+        output.flush();
+    }
+
+    private static class PresetIngredient {
+        private final String name;
+        private final long priceInCents;
+
+        PresetIngredient(String name, long priceInCents) {
+            this.name = name;
+            this.priceInCents = priceInCents;
+        }
+
+        String getKey() {
+            return name + " | " + priceInCents;
+        }
+    }
+
+    private static class PresetMeal {
+        private final String name;
+        private final List<PresetIngredient> ingredients = new ArrayList<>();
+
+        PresetMeal(String name) {
+            this.name = name;
+        }
+
+        long getPriceInCents() {
+            long priceInCents = 0;
+            for (PresetIngredient ingredient : ingredients) {
+                priceInCents += ingredient.priceInCents;
+            }
+            return priceInCents;
+        }
+
+        String getKey() {
+            StringBuilder key = new StringBuilder(name.toLowerCase(Locale.ROOT));
+            for (PresetIngredient ingredient : ingredients) {
+                key.append(" || ").append(ingredient.name.toLowerCase(Locale.ROOT)).append(" | ")
+                        .append(ingredient.priceInCents);
+            }
+            return key.toString();
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package ezmealplan;
 
 import ezmealplan.command.Command;
+import ezmealplan.exceptions.DuplicateMealException;
 import ezmealplan.exceptions.EZMealPlanException;
 import ezmealplan.exceptions.ParserException;
 import ezmealplan.food.Meal;
 import ezmealplan.logic.MealManager;
 import ezmealplan.food.list.MealList;
+import ezmealplan.storage.Journal;
 import ezmealplan.storage.Storage;
 import ezmealplan.ui.UserInterface;
 import ezmealplan.parser.Parser;
@@ -13,6 +15,10 @@ import ezmealplan.parser.Parser;
 import java.io.File;
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.FileHandler;
 import java.util.logging.Level;
 import java.util.logging.LogManager;
@@ -25,12 +31,18 @@ public class EZMealPlan {
     private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
     private static final UserInterface ui = new UserInterface();
     private static final MealManager mealManager = new MealManager();
+    private static final int LOADER_THREAD_COUNT = 2;
 
     public static void main(String[] args) {
         String fileName = "EZMealPlan.log";
         setupLogger(fileName);
+        long startupTime = System.nanoTime();
         checkConstructedLists();
+        long reconciliationTime = System.nanoTime();
         mealManager.removeIllegalMeals();
+        logPhaseTime("reconciliation", reconciliationTime);
+        openJournal();
+        logPhaseTime("total", startupTime);
 
         logger.fine("Running EZMealPlan");
         ui.printGreetingMessage();
@@ -59,52 +71,113 @@ public class EZMealPlan {
     }
 
     /**
-     * Creates and loads both main meal list (mainList.txt) and user meal list (userList.txt).
+     * Creates and loads both main meal list (mainList.txt) and user meal list (userList.txt), then replays the
+     * changes recorded in the journal since the lists were last saved. Only the lists changed after they were loaded
+     * are written back to their files.
      */
     private static void checkConstructedLists() {
         try {
             Storage.createListFiles();
-            Storage.loadExistingInventory(mealManager);
-            constructRecipesList();
-            constructWishList();
+            loadListsConcurrently();
+            mealManager.markListsSaved();
+            long replayTime = System.nanoTime();
+            Journal.replay(mealManager);
+            logPhaseTime("journal replay", replayTime);
         } catch (IOException ioException) {
             System.err.println("Could not load tasks: " + ioException.getMessage());
         }
     }
 
+    /**
+     * Loads the Inventory, then the Recipes List and Wishlist from their files at the same time, as each of them is
+     * only filled by its own file. The Inventory is loaded first because the shopping list reads it as meals are
+     * added to the Wishlist, so it must not change while the Wishlist is loaded. Returns after both lists are
+     * loaded, even if one of them fails.
+     *
+     * @throws IOException If any of the files could not be read.
+     */
+    private static void loadListsConcurrently() throws IOException {
+        loadPhase("inventory", () -> Storage.loadExistingInventory(mealManager));
+        ExecutorService loaders = Executors.newFixedThreadPool(LOADER_THREAD_COUNT);
+        try {
+            List<Future<?>> loads = List.of(
+                    loaders.submit(() -> loadPhase("recipes list", EZMealPlan::constructRecipesList)),
+                    loaders.submit(() -> loadPhase("wishlist", EZMealPlan::constructWishList)));
+            awaitLoads(loads);
+        } finally {
+            loaders.shutdown();
+        }
+    }
+
+    private static Void loadPhase(String phase, ListLoader listLoader) throws IOException {
+        long startTime = System.nanoTime();
+        listLoader.load();
+        logPhaseTime(phase, startTime);
+        return null;
+    }
+
+    private static void awaitLoads(List<Future<?>> loads) throws IOException {
+        IOException loadException = null;
+        for (Future<?> load : loads) {
+            try {
+                load.get();
+            } catch (ExecutionException executionException) {
+                Throwable cause = executionException.getCause();
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                loadException = cause instanceof IOException ioException ? ioException : new IOException(cause);
+            } catch (InterruptedException interruptedException) {
+                Thread.currentThread().interrupt();
+                loadException = new IOException("Interrupted while loading the lists.", interruptedException);
+            }
+        }
+        if (loadException != null) {
+            throw loadException;
+        }
+    }
+
+    private static void logPhaseTime(String phase, long startTime) {
+        double elapsedMillis = (System.nanoTime() - startTime) / 1_000_000.0;
+        logger.info(String.format("Startup phase %s took %.3f ms", phase, elapsedMillis));
+    }
+
+    /**
+     * Opens the journal so that every change made in this session is saved as it happens.
+     * If the journal has grown too large, it is first compacted into the list files.
+     */
+    private static void openJournal() {
+        try {
+            if (Journal.isCompactionDue()) {
+                Storage.compact(mealManager);
+            }
+            Journal.open();
+        } catch (IOException ioException) {
+            System.err.println("Could not open journal: " + ioException.getMessage());
+        }
+    }
+
     private static void constructWishList() throws IOException {
         File wishListFile = Storage.getWishListFile();
         MealList wishList = mealManager.getWishList();
-        constructList(wishListFile, wishList);
+        constructList(Storage.loadExistingList(wishListFile), wishList);
     }
 
     private static void constructRecipesList() throws IOException {
-        File recipesListFile = Storage.getRecipesListFile();
         MealList recipesList = mealManager.getRecipesList();
-        constructList(recipesListFile, recipesList);
+        constructList(Storage.loadRecipesList(), recipesList);
+        Storage.loadMealIds(mealManager);
     }
 
     /**
-     * Retrieves saved meals from the respective file and appends them into the respective MealList class.
-     * If the file (mainList.txt) is empty, preset meals are appended into the RecipesList class instead.
+     * Appends the meals retrieved from the respective file into the respective MealList class.
+     * All the meals are added in a single pass, so the MealList is only sorted once.
      */
-    private static void constructList(File selectedFile, MealList selectedMeals)
-            throws IOException {
-        List<Meal> mealList = Storage.loadExistingList(selectedFile);
-        if (mealList.isEmpty() && selectedFile.equals(Storage.getRecipesListFile())) {
-            mealList = Storage.loadPresetMeals();
-        }
-        for (Meal meal : mealList) {
-            extractMealIntoList(meal, selectedMeals);
-        }
-    }
-
-    private static void extractMealIntoList(Meal meal, MealList mealList) {
-        try {
-            mealManager.addMeal(meal, mealList);
-        } catch (EZMealPlanException ezMealPlanException) {
-            //Throws error message if detected an ingredient with invalid price and skips to the next meal.
-            System.err.println(ezMealPlanException.getMessage());
+    private static void constructList(List<Meal> mealList, MealList selectedMeals) {
+        List<DuplicateMealException> skippedMeals = mealManager.addMeals(mealList, selectedMeals);
+        for (DuplicateMealException duplicateMealException : skippedMeals) {
+            //Prints an error message for each duplicate meal that was skipped.
+            System.err.println(duplicateMealException.getMessage());
             System.err.println("The current meal will be skipped.\n");
             logger.info("EZMealPlanException triggered");
         }
@@ -134,4 +207,12 @@ public class EZMealPlan {
             logger.log(Level.WARNING, "File logger is not working.", ioException);
         }
     }
+
+    /**
+     * Loads one list from its file.
+     */
+    @FunctionalInterface
+    private interface ListLoader {
+        void load() throws IOException;
+    }
 }
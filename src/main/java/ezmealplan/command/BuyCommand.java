@@ -7,6 +7,8 @@ import ezmealplan.exceptions.InvalidPriceException;
 import ezmealplan.food.list.Inventory;
 import ezmealplan.food.Ingredient;
 import ezmealplan.logic.MealManager;
+import ezmealplan.parser.IngredientTokenizer;
+import ezmealplan.storage.Journal;
 import ezmealplan.ui.UserInterface;
 
 import java.util.ArrayList;
@@ -44,6 +46,7 @@ public class BuyCommand extends Command {
         for (Ingredient ingredient : ingredients) {
             // Add the ingredient (with name and price) into the inventory list.
             inventory.addIngredient(ingredient);
+            Journal.recordQuantity(ingredient, inventory.getIngredientAmount(ingredient));
             ui.printBought(ingredient);
         }
         ingredients.clear();
@@ -73,7 +76,8 @@ public class BuyCommand extends Command {
     }
 
     /**
-     * Splits the input string to extract individual ingredient tokens.
+     * Tokenizes the ingredients after the "/ing" keyword and creates an Ingredient from each token.
+     * Expected token format: "IngredientName (Price)"
      *
      * @param args the argument string containing ingredient information.
      */
@@ -82,42 +86,13 @@ public class BuyCommand extends Command {
         int ingIndex = args.indexOf(ingKeyword);
         int invalidIngIndex = -1;
         if (ingIndex != invalidIngIndex) {
-            String ingredientsStr = args.substring(ingIndex + ingKeyword.length()).trim();
-            String[] tokens = ingredientsStr.split(",");
-            for (String token : tokens) {
-                token = token.trim();
-                processIngredientToken(token);
+            int afterIngIndex = ingIndex + ingKeyword.length();
+            IngredientTokenizer tokenizer = new IngredientTokenizer(args, afterIngIndex, args.length(), ',');
+            while (tokenizer.next()) {
+                if (!tokenizer.isEmpty()) {
+                    ingredients.add(tokenizer.toIngredient());
+                }
             }
         }
     }
-
-    /**
-     * Processes a single ingredient token.
-     * Expected token format: "IngredientName (Price)"
-     *
-     * @param token the token to process.
-     */
-    private void processIngredientToken(String token) throws InvalidPriceException, IngredientPriceFormatException {
-        if (!token.isEmpty()) {
-            int openParenIndex = token.lastIndexOf('(');
-            int closeParenIndex = token.lastIndexOf(')');
-            int startIndex = 0;
-            int indexAdjustment = 1;
-            String name = token.substring(startIndex, openParenIndex).trim();
-            String priceStr = token.substring(openParenIndex + indexAdjustment, closeParenIndex).trim();
-            addParsedIngredient(name, priceStr);
-        }
-    }
-
-    /**
-     * Converts the price string to a double and creates an Ingredient.
-     *
-     * @param name the ingredient name.
-     * @param priceStr the price string.
-     */
-    private void addParsedIngredient(String name, String priceStr) throws InvalidPriceException,
-            IngredientPriceFormatException {
-        Ingredient ingredient = new Ingredient(name, priceStr);
-        ingredients.add(ingredient);
-    }
 }
@@ -1,13 +1,11 @@
 package ezmealplan.command;
 
-import ezmealplan.food.Meal;
+import ezmealplan.storage.Journal;
 import ezmealplan.storage.Storage;
 import ezmealplan.logic.MealManager;
 import ezmealplan.ui.UserInterface;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
 
 public class ByeCommand extends Command {
     @Override
@@ -17,70 +15,26 @@ public class ByeCommand extends Command {
 
     /**
      * Executes the bye command.
-     * Saves the WishList, RecipesList, and Inventory to their respective locations on disk.
+     * If every change in this session is already recorded in the Journal, the Journal is simply closed. Otherwise,
+     * the Journal is compacted into the list files. If any of the lists cannot be saved, the Journal is kept, as it
+     * still holds the changes of this session. The lists saved before the error already contain some of those
+     * changes, but replaying the Journal over them on the next start leaves them unchanged (see Journal).
      *
      * @param mealManager the MealManager providing access to the lists.
      * @param ui          the UserInterface for printing messages.
      */
     @Override
     public void execute(MealManager mealManager, UserInterface ui) {
-        updateRecipesListFile(mealManager,ui);
-        updateWishListFile(mealManager, ui);
-        updateInventoryListFile(mealManager, ui);
-        ui.printGoodbye();
-    }
-
-    private void updateWishListFile(MealManager mealManager, UserInterface ui) {
-        List<Meal> wishList = mealManager.getWishList().getList();
-        String wishListFilePath = Storage.getWishListFilePath();
-        clearAndUpdateFile(wishList, wishListFilePath, ui);
-    }
-
-    private void updateRecipesListFile(MealManager mealManager, UserInterface ui) {
-        List<Meal> recipesList = mealManager.getRecipesList().getList();
-        String recipesListFilePath = Storage.getRecipesListFilePath();
-        clearAndUpdateFile(recipesList, recipesListFilePath, ui);
-    }
-
-    private void clearAndUpdateFile(List<Meal> mealList, String filePath, UserInterface ui) {
-        clearFile(filePath, ui);
-        writeMealsToFile(mealList, filePath, ui);
-    }
-
-    private static void writeMealsToFile(List<Meal> mealList, String filePath, UserInterface ui) {
-        for (Meal newMeal : mealList) {
+        if (Journal.isOpen() && !Journal.isCompactionDue()) {
+            Journal.close();
+        } else {
             try {
-                Storage.writeToFile(newMeal.toDataString(), filePath);
+                Storage.compact(mealManager);
             } catch (IOException ioException) {
+                Journal.close();
                 ui.printMessage("Error writing to file: " + ioException.getMessage());
             }
         }
-    }
-
-    private static void clearFile(String filePath, UserInterface ui) {
-        try {
-            Storage.clearFile(filePath);
-        } catch (IOException ioException) {
-            ui.printMessage("Error clearing file: " + ioException.getMessage());
-        }
-    }
-
-    private static void writeIngredientsToFile(ArrayList<String> inventoryDataArray, String filePath,
-                                               UserInterface ui) {
-        for (String data : inventoryDataArray) {
-            try {
-                Storage.writeToFile(data, filePath);
-            } catch (IOException ioException) {
-                ui.printMessage("Error writing to file: " + ioException.getMessage());
-            }
-        }
-    }
-
-    private void updateInventoryListFile(MealManager mealManager, UserInterface ui) {
-        ArrayList<String> inventoryDataArray = mealManager.getInventory().toDataArray();
-        String inventoryListFilePath = Storage.getInventoryListFilePath();
-
-        clearFile(inventoryListFilePath, ui);
-        writeIngredientsToFile(inventoryDataArray, inventoryListFilePath, ui);
+        ui.printGoodbye();
     }
 }
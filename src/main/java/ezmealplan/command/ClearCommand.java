@@ -2,6 +2,7 @@
 package ezmealplan.command;
 
 import ezmealplan.logic.MealManager;
+import ezmealplan.storage.Journal;
 import ezmealplan.ui.UserInterface;
 import ezmealplan.food.Meal;
 
@@ -19,6 +20,7 @@ public class ClearCommand extends Command {
     public void execute(MealManager mealManager, UserInterface ui) {
         List<Meal> wishList = mealManager.getWishList().getList();
         wishList.clear();
+        Journal.recordClear();
         ui.printClearedList();
     }
 }
@@ -6,6 +6,8 @@ import ezmealplan.exceptions.IngredientPriceFormatException;
 import ezmealplan.exceptions.InvalidPriceException;
 import ezmealplan.food.Ingredient;
 import ezmealplan.logic.MealManager;
+import ezmealplan.parser.IngredientTokenizer;
+import ezmealplan.storage.Journal;
 import ezmealplan.ui.UserInterface;
 import ezmealplan.food.list.Inventory;
 
@@ -51,11 +53,13 @@ public class ConsumeCommand extends Command {
 
         for (String ingredientName : ingredientNames) {
             Ingredient removedIngredient = inventory.removeIngredient(ingredientName);
+            Journal.recordQuantity(removedIngredient, inventory.getIngredientAmount(removedIngredient));
             ui.printConsumed(removedIngredient.toString());
         }
 
         for (Ingredient ingredient : ingredients) {
             inventory.removeIngredient(ingredient);
+            Journal.recordQuantity(ingredient, inventory.getIngredientAmount(ingredient));
             ui.printConsumed(ingredient.toString());
         }
     }
@@ -67,38 +71,26 @@ public class ConsumeCommand extends Command {
         // Split using "/ing" as the delimiter.
         String ing = "/ing";
         int afterIngIndex = args.indexOf(ing) + ing.length();
-        String argsAfterIng = args.substring(afterIngIndex).trim();
-        String[] tokens = argsAfterIng.split(",");
-        for (String token : tokens) {
-            token = token.trim();
-            if (!token.isEmpty()) {
-                processIngredientToken(token);
+        IngredientTokenizer tokenizer = new IngredientTokenizer(args, afterIngIndex, args.length(), ',');
+        while (tokenizer.next()) {
+            if (!tokenizer.isEmpty()) {
+                processIngredientToken(tokenizer);
             }
         }
     }
 
-    private void processIngredientToken(String token) throws InvalidPriceException, IngredientPriceFormatException {
-        if (!hasParentheses(token)) {
+    private void processIngredientToken(IngredientTokenizer tokenizer) throws InvalidPriceException,
+            IngredientPriceFormatException {
+        if (!tokenizer.hasPrice()) {
             //If the input arguments do not contain parentheses, treat the input as an Ingredient name
-            ingredientNames.add(token);
+            ingredientNames.add(tokenizer.getToken());
         } else {
             //If the input arguments contain parentheses, attempt to instantiate an Ingredient object
-            int openParenIndex = token.lastIndexOf('(');
-            int closeParenIndex = token.lastIndexOf(')');
-            int startIndex = 0;
-            int indexAdjustment = 1;
-
-            String name = token.substring(startIndex, openParenIndex).trim();
-            String priceStr = token.substring(openParenIndex + indexAdjustment, closeParenIndex).trim();
-            Ingredient ingredientToDelete = new Ingredient(name, priceStr);
+            Ingredient ingredientToDelete = tokenizer.toIngredient();
             ingredients.add(ingredientToDelete);
         }
     }
 
-    private boolean hasParentheses(String token) {
-        return token.contains("(") && token.contains(")");
-    }
-
     private boolean checkValidUserInput() throws EZMealPlanException {
         ConsumeChecker checker = new ConsumeChecker(validUserInput);
         checker.check();
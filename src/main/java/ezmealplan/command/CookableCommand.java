@@ -0,0 +1,28 @@
+package ezmealplan.command;
+
+import ezmealplan.exceptions.EZMealPlanException;
+import ezmealplan.logic.MealManager;
+import ezmealplan.ui.UserInterface;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+public class CookableCommand extends Command {
+    private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
+
+    /**
+     * Executes the Cookable command, listing the Meals of the recipes list whose Ingredients are all in the
+     * Inventory. Only the cookable Meals are visited, as their missing Ingredients are counted as the Inventory
+     * changes.
+     *
+     * @param mealManager the MealManager providing access to the RecipesList and the Inventory.
+     * @param ui          the UserInterface for printing messages.
+     */
+    @Override
+    public void execute(MealManager mealManager, UserInterface ui) throws EZMealPlanException {
+        assert mealManager != null : "MealManager cannot be null";
+        logger.fine("Executing 'cookable' command");
+        List<Integer> cookableMealIndexes = mealManager.findingCookableMealIndexes();
+        ui.printCookableMeals(cookableMealIndexes, mealManager.getRecipesList().getList());
+    }
+}
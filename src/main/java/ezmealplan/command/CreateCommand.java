@@ -6,6 +6,8 @@ import ezmealplan.food.Ingredient;
 import ezmealplan.food.Meal;
 import ezmealplan.logic.MealManager;
 import ezmealplan.food.list.MealList;
+import ezmealplan.parser.IngredientTokenizer;
+import ezmealplan.storage.Journal;
 import ezmealplan.ui.UserInterface;
 
 import java.util.logging.Logger;
@@ -14,6 +16,7 @@ public class CreateCommand extends Command {
     private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
     private static final String MNAME = "/mname";
     private static final String ING = "/ing";
+    private static final char INGREDIENT_DELIMITER = ',';
 
     public CreateCommand(String userInputText) {
         validUserInput = userInputText.trim();
@@ -38,6 +41,7 @@ public class CreateCommand extends Command {
         Meal newMeal = createNewMeal();
         MealList recipesList = mealManager.getRecipesList();
         mealManager.addMeal(newMeal, recipesList);
+        Journal.recordCreate(newMeal);
         ui.printAddMealMessage(newMeal, recipesList);
     }
 
@@ -51,38 +55,19 @@ public class CreateCommand extends Command {
         return newMeal;
     }
 
-    private String[] extractIngredients() {
-        int afterIngIndex = lowerCaseInput.indexOf(ING) + ING.length();
-        String ingredients = validUserInput.substring(afterIngIndex).trim();
-        String splitRegex = "\\s*,\\s*";
-        return ingredients.split(splitRegex);
-    }
-
     private void addAllIngredients(Meal newMeal) throws EZMealPlanException {
-        String[] ingredientArray = extractIngredients();
-        for (String ingredientString : ingredientArray) {
-            String[] ingredientNamePrice = getNamePrice(ingredientString);
-            int nameIndex = 0;
-            int priceIndex = 1;
-            String ingredientName = ingredientNamePrice[nameIndex];
-            String ingredientPrice = ingredientNamePrice[priceIndex];
-            Ingredient newIngredient = new Ingredient(ingredientName, ingredientPrice);
+        int afterIngIndex = lowerCaseInput.indexOf(ING) + ING.length();
+        IngredientTokenizer tokenizer = new IngredientTokenizer(validUserInput, afterIngIndex,
+                validUserInput.length(), INGREDIENT_DELIMITER);
+        while (tokenizer.next()) {
+            if (tokenizer.isEmpty()) {
+                continue;
+            }
+            Ingredient newIngredient = tokenizer.toIngredient();
             newMeal.addIngredient(newIngredient);
         }
     }
 
-    private static String[] getNamePrice(String ingredient) {
-        String openBracket = "(";
-        String closeBracket = ")";
-        int zeroIndex = 0;
-        int openBracketIndex = ingredient.indexOf(openBracket);
-        int closeBracketIndex = ingredient.indexOf(closeBracket);
-        int afterOpenBracketIndex = ingredient.indexOf(openBracket) + openBracket.length();
-        String ingredientName = ingredient.substring(zeroIndex, openBracketIndex).trim();
-        String ingredientPrice = ingredient.substring(afterOpenBracketIndex, closeBracketIndex).trim();
-        return new String[]{ingredientName, ingredientPrice};
-    }
-
     private boolean checkValidUserInput() throws EZMealPlanException {
         CreateChecker checker = new CreateChecker(validUserInput);
         checker.check();
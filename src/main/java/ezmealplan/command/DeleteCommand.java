@@ -1,10 +1,13 @@
 package ezmealplan.command;
 
 import ezmealplan.exceptions.EZMealPlanException;
+import ezmealplan.food.Meal;
 import ezmealplan.logic.MealManager;
 import ezmealplan.food.list.MealList;
 import ezmealplan.ui.UserInterface;
 
+import java.util.BitSet;
+import java.util.List;
 import java.util.logging.Logger;
 
 public class DeleteCommand extends RemoveDeleteCommand {
@@ -17,7 +20,8 @@ public class DeleteCommand extends RemoveDeleteCommand {
     }
 
     /**
-     * Executes the Delete command.
+     * Executes the Delete command. The deleted meals which are also in the wishlist are then removed from the
+     * wishlist in a single pass.
      *
      * @param mealManager the MealManager providing access to the lists.
      * @param ui          the UserInterface for printing messages.
@@ -27,14 +31,18 @@ public class DeleteCommand extends RemoveDeleteCommand {
         super.execute(mealManager, ui);
 
         MealList wishList = mealManager.getWishList();
-        if (wishList.contains(removedOrDeletedMeal)) {
-            int indexInWishList = wishList.getIndex(removedOrDeletedMeal);
-            wishList.removeMeal(indexInWishList);
-            ui.printRemovedMessage(removedOrDeletedMeal, wishList.size());
-            logger.fine("Command finished executing: Removed \"" + removedOrDeletedMeal.getName() + "\" meal " +
-                    "from wishlist");
+        BitSet indexesInWishList = new BitSet(wishList.size());
+        for (Meal deletedMeal : removedOrDeletedMeals) {
+            if (wishList.contains(deletedMeal)) {
+                indexesInWishList.set(wishList.getIndex(deletedMeal));
+            }
         }
-        logger.fine("Command finished executing: Deleted \"" + removedOrDeletedMeal.getName() + "\" meal from " +
-                "recipes list");
+        if (!indexesInWishList.isEmpty()) {
+            List<Meal> removedMeals = wishList.removeMeals(indexesInWishList);
+            ui.printRemovedMessages(removedMeals, wishList.size());
+            logger.fine("Command finished executing: Removed " + removedMeals.size() + " meals from wishlist");
+        }
+        logger.fine("Command finished executing: Deleted " + removedOrDeletedMeals.size() + " meals from "
+                + "recipes list");
     }
 }
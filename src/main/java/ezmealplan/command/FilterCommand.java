@@ -1,15 +1,23 @@
 package ezmealplan.command;
 
 import ezmealplan.exceptions.EZMealPlanException;
+import ezmealplan.exceptions.InvalidPageException;
 import ezmealplan.food.Meal;
 import ezmealplan.logic.MealManager;
 import ezmealplan.ui.UserInterface;
 
 import java.util.List;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class FilterCommand extends FilterSelectCommand {
     private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
+    private static final String PAGE = "/page";
+    private static final int PAGE_SIZE = 20;
+    private static final int NO_PAGE = 0;
+    private static final int NOT_FOUND = -1;
+    private int pageNumber = NO_PAGE;
 
     public FilterCommand(String userInput) {
         validUserInput = userInput.trim();
@@ -19,20 +27,71 @@ public class FilterCommand extends FilterSelectCommand {
 
     /**
      * Executes the Filter command.
+     * With /page, only the Meals on that page of the filtered meal list are found and printed.
      *
      * @param mealManager the MealManager providing access to the RecipeList.
      * @param ui          the UserInterface for printing messages.
      */
     @Override
     public void execute(MealManager mealManager, UserInterface ui) throws EZMealPlanException {
+        extractPageNumber();
         boolean isValidUserInput = checkValidUserInput(filterOrSelect);
         if (!isValidUserInput) {
             logger.severe("Huge issue detected! The user input format remains invalid despite " +
                     "passing all the checks for input formatting error.");
         }
         assert isValidUserInput;
-        List<Meal> filteredMealList = getFilteredMealList(mealManager);
-        printFilteredMealList(filteredMealList, ui);
+        Stream<Meal> filteredMeals = getFilteredMeals(mealManager);
+        if (pageNumber == NO_PAGE) {
+            List<Meal> filteredMealList = filteredMeals.collect(Collectors.toList());
+            printQueryPlan(ui);
+            printFilteredMealList(filteredMealList, ui);
+        } else {
+            printFilteredMealPage(filteredMeals, ui);
+        }
+    }
+
+    /**
+     * Removes the /page keyword and its page number from the end of the user input, if they are present.
+     */
+    private void extractPageNumber() throws InvalidPageException {
+        int pageIndex = lowerCaseInput.lastIndexOf(PAGE);
+        if (pageIndex == NOT_FOUND) {
+            return;
+        }
+        String pageInput = validUserInput.substring(pageIndex + PAGE.length()).trim();
+        try {
+            pageNumber = Integer.parseInt(pageInput);
+            if (pageNumber < 1) {
+                throw new NumberFormatException();
+            }
+        } catch (NumberFormatException numberFormatException) {
+            throw new InvalidPageException();
+        }
+        validUserInput = validUserInput.substring(0, pageIndex).trim();
+        lowerCaseInput = validUserInput.toLowerCase();
+    }
+
+    /**
+     * Prints the filtered Meals on the requested page, numbered by their index in the whole filtered meal list.
+     * Only the Meals up to the first one on the next page are consumed from the Stream.
+     */
+    private void printFilteredMealPage(Stream<Meal> filteredMeals, UserInterface ui) {
+        long firstIndex = (long) (pageNumber - 1) * PAGE_SIZE;
+        List<Meal> pageMeals = filteredMeals.skip(firstIndex).limit(PAGE_SIZE + 1).collect(Collectors.toList());
+        printQueryPlan(ui);
+        if (pageMeals.isEmpty()) {
+            ui.printMessage("There are no filtered meals on page " + pageNumber + ".");
+            return;
+        }
+        boolean hasNextPage = pageMeals.size() > PAGE_SIZE;
+        if (hasNextPage) {
+            pageMeals.remove(PAGE_SIZE);
+        }
+        ui.printMealPage(pageMeals, getFilteredMealListName(), firstIndex + 1);
+        if (hasNextPage) {
+            ui.printMessage("Enter the same command with /page " + (pageNumber + 1) + " to see more meals.");
+        }
     }
 
 }
@@ -5,23 +5,31 @@ import ezmealplan.command.checkers.FilterSelectChecker;
 import ezmealplan.command.checkers.SelectChecker;
 import ezmealplan.exceptions.EZMealPlanException;
 import ezmealplan.exceptions.InvalidFilterMethodException;
-import ezmealplan.exceptions.InvalidMcostException;
 
 import ezmealplan.food.Meal;
 import ezmealplan.logic.MealManager;
+import ezmealplan.logic.query.FilterQuery;
+import ezmealplan.logic.query.MealCostPredicate;
+import ezmealplan.parser.FilterQueryParser;
 import ezmealplan.ui.UserInterface;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 public abstract class FilterSelectCommand extends Command {
     protected static final String ING = "/ing";
     protected static final String MNAME = "/mname";
     protected static final String MCOST = "/mcost";
+    protected static final String TOP = "/top";
     protected static final String BY_ING = "byIng";
     protected static final String BY_MNAME = "byMname";
     protected static final String BY_MCOST = "byMcost";
+    protected static final String BY_QUERY = "byQuery";
+    private static final int NOT_FOUND = -1;
     String filterOrSelect;
     String filterMethod = "";
+    private final List<String> queryPlanSteps = new ArrayList<>();
 
     protected boolean checkValidUserInput(String filterOrSelect) throws EZMealPlanException {
         getFilterMethod();
@@ -37,6 +45,10 @@ public abstract class FilterSelectCommand extends Command {
     }
 
     private void getFilterMethod() throws EZMealPlanException {
+        if (FilterQueryParser.isCompositeQuery(this.lowerCaseInput)) {
+            filterMethod = BY_QUERY;
+            return;
+        }
         boolean isContainIng = this.lowerCaseInput.contains(ING);
         boolean isContainMname = this.lowerCaseInput.contains(MNAME);
         boolean isContainMcost = this.lowerCaseInput.contains(MCOST);
@@ -58,51 +70,45 @@ public abstract class FilterSelectCommand extends Command {
         throw new InvalidFilterMethodException();
     }
 
-    protected List<Meal> getFilteredMealList(MealManager mealManager)
+    /**
+     * Returns a lazy Stream of the filtered Meals, so that only the Meals which are consumed need to be found.
+     *
+     * @param mealManager the MealManager providing access to the RecipeList.
+     */
+    protected Stream<Meal> getFilteredMeals(MealManager mealManager)
             throws EZMealPlanException {
         return switch (filterMethod) {
-        case BY_ING -> filterByIngList(mealManager);
-        case BY_MNAME -> filterByMnameList(mealManager);
-        case BY_MCOST -> filterByMcostList(mealManager);
-        default -> mealManager.getRecipesList().getList();
+        case BY_ING -> filterByIng(mealManager);
+        case BY_MNAME -> filterByMname(mealManager);
+        case BY_MCOST -> filterByMcost(mealManager);
+        case BY_QUERY -> filterByQuery(mealManager);
+        default -> mealManager.getRecipesList().getList().stream();
         };
     }
 
-    private List<Meal> filterByMcostList(MealManager mealManager) throws EZMealPlanException {
-        int afterMcostIndex = this.lowerCaseInput.indexOf(MCOST) + MCOST.length();
-        String mcostInput = validUserInput.substring(afterMcostIndex).trim();
-        double mcostDouble = checkValidMcostPrice(mcostInput);
-        return mealManager.filteringByMcost(mcostDouble);
+    private Stream<Meal> filterByQuery(MealManager mealManager) throws EZMealPlanException {
+        FilterQuery query = new FilterQueryParser(validUserInput, filterOrSelect).parse();
+        List<String> planSteps = new ArrayList<>();
+        Stream<Meal> filteredMeals = mealManager.filteringByQuery(query, planSteps);
+        queryPlanSteps.addAll(planSteps);
+        return filteredMeals;
     }
 
-    private double checkValidMcostPrice(String mcostInput) throws EZMealPlanException {
-        double mcostDouble;
-        try {
-            checkTwoDecimalPlace(mcostInput);
-            mcostDouble = Double.parseDouble(mcostInput);
-            checkMcostOutOfRange(mcostDouble);
-        } catch (NumberFormatException numberFormatException) {
-            throw new InvalidMcostException();
-        }
-        return mcostDouble;
-    }
-
-    private static void checkMcostOutOfRange(double mcostDouble) {
-        double zero = 0.00;
-        double maxPrice = 9999999999999.99;
-        if (mcostDouble < zero || mcostDouble > maxPrice) {
-            throw new NumberFormatException();
-        }
-    }
-
-    private void checkTwoDecimalPlace(String ingredientPrice) throws NumberFormatException {
-        String twoDecimalPlaceRegex = "^-?\\d+\\.\\d{2}$";
-        if (!ingredientPrice.matches(twoDecimalPlaceRegex)) {
-            throw new NumberFormatException();
+    private Stream<Meal> filterByMcost(MealManager mealManager) throws EZMealPlanException {
+        int afterMcostIndex = this.lowerCaseInput.indexOf(MCOST) + MCOST.length();
+        int topIndex = this.lowerCaseInput.indexOf(TOP, afterMcostIndex);
+        int mcostEndIndex = topIndex == NOT_FOUND ? validUserInput.length() : topIndex;
+        String mcostInput = validUserInput.substring(afterMcostIndex, mcostEndIndex).trim();
+        MealCostPredicate mealCost = MealCostPredicate.parse(mcostInput, MCOST + " " + mcostInput);
+        if (topIndex == NOT_FOUND) {
+            return mealManager.filteringByMcost(mealCost.getMinCents(), mealCost.getMaxCents());
         }
+        String topInput = validUserInput.substring(topIndex + TOP.length());
+        int topCount = FilterQueryParser.parseTopCount(topInput, filterOrSelect);
+        return mealManager.filteringCheapestByMcost(mealCost.getMinCents(), mealCost.getMaxCents(), topCount);
     }
 
-    private List<Meal> filterByMnameList(MealManager mealManager) {
+    private Stream<Meal> filterByMname(MealManager mealManager) {
         int afterMnameIndex = this.lowerCaseInput.indexOf(MNAME) + MNAME.length();
         String mnameInput = validUserInput.substring(afterMnameIndex).trim();
         String splitRegex = "\\s*,\\s*";
@@ -110,7 +116,7 @@ public abstract class FilterSelectCommand extends Command {
         return mealManager.filteringByMname(mealNameArray);
     }
 
-    private List<Meal> filterByIngList(MealManager mealManager) {
+    private Stream<Meal> filterByIng(MealManager mealManager) {
         int afterIngIndex = this.lowerCaseInput.indexOf(ING) + ING.length();
         String ingInput = validUserInput.substring(afterIngIndex).trim();
         String splitRegex = "\\s*,\\s*";
@@ -125,17 +131,38 @@ public abstract class FilterSelectCommand extends Command {
      * @param ui          the UserInterface for printing messages.
      */
     public void printFilteredMealList(List<Meal> filteredMealList, UserInterface ui) {
-        String mealCost = "meal cost";
-        String mealName = "meal name";
-        String ingredients = "ingredient(s)";
         if (filteredMealList.isEmpty()) {
             System.out.println("The filtered meal list is empty.");
             return;
         }
+        ui.printMealList(filteredMealList, getFilteredMealListName());
+    }
+
+    protected String getFilteredMealListName() {
+        String mealCost = "meal cost";
+        String mealName = "meal name";
+        String ingredients = "ingredient(s)";
         String filterMessage = "the meal list filtered by ";
-        String inputMessage = getString(mealCost, ingredients, mealName);
-        String message = filterMessage + inputMessage;
-        ui.printMealList(filteredMealList, message);
+        String combinedConditions = "the combined conditions";
+        String inputMessage = BY_QUERY.equals(filterMethod) ? combinedConditions
+                : getString(mealCost, ingredients, mealName);
+        return filterMessage + inputMessage;
+    }
+
+    /**
+     * Prints the plan of the filter query and the number of candidates after each of its steps, if the user asked
+     * for it with /explain.
+     *
+     * @param ui the UserInterface for printing messages.
+     */
+    public void printQueryPlan(UserInterface ui) {
+        if (queryPlanSteps.isEmpty()) {
+            return;
+        }
+        ui.printMessage("Here is the plan used to filter the recipes list:");
+        for (String planStep : queryPlanSteps) {
+            ui.printMessage("    " + planStep);
+        }
     }
 
     protected String getString(String mealCost, String ingredients, String mealName) {
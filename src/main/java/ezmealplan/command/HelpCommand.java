@@ -22,6 +22,9 @@ public class HelpCommand extends Command {
     private static final String CONSUME = "consume";
     private static final String BUY = "buy";
     private static final String INVENTORY = "inventory";
+    private static final String COOKABLE = "cookable";
+    private static final String PLAN = "plan";
+    private static final String SHOPLIST = "shoplist";
     String commandDescription;
 
     public HelpCommand(String userInput) {
@@ -94,6 +97,15 @@ public class HelpCommand extends Command {
         case INVENTORY:
             ui.printInventoryCommandHelp();
             break;
+        case COOKABLE:
+            ui.printCookableCommandHelp();
+            break;
+        case PLAN:
+            ui.printPlanCommandHelp();
+            break;
+        case SHOPLIST:
+            ui.printShoplistCommandHelp();
+            break;
         default:
             ui.printUnknownCommand(commandDescription);
             break;
@@ -0,0 +1,112 @@
+package ezmealplan.command;
+
+import ezmealplan.command.checkers.PlanChecker;
+import ezmealplan.exceptions.EZMealPlanException;
+import ezmealplan.exceptions.PlanCountOutOfRangeException;
+import ezmealplan.food.Ingredient;
+import ezmealplan.food.Money;
+import ezmealplan.logic.MealManager;
+import ezmealplan.logic.plan.MealPlan;
+import ezmealplan.parser.IngredientTokenizer;
+import ezmealplan.ui.UserInterface;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+public class PlanCommand extends Command {
+    private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
+    private static final String PLAN = "plan";
+    private static final String BUDGET = "/budget";
+    private static final int NOT_FOUND = -1;
+    private static final long NO_BUDGET = -1;
+
+    /**
+     * Constructs a PlanCommand.
+     * Expected user input format: "plan 5" or "plan 5 /budget 20.00"
+     */
+    public PlanCommand(String userInput) {
+        validUserInput = userInput.trim();
+    }
+
+    /**
+     * Executes the Plan command.
+     * The meals of the recipes list which need the least to be spent on ingredients are chosen, as ingredients in
+     * the inventory are not bought and ingredients shared between meals are bought once. Every better plan is
+     * reported as soon as it is found, and the best plan is shown once the time budget runs out.
+     * The /budget price is only compared with the spend of the best plan; it does not change which meals are chosen.
+     *
+     * @param mealManager the MealManager providing access to the RecipesList and the Inventory.
+     * @param ui          the UserInterface for printing messages.
+     */
+    @Override
+    public void execute(MealManager mealManager, UserInterface ui) throws EZMealPlanException {
+        PlanChecker checker = new PlanChecker(validUserInput);
+        checker.check();
+        if (!checker.isPassed()) {
+            logger.severe("Invalid plan command input detected.");
+            return;
+        }
+
+        String lowerCaseInput = validUserInput.toLowerCase();
+        int budgetIndex = lowerCaseInput.indexOf(BUDGET);
+        int countEndIndex = budgetIndex == NOT_FOUND ? validUserInput.length() : budgetIndex;
+        int mealCount = Integer.parseInt(validUserInput.substring(PLAN.length(), countEndIndex).trim());
+        long budgetCents = NO_BUDGET;
+        if (budgetIndex != NOT_FOUND) {
+            String budget = validUserInput.substring(budgetIndex + BUDGET.length()).trim();
+            budgetCents = IngredientTokenizer.parsePriceInCents(budget, 0, budget.length());
+        }
+        int recipesCount = mealManager.getRecipesList().getList().size();
+        if (mealCount > recipesCount) {
+            logger.warning("Triggers PlanCountOutOfRangeException()!");
+            throw new PlanCountOutOfRangeException(mealCount, recipesCount);
+        }
+
+        logger.fine("Executing 'plan' command for " + mealCount + " meals");
+        MealPlan plan = mealManager.planningMeals(mealCount, betterPlan -> ui.printMessage(
+                "Best plan so far spends $" + Money.format(betterPlan.getSpendCents()) + " (found after "
+                + betterPlan.getElapsedMillis() + " ms)."));
+        if (plan == null) {
+            logger.warning("The plan search was interrupted before any plan was found.");
+            ui.printMessage("Planning was interrupted before any plan was found. Please try again.");
+            return;
+        }
+        ui.printMessage(formatPlan(plan, budgetCents));
+    }
+
+    /**
+     * Formats the meals of the plan, numbered by their index in the recipes list, with the ingredients to buy, the
+     * total spend compared with the budget and the number of ingredients reused.
+     */
+    private static String formatPlan(MealPlan plan, long budgetCents) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Here is your plan of ").append(plan.getMeals().size()).append(" meals:")
+                .append(System.lineSeparator());
+        for (int i = 0; i < plan.getMeals().size(); i++) {
+            sb.append("    ").append(plan.getMealIndexes().get(i) + 1).append(". ").append(plan.getMeals().get(i))
+                    .append(System.lineSeparator());
+        }
+        List<Ingredient> ingredientsToBuy = plan.getIngredientsToBuy();
+        if (ingredientsToBuy.isEmpty()) {
+            sb.append("You have all the necessary ingredients for this plan.").append(System.lineSeparator());
+        } else {
+            sb.append("Ingredients to buy: ");
+            for (int i = 0; i < ingredientsToBuy.size(); i++) {
+                sb.append(i > 0 ? ", " : "").append(ingredientsToBuy.get(i));
+            }
+            sb.append(System.lineSeparator());
+        }
+        sb.append("Total spend: $");
+        Money.appendTo(sb, plan.getSpendCents());
+        if (budgetCents != NO_BUDGET) {
+            boolean isWithinBudget = plan.getSpendCents() <= budgetCents;
+            sb.append(isWithinBudget ? " (within your budget of $" : " (over your budget of $");
+            Money.appendTo(sb, budgetCents).append(isWithinBudget ? ")" : ", and no cheaper plan was found)");
+        }
+        sb.append(System.lineSeparator());
+        sb.append("Ingredients reused: ").append(plan.getReusedCount()).append(" of ")
+                .append(plan.getIngredientUseCount())
+                .append(", from your inventory or shared between the meals.");
+        return sb.toString();
+    }
+}
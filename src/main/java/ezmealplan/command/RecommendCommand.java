@@ -2,14 +2,14 @@ package ezmealplan.command;
 
 import ezmealplan.command.checkers.RecommendChecker;
 import ezmealplan.exceptions.EZMealPlanException;
+import ezmealplan.logic.MealCoverage;
 import ezmealplan.logic.MealManager;
 import ezmealplan.ui.UserInterface;
 import ezmealplan.food.Meal;
 import ezmealplan.food.Ingredient;
-import ezmealplan.food.list.Inventory;
+import ezmealplan.food.Money;
 
 import java.util.List;
-import java.util.Random;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -17,10 +17,12 @@ public class RecommendCommand extends Command {
     private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
     private static final String RECOMMEND = "recommend";
     private static final String ING = "/ing";
+    private static final String TOP = "/top";
+    private static final int DEFAULT_RECOMMEND_COUNT = 3;
 
     /**
      * Constructs a RecommendCommand.
-     * Expected user input format: "recommend /ing Chicken"
+     * Expected user input format: "recommend /ing Chicken" or "recommend /ing Chicken /top 5"
      */
     public RecommendCommand(String userInput) {
         validUserInput = userInput.trim();
@@ -28,6 +30,8 @@ public class RecommendCommand extends Command {
 
     /**
      * Executes the Recommend command.
+     * The meals containing the ingredient are ranked by the fraction of their ingredients already in the inventory,
+     * and then by the estimated spend on the missing ones, and the best 3 (or the /top count) are shown.
      *
      * @param mealManager the MealManager providing access to the lists.
      * @param ui          the UserInterface for printing messages.
@@ -54,24 +58,23 @@ public class RecommendCommand extends Command {
             return;
         }
         int afterIngIndex = ingIndex + ING.length();
-        String extractedKeyword = args.substring(afterIngIndex).trim();
+        int topIndex = args.toLowerCase().indexOf(TOP);
+        int keywordEndIndex = topIndex == invalidIndex ? args.length() : topIndex;
+        String extractedKeyword = args.substring(afterIngIndex, keywordEndIndex).trim();
         if (extractedKeyword.isEmpty()) {
             logger.severe("No ingredient specified after '/ing'.");
             ui.printMessage("No ingredient specified.");
             return;
         }
-
-        // Proceed with recommendation logic.
-        Inventory inventory = mealManager.getInventory();
+        int recommendCount = topIndex == invalidIndex ? DEFAULT_RECOMMEND_COUNT
+                : Integer.parseInt(args.substring(topIndex + TOP.length()).trim());
 
         // First, filter the user meal list (wishlist) by the ingredient keyword.
-        List<Meal> wishList = mealManager.getWishList().getList();
-        List<Meal> candidateMeals = filterMealsByIngredient(wishList, extractedKeyword);
+        List<Meal> candidateMeals = mealManager.findingByIngKeyword(mealManager.getWishList(), extractedKeyword);
 
         // If no matching meals in the wishlist, try the recipes list.
         if (candidateMeals.isEmpty()) {
-            List<Meal> recipesList = mealManager.getRecipesList().getList();
-            candidateMeals = filterMealsByIngredient(recipesList, extractedKeyword);
+            candidateMeals = mealManager.findingByIngKeyword(mealManager.getRecipesList(), extractedKeyword);
         }
 
         if (candidateMeals.isEmpty()) {
@@ -79,13 +82,25 @@ public class RecommendCommand extends Command {
             return;
         }
 
-        // Randomly select a meal from the candidate meals.
-        Random random = new Random();
-        Meal selectedMeal = candidateMeals.get(random.nextInt(candidateMeals.size()));
-
-        // Build the output message.
+        // Rank the candidate meals by the ingredients already in the inventory.
+        List<MealCoverage> coverages = mealManager.rankingByCoverage(candidateMeals, recommendCount);
         StringBuilder sb = new StringBuilder();
-        sb.append("Recommended Meal: ").append(selectedMeal.getName())
+        for (int i = 0; i < coverages.size(); i++) {
+            if (i > 0) {
+                sb.append(System.lineSeparator()).append(System.lineSeparator());
+            }
+            appendRecommendation(sb, i + 1, coverages.get(i));
+        }
+        ui.printMessage(sb.toString());
+    }
+
+    /**
+     * Appends a recommended meal with its ingredients, how many of them are on hand and the estimated spend on the
+     * missing ones.
+     */
+    private void appendRecommendation(StringBuilder sb, int rank, MealCoverage coverage) {
+        Meal selectedMeal = coverage.getMeal();
+        sb.append("Recommended Meal ").append(rank).append(": ").append(selectedMeal.getName())
                 .append(" (").append(selectedMeal).append(")")
                 .append(System.lineSeparator());
         sb.append("Ingredients:").append(System.lineSeparator());
@@ -96,28 +111,22 @@ public class RecommendCommand extends Command {
             sb.append("   ").append(i + 1).append(". ").append(ing.toString())
                     .append(System.lineSeparator());
         }
+        sb.append("Ingredients on hand: ").append(coverage.getOwnedCount()).append(" of ")
+                .append(coverage.getIngredientCount()).append(" (").append(coverage.getCoveragePercent())
+                .append("%), worth $");
+        Money.appendTo(sb, coverage.getOwnedCents()).append(System.lineSeparator());
 
         // Determine which ingredients are missing from the inventory.
-        List<String> missingIngredients = mealIngredients.stream()
-                .filter(ing -> !inventory.hasIngredient(ing))
+        List<String> missingIngredients = coverage.getMissingIngredients().stream()
                 .map(Ingredient::getName)
                 .collect(Collectors.toList());
         if (missingIngredients.isEmpty()) {
             sb.append("You have all the necessary ingredients for this meal.");
-        } else {
-            sb.append("Missing Ingredients: ").append(String.join(", ", missingIngredients));
+            return;
         }
-
-        ui.printMessage(sb.toString());
-    }
-
-    /**
-     * Filters a list of meals by checking if any ingredient name contains the given keyword.
-     */
-    private List<Meal> filterMealsByIngredient(List<Meal> meals, String keyword) {
-        return meals.stream()
-                .filter(meal -> meal.getIngredientList().stream()
-                        .anyMatch(ing -> ing.getName().toLowerCase().contains(keyword.toLowerCase())))
-                .collect(Collectors.toList());
+        sb.append("Missing Ingredients: ").append(String.join(", ", missingIngredients))
+                .append(System.lineSeparator());
+        sb.append("Estimated spend on missing ingredients: $");
+        Money.appendTo(sb, coverage.getMissingCents());
     }
 }
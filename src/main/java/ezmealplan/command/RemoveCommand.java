@@ -24,6 +24,6 @@ public class RemoveCommand extends RemoveDeleteCommand {
     @Override
     public void execute(MealManager mealManager, UserInterface ui) throws EZMealPlanException {
         super.execute(mealManager, ui);
-        logger.fine("Command finished executing: Removed \"" + removedOrDeletedMeal.getName() + "\" meal");
+        logger.fine("Command finished executing: Removed " + removedOrDeletedMeals.size() + " meals");
     }
 }
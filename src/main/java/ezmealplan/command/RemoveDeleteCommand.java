@@ -2,11 +2,20 @@ package ezmealplan.command;
 
 import ezmealplan.command.checkers.RemoveDeleteChecker;
 import ezmealplan.exceptions.EZMealPlanException;
+import ezmealplan.exceptions.EmptyListException;
+import ezmealplan.exceptions.MealIdNotFoundException;
+import ezmealplan.exceptions.RemoveIndexOutOfRangeException;
 import ezmealplan.food.Meal;
 import ezmealplan.logic.MealManager;
 import ezmealplan.food.list.MealList;
+import ezmealplan.parser.IndexList;
+import ezmealplan.parser.IndexListParser;
+import ezmealplan.parser.IndexRange;
+import ezmealplan.storage.Journal;
 import ezmealplan.ui.UserInterface;
 
+import java.util.BitSet;
+import java.util.List;
 import java.util.logging.Logger;
 
 public abstract class RemoveDeleteCommand extends Command {
@@ -14,7 +23,7 @@ public abstract class RemoveDeleteCommand extends Command {
     protected String removeOrDelete;
     protected final String remove = "remove";
     protected final String delete = "delete";
-    protected Meal removedOrDeletedMeal;
+    protected List<Meal> removedOrDeletedMeals;
 
     public RemoveDeleteCommand(String userInputText) {
         validUserInput = userInputText.trim();
@@ -22,6 +31,8 @@ public abstract class RemoveDeleteCommand extends Command {
 
     /**
      * Executes the Remove or Delete command, by specifying which MealList to delete from.
+     * Every index and range of indexes is checked against the MealList before any Meal is removed, and all the
+     * Meals are then removed in a single pass and reported together.
      *
      * @param mealManager the MealManager providing access to the lists.
      * @param ui          the UserInterface for printing messages.
@@ -38,14 +49,14 @@ public abstract class RemoveDeleteCommand extends Command {
         }
         assert isValidUserInput;
 
-        int index = parseIndex();
-
         if (removeOrDelete.equals(remove)) {
-            removedOrDeletedMeal = mealManager.removeMeal(index, wishList);
-            ui.printRemovedMessage(removedOrDeletedMeal, wishList.size());
+            removedOrDeletedMeals = mealManager.removeMeals(parseIndexes(mealManager, wishList), wishList);
+            Journal.recordRemoves(removedOrDeletedMeals);
+            ui.printRemovedMessages(removedOrDeletedMeals, wishList.size());
         } else if (removeOrDelete.equals(delete)) {
-            removedOrDeletedMeal = mealManager.removeMeal(index, recipesList);
-            ui.printDeletedMessage(removedOrDeletedMeal, recipesList.size());
+            removedOrDeletedMeals = mealManager.removeMeals(parseIndexes(mealManager, recipesList), recipesList);
+            Journal.recordDeletes(removedOrDeletedMeals);
+            ui.printDeletedMessages(removedOrDeletedMeals, recipesList.size());
         }
     }
 
@@ -55,10 +66,30 @@ public abstract class RemoveDeleteCommand extends Command {
         return checker.isPassed();
     }
 
-    private int parseIndex() {
+    /**
+     * Returns the positions in the MealList (starting from 0) of the indexes and meal IDs entered after the keyword.
+     * A meal ID is looked up directly instead of by its position.
+     *
+     * @throws EmptyListException If the MealList is empty.
+     * @throws RemoveIndexOutOfRangeException If an index is not from 1 to the size of the MealList.
+     * @throws MealIdNotFoundException If no meal in the MealList has a meal ID.
+     */
+    private BitSet parseIndexes(MealManager mealManager, MealList mealList) throws EZMealPlanException {
         String regexPattern = "\\s+";
-        int indexAdjustment = 1;
-        int indexOfIndex = 1;
-        return Integer.parseInt(validUserInput.split(regexPattern)[indexOfIndex]) - indexAdjustment;
+        int indexOfIndexes = 1;
+        IndexList indexList = IndexListParser.parse(validUserInput.split(regexPattern, 2)[indexOfIndexes]);
+        if (mealList.size() == 0) {
+            throw new EmptyListException(mealList.getMealListName());
+        }
+        for (IndexRange range : indexList.getRanges()) {
+            if (!range.isWithin(mealList.size())) {
+                throw new RemoveIndexOutOfRangeException(range.getOutOfRangeIndex(mealList.size()), mealList.size());
+            }
+        }
+        BitSet positions = IndexListParser.toPositions(indexList.getRanges(), mealList.size());
+        for (int mealId : indexList.getMealIds()) {
+            positions.set(mealList.getIndex(mealManager.getMealById(mealId, mealList)));
+        }
+        return positions;
     }
 }
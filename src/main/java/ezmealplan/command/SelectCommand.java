@@ -5,9 +5,19 @@ import ezmealplan.exceptions.InvalidSelectIndexException;
 import ezmealplan.food.Meal;
 import ezmealplan.logic.MealManager;
 import ezmealplan.food.list.MealList;
+import ezmealplan.parser.FilterQueryParser;
+import ezmealplan.parser.IndexList;
+import ezmealplan.parser.IndexListParser;
+import ezmealplan.parser.IndexRange;
+import ezmealplan.storage.Journal;
 import ezmealplan.ui.UserInterface;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.logging.Logger;
 
 public class SelectCommand extends FilterSelectCommand {
@@ -21,6 +31,10 @@ public class SelectCommand extends FilterSelectCommand {
 
     /**
      * Executes the Select command.
+     * Several indexes and ranges of indexes of the filtered Meals may be selected at once, in which case the Meals
+     * are filtered only once, those not yet in the wishlist are merged into it together and a single summary is
+     * printed. Meals selected by their meal ID are taken from the Recipes List directly, so the Meals are not
+     * filtered at all if only meal IDs are given.
      *
      * @param mealManager the MealManager providing access to the lists.
      * @param ui          the UserInterface for printing messages.
@@ -34,23 +48,45 @@ public class SelectCommand extends FilterSelectCommand {
         }
         assert isValidUserInput;
 
-        List<Meal> filteredMealList = getFilteredMealList(mealManager);
-        if (filteredMealList.isEmpty()) {
-            System.out.println("The filtered meal list is empty.");
-            return;
-        }
-
         String indexSubstring = getIndexSubstring();
-        int inputIndex = checkValidParse(indexSubstring);
-        Meal selectedMeal = checkValidInputIndex(inputIndex, filteredMealList);
+        IndexList indexList = checkValidParse(indexSubstring);
+        List<Meal> selectedMeals = new ArrayList<>();
+        if (indexList.hasRanges()) {
+            Iterator<Meal> filteredMeals = getFilteredMeals(mealManager).iterator();
+            if (!filteredMeals.hasNext()) {
+                System.out.println("The filtered meal list is empty.");
+                return;
+            }
+            selectedMeals.addAll(checkValidInputIndexes(indexList.getRanges(), filteredMeals));
+        }
+        addMealsById(indexList.getMealIds(), mealManager, selectedMeals);
         MealList wishList = mealManager.getWishList();
-        mealManager.addMeal(selectedMeal, wishList);
-        ui.printAddMealMessage(selectedMeal, wishList);
+        if (selectedMeals.size() == 1) {
+            Meal selectedMeal = selectedMeals.get(0);
+            mealManager.addMeal(selectedMeal, wishList);
+            Journal.recordSelect(selectedMeal);
+            ui.printAddMealMessage(selectedMeal, wishList);
+            return;
+        }
+        List<Meal> newMeals = new ArrayList<>(selectedMeals.size());
+        for (Meal selectedMeal : selectedMeals) {
+            if (!wishList.contains(selectedMeal)) {
+                newMeals.add(selectedMeal);
+            }
+        }
+        mealManager.addMeals(newMeals, wishList);
+        Journal.recordSelects(newMeals);
+        ui.printAddMealsMessage(newMeals, selectedMeals.size() - newMeals.size(), wishList);
+        logger.fine("Command finished executing: Selected " + newMeals.size() + " meals");
     }
 
     private String getIndexSubstring() {
         int afterSelectIndex = this.lowerCaseInput.indexOf(filterOrSelect) + filterOrSelect.length();
         int inputMethodIndex;
+        if (BY_QUERY.equals(filterMethod)) {
+            inputMethodIndex = FilterQueryParser.findFirstKeywordIndex(this.lowerCaseInput);
+            return validUserInput.substring(afterSelectIndex, inputMethodIndex).trim();
+        }
         String inputMethod = getString(MCOST, ING, MNAME);
         if (inputMethod.isEmpty()) {
             return validUserInput.substring(afterSelectIndex).trim();
@@ -59,25 +95,59 @@ public class SelectCommand extends FilterSelectCommand {
         return validUserInput.substring(afterSelectIndex, inputMethodIndex).trim();
     }
 
-    private Meal checkValidInputIndex(int inputIndex, List<Meal> mealList) throws EZMealPlanException {
-        Meal selectedMeal;
-        int indexAdjustment = 1;
-        int actualIndex = inputIndex - indexAdjustment;
-        try {
-            selectedMeal = mealList.get(actualIndex);
-        } catch (IndexOutOfBoundsException indexOutOfBoundsException) {
-            throw new InvalidSelectIndexException();
+    /**
+     * Returns the filtered Meals at the input indexes, in the order of the filtered Meals, consuming only the Meals
+     * up to the largest index.
+     */
+    private List<Meal> checkValidInputIndexes(List<IndexRange> inputRanges, Iterator<Meal> filteredMeals)
+            throws EZMealPlanException {
+        int largestIndex = 0;
+        for (IndexRange inputRange : inputRanges) {
+            if (inputRange.getFirst() < 1) {
+                throw new InvalidSelectIndexException();
+            }
+            largestIndex = Math.max(largestIndex, inputRange.getLast());
+        }
+        List<Meal> candidateMeals = new ArrayList<>();
+        while (candidateMeals.size() < largestIndex) {
+            if (!filteredMeals.hasNext()) {
+                throw new InvalidSelectIndexException();
+            }
+            candidateMeals.add(filteredMeals.next());
+        }
+        BitSet positions = IndexListParser.toPositions(inputRanges, candidateMeals.size());
+        List<Meal> selectedMeals = new ArrayList<>(positions.cardinality());
+        for (int position = positions.nextSetBit(0); position >= 0; position = positions.nextSetBit(position + 1)) {
+            selectedMeals.add(candidateMeals.get(position));
+        }
+        return selectedMeals;
+    }
+
+    /**
+     * Adds the Meals of the Recipes List with the meal IDs to selectedMeals, after the Meals already selected and
+     * skipping any of them.
+     */
+    private void addMealsById(List<Integer> mealIds, MealManager mealManager, List<Meal> selectedMeals)
+            throws EZMealPlanException {
+        if (mealIds.isEmpty()) {
+            return;
+        }
+        Set<Meal> alreadySelectedMeals = new HashSet<>(selectedMeals);
+        for (int mealId : mealIds) {
+            Meal meal = mealManager.getMealById(mealId, mealManager.getRecipesList());
+            if (alreadySelectedMeals.add(meal)) {
+                selectedMeals.add(meal);
+            }
         }
-        return selectedMeal;
     }
 
-    private int checkValidParse(String indexSubstring) throws EZMealPlanException {
-        int inputIndex;
+    private IndexList checkValidParse(String indexSubstring) throws EZMealPlanException {
+        IndexList indexList;
         try {
-            inputIndex = Integer.parseInt(indexSubstring);
+            indexList = IndexListParser.parse(indexSubstring);
         } catch (NumberFormatException numberFormatException) {
             throw new InvalidSelectIndexException();
         }
-        return inputIndex;
+        return indexList;
     }
 }
@@ -0,0 +1,32 @@
+package ezmealplan.command;
+
+import ezmealplan.exceptions.EZMealPlanException;
+import ezmealplan.logic.MealManager;
+import ezmealplan.logic.ShoppingList;
+import ezmealplan.ui.UserInterface;
+
+import java.util.logging.Logger;
+
+public class ShoplistCommand extends Command {
+    private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
+
+    /**
+     * Executes the Shoplist command, listing the ingredients to buy to cook every meal in the wishlist.
+     * The shopping list is kept up to date as meals are selected and removed and as ingredients are bought and
+     * consumed, so only the ingredients to buy are visited.
+     *
+     * @param mealManager the MealManager providing access to the ShoppingList.
+     * @param ui          the UserInterface for printing messages.
+     */
+    @Override
+    public void execute(MealManager mealManager, UserInterface ui) throws EZMealPlanException {
+        assert mealManager != null : "MealManager cannot be null";
+        logger.fine("Executing 'shoplist' command");
+        if (mealManager.getWishList().size() == 0) {
+            ui.printMealList(mealManager.getWishList().getList(), mealManager.getWishList().getMealListName());
+            return;
+        }
+        ShoppingList shoppingList = mealManager.getShoppingList();
+        ui.printShoppingList(shoppingList.getItems(), shoppingList.getTotalQuantity(), shoppingList.getTotalCents());
+    }
+}
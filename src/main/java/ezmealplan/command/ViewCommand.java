@@ -17,6 +17,7 @@ public class ViewCommand extends Command {
     private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
     private static final String RECIPES_SYMBOL = "/r";
     private static final String WISH_LIST_SYMBOL = "/w";
+    private static final String MEAL_ID_PREFIX = "#";
     String recipesOrWishlist;
 
 
@@ -27,7 +28,7 @@ public class ViewCommand extends Command {
 
     /**
      * Executes the view command.
-     * Displays the details of a requested Meal in a MealList.
+     * Displays the details of a requested Meal in a MealList, given by its index or by its meal ID, e.g. "#42".
      *
      * @param mealManager the MealManager providing access to the lists.
      * @param ui          the UserInterface for printing messages.
@@ -53,8 +54,15 @@ public class ViewCommand extends Command {
         }
         int afterKeywordIndex = lowerCaseInput.indexOf(recipesOrWishlist) + recipesOrWishlist.length();
         String afterKeyword = lowerCaseInput.substring(afterKeywordIndex).trim();
-        int mealListIndex = Integer.parseInt(afterKeyword);
-        Meal meal = getMeal(mealList, mealListIndex);
+        Meal meal;
+        if (afterKeyword.startsWith(MEAL_ID_PREFIX)) {
+            int mealId = Integer.parseUnsignedInt(afterKeyword.substring(MEAL_ID_PREFIX.length()));
+            meal = mealManager.getMealById(mealId, mealList);
+        } else {
+            int mealListIndex = Integer.parseInt(afterKeyword);
+            meal = getMeal(mealList, mealListIndex);
+        }
+        ui.printMealId(mealManager.getMealId(meal));
         ui.printIngredientList(meal);
     }
 
@@ -4,6 +4,7 @@ import ezmealplan.exceptions.EZMealPlanException;
 import ezmealplan.exceptions.InvalidIngIndexException;
 import ezmealplan.exceptions.InvalidMcostIndexException;
 import ezmealplan.exceptions.InvalidMnameIndexException;
+import ezmealplan.exceptions.InvalidTopException;
 import ezmealplan.exceptions.MissingIngredientException;
 import ezmealplan.exceptions.MissingMealCostException;
 import ezmealplan.exceptions.MissingMealNameException;
@@ -14,10 +15,13 @@ public abstract class FilterSelectChecker extends Checker {
     protected static final String ING = "/ing";
     protected static final String MNAME = "/mname";
     protected static final String MCOST = "/mcost";
+    protected static final String TOP = "/top";
     protected static final String BY_ING = "byIng";
     protected static final String BY_MNAME = "byMname";
     protected static final String BY_MCOST = "byMcost";
+    protected static final String BY_QUERY = "byQuery";
     private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
+    private static final int NOT_FOUND = -1;
     String filterOrSelect;
     String filterMethod;
 
@@ -26,6 +30,7 @@ public abstract class FilterSelectChecker extends Checker {
     public void check() throws EZMealPlanException {
         logger.fine("Checking '" + userInput + "' for errors.");
         checkFilterMethodFormat();
+        checkTopIndex();
         setPassed(true);
     }
 
@@ -72,9 +77,22 @@ public abstract class FilterSelectChecker extends Checker {
         }
     }
 
+    private void checkTopIndex() throws EZMealPlanException {
+        int topIndex = lowerCaseInput.indexOf(TOP);
+        if (topIndex == NOT_FOUND || BY_QUERY.equals(filterMethod)) {
+            // The position of /top in a combined filter query is checked when the query is parsed.
+            return;
+        }
+        if (!BY_MCOST.equals(filterMethod) || topIndex < lowerCaseInput.indexOf(MCOST)) {
+            throw new InvalidTopException(filterOrSelect);
+        }
+    }
+
     private void checkMcostFormat() throws EZMealPlanException {
         int afterMcostIndex = lowerCaseInput.indexOf(MCOST) + MCOST.length();
-        String afterMcost = this.userInput.substring(afterMcostIndex);
+        int topIndex = lowerCaseInput.indexOf(TOP, afterMcostIndex);
+        int mcostEndIndex = topIndex == NOT_FOUND ? userInput.length() : topIndex;
+        String afterMcost = this.userInput.substring(afterMcostIndex, mcostEndIndex).trim();
         if (afterMcost.isEmpty()) {
             throw new MissingMealCostException(filterOrSelect);
         }
@@ -0,0 +1,67 @@
+package ezmealplan.command.checkers;
+
+import ezmealplan.exceptions.EZMealPlanException;
+import ezmealplan.exceptions.InvalidPlanException;
+import ezmealplan.food.Money;
+import ezmealplan.parser.IngredientTokenizer;
+
+import java.util.logging.Logger;
+
+public class PlanChecker extends Checker {
+    private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
+    private static final String PLAN = "plan";
+    private static final String BUDGET = "/budget";
+    private static final int NOT_FOUND = -1;
+
+    public PlanChecker(String userInputText) {
+        this.userInput = userInputText.trim();
+        this.lowerCaseInput = userInput.toLowerCase();
+    }
+
+    @Override
+    public void check() throws EZMealPlanException {
+        logger.fine("Checking '" + userInput + "' for plan command errors.");
+        checkMealCount();
+        checkBudget();
+        setPassed(true);
+    }
+
+    /**
+     * Checks that the 'plan' keyword is followed by a whole number from 1 to 2147483647.
+     *
+     * @throws InvalidPlanException if the number of meals is missing or invalid.
+     */
+    private void checkMealCount() throws InvalidPlanException {
+        int budgetIndex = lowerCaseInput.indexOf(BUDGET);
+        int countEndIndex = budgetIndex == NOT_FOUND ? userInput.length() : budgetIndex;
+        try {
+            int mealCount = Integer.parseInt(userInput.substring(PLAN.length(), countEndIndex).trim());
+            if (mealCount < 1) {
+                throw new NumberFormatException();
+            }
+        } catch (NumberFormatException numberFormatException) {
+            String message = "Triggers InvalidPlanException()!";
+            logger.warning(message);
+            throw new InvalidPlanException();
+        }
+    }
+
+    /**
+     * Checks that the optional '/budget' keyword is followed by a price in 2 decimal places.
+     *
+     * @throws InvalidPlanException if the budget is not a valid price.
+     */
+    private void checkBudget() throws InvalidPlanException {
+        int budgetIndex = lowerCaseInput.indexOf(BUDGET);
+        if (budgetIndex == NOT_FOUND) {
+            return;
+        }
+        String budget = userInput.substring(budgetIndex + BUDGET.length()).trim();
+        long budgetCents = IngredientTokenizer.parsePriceInCents(budget, 0, budget.length());
+        if (!Money.isValid(budgetCents)) {
+            String message = "Triggers InvalidPlanException()!";
+            logger.warning(message);
+            throw new InvalidPlanException();
+        }
+    }
+}
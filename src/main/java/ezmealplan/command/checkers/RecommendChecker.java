@@ -2,6 +2,7 @@
 package ezmealplan.command.checkers;
 
 import ezmealplan.exceptions.EZMealPlanException;
+import ezmealplan.exceptions.InvalidRecommendTopException;
 import ezmealplan.exceptions.MissingIngKeywordException;
 import ezmealplan.exceptions.MissingIngredientException;
 
@@ -10,6 +11,8 @@ import java.util.logging.Logger;
 public class RecommendChecker extends Checker {
     private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
     private static final String ING = "/ing";
+    private static final String TOP = "/top";
+    private static final int NOT_FOUND = -1;
     private static final String COMMAND_NAME = "recommend";
 
     public RecommendChecker(String userInputText) {
@@ -21,6 +24,7 @@ public class RecommendChecker extends Checker {
     public void check() throws EZMealPlanException {
         logger.fine("Checking '" + userInput + "' for recommend command errors.");
         checkIngExists();
+        checkTop();
         checkIngredientExists();
         setPassed(true);
     }
@@ -38,6 +42,32 @@ public class RecommendChecker extends Checker {
         }
     }
 
+    /**
+     * Checks that the optional '/top' keyword comes after the '/ing' keyword and is followed by a whole number
+     * from 1 to 2147483647.
+     *
+     * @throws InvalidRecommendTopException if '/top' is misplaced or not followed by a valid count.
+     */
+    private void checkTop() throws InvalidRecommendTopException {
+        int topIndex = lowerCaseInput.indexOf(TOP);
+        if (topIndex == NOT_FOUND) {
+            return;
+        }
+        try {
+            if (topIndex < lowerCaseInput.indexOf(ING)) {
+                throw new NumberFormatException();
+            }
+            int count = Integer.parseInt(userInput.substring(topIndex + TOP.length()).trim());
+            if (count < 1) {
+                throw new NumberFormatException();
+            }
+        } catch (NumberFormatException numberFormatException) {
+            String message = "Triggers InvalidRecommendTopException()!";
+            logger.warning(message);
+            throw new InvalidRecommendTopException();
+        }
+    }
+
     /**
      * Checks that there is non-empty ingredient information provided after the '/ing' keyword.
      *
@@ -45,7 +75,9 @@ public class RecommendChecker extends Checker {
      */
     private void checkIngredientExists() throws MissingIngredientException {
         int afterIngIndex = lowerCaseInput.indexOf(ING) + ING.length();
-        String ingredients = userInput.substring(afterIngIndex).trim();
+        int topIndex = lowerCaseInput.indexOf(TOP);
+        int ingredientsEndIndex = topIndex == NOT_FOUND ? userInput.length() : topIndex;
+        String ingredients = userInput.substring(afterIngIndex, ingredientsEndIndex).trim();
         if (ingredients.isEmpty()) {
             String message = "Triggers MissingIngredientException()!";
             logger.warning(message);
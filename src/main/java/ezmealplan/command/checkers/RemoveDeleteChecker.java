@@ -2,6 +2,7 @@ package ezmealplan.command.checkers;
 
 import ezmealplan.exceptions.EZMealPlanException;
 import ezmealplan.exceptions.RemoveFormatException;
+import ezmealplan.parser.IndexListParser;
 
 import java.util.logging.Logger;
 
@@ -15,25 +16,32 @@ public class RemoveDeleteChecker extends Checker {
     @Override
     public void check() throws EZMealPlanException {
         logger.fine("Checking '" + userInput + "' for errors.");
-        String indexString = extractIndex(userInput);
-        parseIndex(indexString);
+        String indexesString = extractIndexes(userInput);
+        parseIndexes(indexesString);
         setPassed(true);
     }
 
-    private void parseIndex(String input) throws EZMealPlanException {
+    /**
+     * Checks that the indexes are a comma-separated list of indexes, ranges of indexes and meal IDs, e.g.
+     * "3, 7, 10-20, #42".
+     */
+    private void parseIndexes(String input) throws EZMealPlanException {
         try {
-            Integer.parseInt(input);
+            IndexListParser.parse(input);
         } catch (NumberFormatException numberFormatException) {
             throw new RemoveFormatException(userInput);
         }
     }
 
-    private String extractIndex(String input) throws EZMealPlanException {
-        int indexOfIndex = 1;
-        try {
-            return input.split("\\s+")[indexOfIndex];
-        } catch (ArrayIndexOutOfBoundsException arrayIndexOutOfBoundsException) {
+    /**
+     * Returns everything after the 'remove' or 'delete' keyword.
+     */
+    private String extractIndexes(String input) throws EZMealPlanException {
+        String[] keywordAndIndexes = input.trim().split("\\s+", 2);
+        int indexOfIndexes = 1;
+        if (keywordAndIndexes.length <= indexOfIndexes) {
             throw new RemoveFormatException(userInput);
         }
+        return keywordAndIndexes[indexOfIndexes];
     }
 }
@@ -2,6 +2,7 @@ package ezmealplan.command.checkers;
 
 import ezmealplan.exceptions.EZMealPlanException;
 import ezmealplan.exceptions.MissingMealIndexException;
+import ezmealplan.parser.FilterQueryParser;
 
 public class SelectChecker extends FilterSelectChecker {
     public SelectChecker(String userInputText, String filterMethod) {
@@ -35,6 +36,9 @@ public class SelectChecker extends FilterSelectChecker {
         case BY_MNAME -> MNAME;
         default -> keyword;
         };
+        if (BY_QUERY.equals(filterMethod)) {
+            return userInput.substring(afterSelectIndex, FilterQueryParser.findFirstKeywordIndex(lowerCaseInput));
+        }
         if (keyword.isEmpty()) {
             return userInput.substring(afterSelectIndex);
         }
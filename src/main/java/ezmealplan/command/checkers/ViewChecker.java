@@ -27,7 +27,12 @@ public class ViewChecker extends Checker {
         try {
             int afterKeywordIndex = lowerCaseInput.indexOf(recipeOrWishlist) + recipeOrWishlist.length();
             String afterKeyword = userInput.substring(afterKeywordIndex).trim();
-            Integer.parseInt(afterKeyword);
+            String mealIdPrefix = "#";
+            if (afterKeyword.startsWith(mealIdPrefix)) {
+                Integer.parseUnsignedInt(afterKeyword.substring(mealIdPrefix.length()));
+            } else {
+                Integer.parseInt(afterKeyword);
+            }
         } catch (NumberFormatException numberFormatException) {
             throw new InvalidViewIndexException();
         }
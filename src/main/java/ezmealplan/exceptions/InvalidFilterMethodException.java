@@ -4,7 +4,7 @@ public class InvalidFilterMethodException extends EZMealPlanException {
     @Override
     public String getMessage() {
         return """
-                Only 1 of the following filter keywords is needed for the 'filter' and 'select' command:
+                At least 1 of the following filter keywords is needed for the 'filter' and 'select' command:
                 /ing, /mcost or /mname.
                 
                 The filter keyword is compulsory for the 'filter' command.
@@ -0,0 +1,17 @@
+package ezmealplan.exceptions;
+
+public class InvalidFilterQueryException extends EZMealPlanException {
+    String reason;
+
+    public InvalidFilterQueryException(String reason) {
+        this.reason = reason;
+    }
+
+    @Override
+    public String getMessage() {
+        return "The filter conditions cannot be combined as entered: " + reason + ".\n" +
+                "Each /ing, /mname or /mcost condition may be preceded by /not, and the conditions are joined by " +
+                "/and (or nothing) and /or.\n" +
+                "E.g. filter /ing chicken /not /mname rice /or /mcost <3.00\n";
+    }
+}
@@ -0,0 +1,9 @@
+package ezmealplan.exceptions;
+
+public class InvalidPageException extends EZMealPlanException {
+    @Override
+    public String getMessage() {
+        return "The /page keyword must be at the end of the 'filter' command.\n" +
+                "It must be followed by a whole number from 1 to 2147483647, e.g. filter /ing chicken /page 2.\n";
+    }
+}
@@ -0,0 +1,10 @@
+package ezmealplan.exceptions;
+
+public class InvalidPlanException extends EZMealPlanException {
+    @Override
+    public String getMessage() {
+        return "The 'plan' command must be followed by the number of meals to plan, a whole number from 1 to " +
+                "2147483647.\n" + "An optional /budget keyword at the end must be followed by a price in 2 decimal " +
+                "places, e.g. plan 5 /budget 20.00.\n";
+    }
+}
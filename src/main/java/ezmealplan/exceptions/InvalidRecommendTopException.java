@@ -0,0 +1,9 @@
+package ezmealplan.exceptions;
+
+public class InvalidRecommendTopException extends EZMealPlanException {
+    @Override
+    public String getMessage() {
+        return "The /top keyword must be at the end of the 'recommend' command, after the ingredient.\n" +
+                "It must be followed by a whole number from 1 to 2147483647, e.g. recommend /ing chicken /top 5.\n";
+    }
+}
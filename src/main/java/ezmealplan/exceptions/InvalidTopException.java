@@ -0,0 +1,15 @@
+package ezmealplan.exceptions;
+
+public class InvalidTopException extends EZMealPlanException {
+    String filterOrSelect;
+
+    public InvalidTopException(String filterOrSelect) {
+        this.filterOrSelect = filterOrSelect;
+    }
+
+    @Override
+    public String getMessage() {
+        return "The /top keyword can only appear after the /mcost input of the '" + filterOrSelect + "' command.\n" +
+                "It must be followed by a whole number from 1 to 2147483647, e.g. /mcost <5.00 /top 3.\n";
+    }
+}
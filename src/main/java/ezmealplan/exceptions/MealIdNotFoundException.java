@@ -0,0 +1,17 @@
+package ezmealplan.exceptions;
+
+public class MealIdNotFoundException extends EZMealPlanException {
+    int mealId;
+    String listName;
+
+    public MealIdNotFoundException(int mealId, String listName) {
+        this.mealId = mealId;
+        this.listName = listName;
+    }
+
+    @Override
+    public String getMessage() {
+        return "There is no meal with the ID #" + mealId + " in the " + listName + ".\n" +
+                "The ID of a meal is shown when it is viewed with the 'view' command.\n";
+    }
+}
@@ -0,0 +1,16 @@
+package ezmealplan.exceptions;
+
+public class PlanCountOutOfRangeException extends EZMealPlanException {
+    int mealCount;
+    int listSize;
+
+    public PlanCountOutOfRangeException(int mealCount, int listSize) {
+        this.mealCount = mealCount;
+        this.listSize = listSize;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Cannot plan " + mealCount + " meals, as there are only " + listSize + " meals in the recipes list.\n";
+    }
+}
@@ -11,7 +11,9 @@ public class RemoveFormatException extends EZMealPlanException {
     public String getMessage() {
         return "The index of meal to be removed must appear in your command after the 'delete' or 'remove' keyword: "
                + command + "\n"
+               + "Several indexes, ranges of indexes and meal IDs such as #42 can be separated by commas.\n"
                + "Example: delete 10\n"
-               + "Example: remove 2\n";
+               + "Example: remove 2\n"
+               + "Example: delete 3, 7, 10-20, #42\n";
     }
 }
@@ -2,6 +2,7 @@ package ezmealplan.food;
 
 import ezmealplan.exceptions.IngredientPriceFormatException;
 import ezmealplan.exceptions.InvalidPriceException;
+import ezmealplan.parser.IngredientTokenizer;
 
 import java.util.logging.Logger;
 
@@ -11,7 +12,17 @@ public class Ingredient extends Product {
     public Ingredient(String ingredientName, String ingredientPriceString)
             throws InvalidPriceException, IngredientPriceFormatException {
         setName(ingredientName);
-        setPrice(checkValidIngPrice(ingredientPriceString));
+        setPriceInCents(checkValidIngPrice(ingredientPriceString));
+    }
+
+    /**
+     * Creates an Ingredient whose price has already been parsed into cents.
+     *
+     * @throws InvalidPriceException If the price is outside the range 0.00 to 9999999999999.99.
+     */
+    public Ingredient(String ingredientName, long ingredientPriceInCents) throws InvalidPriceException {
+        setName(ingredientName);
+        setPriceInCents(ingredientPriceInCents);
     }
 
     public void setPrice(double price) throws InvalidPriceException {
@@ -28,17 +39,18 @@ public class Ingredient extends Product {
      */
     @Override
     public boolean equals(Object otherIngredient) {
-        if (otherIngredient instanceof Ingredient) {
-            String otherName = ((Ingredient) otherIngredient).getName();
-            double otherPrice = ((Ingredient) otherIngredient).getPrice();
-            String thisName = this.getName();
-            double thsPrice = this.getPrice();
-            return thisName.equalsIgnoreCase(otherName) && thsPrice == otherPrice;
+        if (otherIngredient instanceof Ingredient other) {
+            return this.getIdentityKey().equals(other.getIdentityKey());
         } else {
             return false;
         }
     }
 
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
     /**
      * Returns true if and only if the other Ingredient has the same name (ignoring case).
      */
@@ -52,28 +64,21 @@ public class Ingredient extends Product {
         }
     }
 
-    private double checkValidIngPrice(String ingredientPrice) throws IngredientPriceFormatException {
-        checkTwoDecimalPlace(ingredientPrice);
-        try {
-            return Double.parseDouble(ingredientPrice);
-        } catch (NumberFormatException numberFormatException) {
+    private long checkValidIngPrice(String ingredientPrice) throws IngredientPriceFormatException {
+        long priceInCents = IngredientTokenizer.parsePriceInCents(ingredientPrice, 0, ingredientPrice.length());
+        if (priceInCents == IngredientTokenizer.INVALID_PRICE) {
             String message = "Triggers IngredientPriceFormatException()!";
             logger.warning(message);
             throw new IngredientPriceFormatException(getName());
         }
-    }
-
-    private void checkTwoDecimalPlace(String ingredientPrice) throws IngredientPriceFormatException {
-        String twoDecimalPlaceRegex = "^-?\\d+\\.\\d{2}$";
-        if (!ingredientPrice.matches(twoDecimalPlaceRegex)) {
-            throw new IngredientPriceFormatException(getName());
-        }
+        return priceInCents;
     }
 
     /**
      * Serialises the Ingredient into a string format for data storage. The format used is "name | price".
      */
     public String toDataString() {
-        return getName() + " | " + String.format("%.2f", getPrice());
+        StringBuilder stringBuilder = new StringBuilder(getName()).append(" | ");
+        return Money.appendTo(stringBuilder, getPriceInCents()).toString();
     }
 }
@@ -0,0 +1,23 @@
+package ezmealplan.food;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Assigns a small whole number ID to every distinct Ingredient (same name ignoring case and same price), so that
+ * sets of Ingredients can be kept as BitSets and compared without building Strings.
+ * IDs are never reused, so an ID stays valid for as long as the application runs.
+ */
+public final class IngredientIds {
+    private static final Map<String, Integer> idsByKey = new HashMap<>();
+
+    private IngredientIds() {
+    }
+
+    /**
+     * Returns the ID of the Ingredient, assigning the next unused ID if no equal Ingredient has one yet.
+     */
+    public static synchronized int getId(Ingredient ingredient) {
+        return idsByKey.computeIfAbsent(ingredient.getIdentityKey(), key -> idsByKey.size());
+    }
+}
@@ -12,10 +12,11 @@ public class Meal extends Product {
     private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
 
     private final List<Ingredient> ingredientList = new ArrayList<>();
+    private int[] ingredientIds;
 
     public Meal(String mealName) throws InvalidPriceException {
         setName(mealName);
-        setPrice(0);
+        setPriceInCents(0);
     }
 
     public void setPrice(double mealPrice) throws InvalidPriceException {
@@ -38,9 +39,30 @@ public class Meal extends Product {
         checkDuplicateIngredients(ingredient);
         ingredientList.add(ingredient);
         ingredientList.sort(Comparator.comparing(Ingredient::getName, String.CASE_INSENSITIVE_ORDER));
-        setPrice(getPrice() + ingredient.getPrice());
+        setPriceInCents(Money.add(getPriceInCents(), ingredient.getPriceInCents()));
+        ingredientIds = null;
     }
 
+    /**
+     * Returns the IngredientIds of the Ingredients of the Meal, in the same order as getIngredientList().
+     * The IDs are looked up once and cached until an Ingredient is added, so the returned array must not be
+     * modified.
+     */
+    public int[] getIngredientIds() {
+        if (ingredientIds == null) {
+            int[] ids = new int[ingredientList.size()];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = IngredientIds.getId(ingredientList.get(i));
+            }
+            ingredientIds = ids;
+        }
+        return ingredientIds;
+    }
+
+    /**
+     * Returns the Ingredients of the Meal. Ingredients should be added through addIngredient(), so that the
+     * price and identity key of the Meal stay up to date.
+     */
     public List<Ingredient> getIngredientList() {
         return ingredientList;
     }
@@ -52,12 +74,29 @@ public class Meal extends Product {
     @Override
     public boolean equals(Object otherMeal) {
         if (otherMeal instanceof Meal other) {
-            return this.getName().equalsIgnoreCase(other.getName()) &&
-                   this.ingredientList.equals(other.getIngredientList());
+            return this.getIdentityKey().equals(other.getIdentityKey());
         }
         return false;
     }
 
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    /**
+     * Builds the identity key of the Meal from its name (ignoring case) and the identity keys of its sorted
+     * Ingredients.
+     */
+    @Override
+    protected String buildIdentityKey() {
+        StringBuilder identityKey = appendNameKey(new StringBuilder());
+        for (Ingredient ingredient : ingredientList) {
+            identityKey.append(" || ").append(ingredient.getIdentityKey());
+        }
+        return identityKey.toString();
+    }
+
     private void checkDuplicateIngredients(Ingredient newIngredient) throws DuplicateIngredientException {
         for (Ingredient ingredient : ingredientList) {
             if (newIngredient.nameEquals(ingredient)) {
@@ -82,7 +121,7 @@ public class Meal extends Product {
             stringBuilder.append(" | ");
             stringBuilder.append(ingredient.getName());
             stringBuilder.append(" (");
-            stringBuilder.append(String.format("%.2f", ingredient.getPrice()));
+            Money.appendTo(stringBuilder, ingredient.getPriceInCents());
             stringBuilder.append(")");
         }
         return stringBuilder.toString();
@@ -0,0 +1,65 @@
+package ezmealplan.food;
+
+/**
+ * Fixed-point arithmetic and formatting for amounts of money stored as a whole number of cents in a long.
+ * Sums and comparisons of cents are exact, and amounts are formatted without going through String.format.
+ */
+public final class Money {
+    /** The largest amount allowed, 9999999999999.99, in cents. */
+    public static final long MAX_CENTS = 999999999999999L;
+    private static final int CENTS_PER_DOLLAR = 100;
+    private static final int CENTS_DIGITS_THRESHOLD = 10;
+    private static final char DECIMAL_POINT = '.';
+
+    private Money() {
+    }
+
+    /**
+     * Returns true if the amount is between 0.00 and 9999999999999.99 (both inclusive).
+     */
+    public static boolean isValid(long cents) {
+        return cents >= 0 && cents <= MAX_CENTS;
+    }
+
+    /**
+     * Returns the sum of two valid amounts. The sum of two valid amounts cannot overflow a long, but may itself
+     * be invalid.
+     */
+    public static long add(long cents, long otherCents) {
+        return cents + otherCents;
+    }
+
+    /**
+     * Converts an amount in dollars to cents, rounded to the nearest cent.
+     */
+    public static long fromDollars(double dollars) {
+        return Math.round(dollars * CENTS_PER_DOLLAR);
+    }
+
+    /**
+     * Converts an amount in cents to dollars.
+     */
+    public static double toDollars(long cents) {
+        return (double) cents / CENTS_PER_DOLLAR;
+    }
+
+    /**
+     * Appends a valid amount to the StringBuilder in 2 decimal places, e.g. 5 cents is appended as "0.05".
+     */
+    public static StringBuilder appendTo(StringBuilder stringBuilder, long cents) {
+        assert isValid(cents) : "Only valid amounts can be formatted";
+        long remainingCents = cents % CENTS_PER_DOLLAR;
+        stringBuilder.append(cents / CENTS_PER_DOLLAR).append(DECIMAL_POINT);
+        if (remainingCents < CENTS_DIGITS_THRESHOLD) {
+            stringBuilder.append('0');
+        }
+        return stringBuilder.append(remainingCents);
+    }
+
+    /**
+     * Formats a valid amount in 2 decimal places, e.g. 5 cents is formatted as "0.05".
+     */
+    public static String format(long cents) {
+        return appendTo(new StringBuilder(), cents).toString();
+    }
+}
@@ -2,12 +2,14 @@ package ezmealplan.food;
 
 import ezmealplan.exceptions.InvalidPriceException;
 
+import java.util.Locale;
 import java.util.logging.Logger;
 
 public abstract class Product {
     private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
     protected String name;
-    protected double price;
+    protected long priceInCents;
+    private String identityKey;
 
     public String getName() {
         return name;
@@ -15,33 +17,101 @@ public abstract class Product {
 
     public void setName(String name) {
         this.name = name;
+        resetIdentityKey();
     }
 
+    /**
+     * Returns the price of the product in dollars. Prices are stored in cents, so getPriceInCents() should be
+     * preferred wherever prices are summed or compared.
+     */
     public double getPrice() {
-        return price;
+        return Money.toDollars(priceInCents);
     }
 
     /**
      * Sets the price of a product, which must be between 0.00 to 9999999999999.99
+     * The price is rounded to the nearest cent.
      *
      * @throws InvalidPriceException If specified price is out of range.
      */
     public void setPrice(double price) throws InvalidPriceException {
         double zeroDollars = 0.00;
-        double maxPrice = 9999999999999.99;
-        String name = getName();
-        if (price < zeroDollars || price > maxPrice) {
+        if (price < zeroDollars) {
+            logger.severe("Trigger InvalidPriceException()!");
+            throw new InvalidPriceException(getName());
+        }
+        setPriceInCents(Money.fromDollars(price));
+    }
+
+    /**
+     * Sets the price of a product in cents, which must be between 0 and 999999999999999 (0.00 to 9999999999999.99).
+     *
+     * @throws InvalidPriceException If specified price is out of range.
+     */
+    public void setPriceInCents(long priceInCents) throws InvalidPriceException {
+        if (!Money.isValid(priceInCents)) {
             logger.severe("Trigger InvalidPriceException()!");
-            throw new InvalidPriceException(name);
+            throw new InvalidPriceException(getName());
         }
-        this.price = price;
+        this.priceInCents = priceInCents;
+        resetIdentityKey();
+    }
+
+    /**
+     * Returns the exact price of the product in cents.
+     */
+    public long getPriceInCents() {
+        return priceInCents;
+    }
+
+    /**
+     * Returns a key which is equal for two Products if and only if they are equal. The key is computed once and
+     * cached until the name or price of the Product changes.
+     */
+    public String getIdentityKey() {
+        if (identityKey == null) {
+            identityKey = buildIdentityKey();
+        }
+        return identityKey;
+    }
+
+    /**
+     * Builds the identity key of the product from its name (ignoring case) and its price in cents.
+     */
+    protected String buildIdentityKey() {
+        return appendNameKey(new StringBuilder()).append(" | ").append(getPriceInCents()).toString();
+    }
+
+    /**
+     * Appends the name of the product (ignoring case) to identityKey, prefixed with its length. As the length tells
+     * where the name ends, a name containing the separators of the identity key cannot make two different products
+     * share the same key.
+     */
+    protected StringBuilder appendNameKey(StringBuilder identityKey) {
+        String nameKey = getName().toLowerCase(Locale.ROOT);
+        return identityKey.append(nameKey.length()).append(':').append(nameKey);
+    }
+
+    /**
+     * Discards the cached identity key, so that it is rebuilt on its next use.
+     */
+    protected void resetIdentityKey() {
+        identityKey = null;
+    }
+
+    /**
+     * Overrides the hashCode() method to be consistent with equals(), by hashing the cached identity key.
+     */
+    @Override
+    public int hashCode() {
+        return getIdentityKey().hashCode();
     }
 
     /**
      * Overrides the toString() method by formatting the Product as "name ($price)" where price is in 2d.p.
      */
     public String toString() {
-        String price = String.format("%.2f", getPrice());
-        return getName() + " ($" + price + ")";
+        StringBuilder stringBuilder = new StringBuilder(getName()).append(" ($");
+        return Money.appendTo(stringBuilder, priceInCents).append(')').toString();
     }
 }
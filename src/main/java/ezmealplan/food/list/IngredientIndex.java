@@ -0,0 +1,114 @@
+package ezmealplan.food.list;
+
+import ezmealplan.food.Ingredient;
+import ezmealplan.food.Meal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from the normalized name of each Ingredient to the meals which contain it.
+ * A search term matches every Ingredient whose name contains the term, so a term is answered by scanning the
+ * distinct Ingredient names, which are far fewer than the meals, and joining their posting sets.
+ */
+class IngredientIndex {
+    private final Map<String, Set<Meal>> postings = new HashMap<>();
+
+    void addMeal(Meal meal) {
+        for (Ingredient ingredient : meal.getIngredientList()) {
+            postings.computeIfAbsent(normalize(ingredient.getName()), name -> new HashSet<>()).add(meal);
+        }
+    }
+
+    void removeMeal(Meal meal) {
+        for (Ingredient ingredient : meal.getIngredientList()) {
+            String name = normalize(ingredient.getName());
+            Set<Meal> meals = postings.get(name);
+            if (meals != null) {
+                meals.remove(meal);
+                if (meals.isEmpty()) {
+                    postings.remove(name);
+                }
+            }
+        }
+    }
+
+    void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the meals which, for every term, have an Ingredient whose name contains that term (ignoring case).
+     * The posting sets of the terms are intersected from the smallest to the largest.
+     */
+    Set<Meal> findMeals(String[] terms) {
+        List<Set<Meal>> termMatches = new ArrayList<>(terms.length);
+        for (String term : terms) {
+            Set<Meal> matches = findMeals(normalize(term));
+            if (matches.isEmpty()) {
+                return Collections.emptySet();
+            }
+            termMatches.add(matches);
+        }
+        if (termMatches.isEmpty()) {
+            return Collections.emptySet();
+        }
+        termMatches.sort(Comparator.comparingInt(Set::size));
+        Set<Meal> result = new HashSet<>(termMatches.get(0));
+        for (int i = 1; i < termMatches.size() && !result.isEmpty(); i++) {
+            result.retainAll(termMatches.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Returns an upper bound of the number of meals findMeals(terms) would return, without joining any posting sets:
+     * the smallest, over all the terms, of the total size of the posting sets matching the term.
+     */
+    int estimateMeals(String[] terms) {
+        int estimate = Integer.MAX_VALUE;
+        for (String term : terms) {
+            String normalizedTerm = normalize(term);
+            int termEstimate = 0;
+            for (Map.Entry<String, Set<Meal>> posting : postings.entrySet()) {
+                if (posting.getKey().contains(normalizedTerm)) {
+                    termEstimate += posting.getValue().size();
+                }
+            }
+            estimate = Math.min(estimate, termEstimate);
+        }
+        return estimate;
+    }
+
+    private Set<Meal> findMeals(String term) {
+        Set<Meal> matches = null;
+        boolean isShared = false;
+        for (Map.Entry<String, Set<Meal>> posting : postings.entrySet()) {
+            if (!posting.getKey().contains(term)) {
+                continue;
+            }
+            if (matches == null) {
+                matches = posting.getValue();
+                isShared = true;
+            } else {
+                if (isShared) {
+                    matches = new HashSet<>(matches);
+                    isShared = false;
+                }
+                matches.addAll(posting.getValue());
+            }
+        }
+        return matches == null ? Collections.emptySet() : matches;
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+}
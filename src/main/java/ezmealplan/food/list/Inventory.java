@@ -3,19 +3,33 @@ package ezmealplan.food.list;
 import ezmealplan.exceptions.InventoryIngredientNotFound;
 import ezmealplan.exceptions.InventoryMultipleIngredientsException;
 import ezmealplan.food.Ingredient;
+import ezmealplan.food.IngredientIds;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 
 public class Inventory {
+    private static final Comparator<Ingredient> INGREDIENT_ORDER =
+            Comparator.comparing(Ingredient::getName, String.CASE_INSENSITIVE_ORDER)
+                    .thenComparingLong(Ingredient::getPriceInCents);
+
     private final HashMap<Ingredient, Integer> ingredients;
+    private final HashMap<String, List<Ingredient>> ingredientsByName;
     private final ArrayList<Ingredient> uniqueSortedIngredients;
+    private final BitSet ingredientIds = new BitSet();
+    private final List<InventoryObserver> observers = new ArrayList<>();
+    private boolean isSortedViewStale;
+    private int modificationCount;
 
     public Inventory() {
         ingredients = new HashMap<>();
+        ingredientsByName = new HashMap<>();
         uniqueSortedIngredients = new ArrayList<>();
+        isSortedViewStale = false;
     }
 
     /**
@@ -23,33 +37,83 @@ public class Inventory {
      * If an equal Ingredient already exists in the Inventory, then its quantity in the Inventory is increased.
      */
     public void addIngredient(Ingredient ingredient) {
-        if (isIngredientInInventory(ingredient)) {
-            Ingredient ingredientInInventory = getIngredientInInventory(ingredient);
-            ingredients.put(ingredientInInventory, ingredients.get(ingredientInInventory) + 1);
-        } else {
-            ingredients.put(ingredient, 1);
-            uniqueSortedIngredients.add(ingredient);
-            uniqueSortedIngredients.sort(Comparator.comparing(Ingredient::getName,String.CASE_INSENSITIVE_ORDER).
-                    thenComparing(Ingredient::getPrice));
-        }
+        addIngredient(ingredient, 1);
     }
 
     /**
      * Adds an Ingredient to the Inventory HashMap with a specified quantity.
      */
     public void addIngredient(Ingredient ingredient, int quantity) {
-        for (int i = 0; i < quantity; i++) {
-            addIngredient(ingredient);
+        if (quantity <= 0) {
+            return;
+        }
+        boolean isNewIngredient = !isIngredientInInventory(ingredient);
+        int newQuantity = ingredients.merge(ingredient, quantity, Integer::sum);
+        modificationCount++;
+        notifyQuantityChanged(ingredient, newQuantity);
+        if (isNewIngredient) {
+            addNameVariant(ingredient);
         }
     }
 
-    private boolean isIngredientInInventory(Ingredient ingredient) {
-        return uniqueSortedIngredients.contains(ingredient);
+    private void addNameVariant(Ingredient ingredient) {
+        String nameKey = getNameKey(ingredient.getName());
+        ingredientsByName.computeIfAbsent(nameKey, key -> new ArrayList<>(1)).add(ingredient);
+        int ingredientId = IngredientIds.getId(ingredient);
+        ingredientIds.set(ingredientId);
+        isSortedViewStale = true;
+        for (InventoryObserver observer : observers) {
+            observer.onIngredientGained(ingredientId);
+        }
+    }
+
+    private void removeNameVariant(Ingredient ingredient) {
+        String nameKey = getNameKey(ingredient.getName());
+        List<Ingredient> nameVariants = ingredientsByName.get(nameKey);
+        nameVariants.remove(ingredient);
+        if (nameVariants.isEmpty()) {
+            ingredientsByName.remove(nameKey);
+        }
+        int ingredientId = IngredientIds.getId(ingredient);
+        ingredientIds.clear(ingredientId);
+        isSortedViewStale = true;
+        for (InventoryObserver observer : observers) {
+            observer.onIngredientLost(ingredientId);
+        }
+    }
+
+    private void notifyQuantityChanged(Ingredient ingredient, int quantity) {
+        if (observers.isEmpty()) {
+            return;
+        }
+        int ingredientId = IngredientIds.getId(ingredient);
+        for (InventoryObserver observer : observers) {
+            observer.onQuantityChanged(ingredientId, quantity);
+        }
+    }
+
+    /**
+     * Registers an observer to be told whenever the quantity of an Ingredient changes, and whenever the Inventory
+     * gains an Ingredient or loses the last unit of one.
+     */
+    public void addObserver(InventoryObserver observer) {
+        observers.add(observer);
+    }
+
+    /**
+     * Returns the number of times the quantity of any Ingredient has changed. Two equal counts mean that the
+     * Inventory has not changed in between.
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    private static String getNameKey(String ingredientName) {
+        return ingredientName.toLowerCase(Locale.ROOT);
     }
 
-    private Ingredient getIngredientInInventory(Ingredient ingredient) {
-        int index = uniqueSortedIngredients.indexOf(ingredient);
-        return uniqueSortedIngredients.get(index);
+    private boolean isIngredientInInventory(Ingredient ingredient) {
+        return ingredients.containsKey(ingredient);
     }
 
     /**
@@ -64,18 +128,14 @@ public class Inventory {
      */
     public Ingredient removeIngredient(String ingredientNameToBeRemoved) throws InventoryMultipleIngredientsException,
             InventoryIngredientNotFound {
-        ArrayList<Ingredient> ingredientsToRemove = findIngredientsFromString(ingredientNameToBeRemoved);
+        List<Ingredient> ingredientsToRemove = findIngredientsFromString(ingredientNameToBeRemoved);
         if (hasMultipleIngredientsWithSameName(ingredientsToRemove)) {
-            throw new InventoryMultipleIngredientsException(ingredientsToRemove);
+            ArrayList<Ingredient> sortedIngredientsToRemove = new ArrayList<>(ingredientsToRemove);
+            sortedIngredientsToRemove.sort(INGREDIENT_ORDER);
+            throw new InventoryMultipleIngredientsException(sortedIngredientsToRemove);
         } else if (hasOnlyOneIngredient(ingredientsToRemove)) {
             Ingredient ingredientToBeRemoved = ingredientsToRemove.get(0);
-            int ingredientQuantity = ingredients.get(ingredientToBeRemoved);
-            if (ingredientQuantity > 1) {
-                ingredients.put(ingredientToBeRemoved, ingredientQuantity - 1);
-            } else {
-                ingredients.remove(ingredientToBeRemoved);
-                uniqueSortedIngredients.remove(ingredientToBeRemoved);
-            }
+            decreaseQuantity(ingredientToBeRemoved, 1);
             return ingredientToBeRemoved;
         } else {
             throw new InventoryIngredientNotFound(ingredientNameToBeRemoved);
@@ -90,46 +150,71 @@ public class Inventory {
      * @throws InventoryIngredientNotFound If the Ingredient is not found in the Inventory.
      */
     public void removeIngredient(Ingredient ingredient) throws InventoryIngredientNotFound {
-        if (uniqueSortedIngredients.contains(ingredient)) {
-            int indexOfIngredient = uniqueSortedIngredients.indexOf(ingredient);
-            Ingredient ingredientToBeRemoved = uniqueSortedIngredients.get(indexOfIngredient);
-            int ingredientQuantity = ingredients.get(ingredientToBeRemoved);
-            if (ingredientQuantity > 1) {
-                ingredients.put(ingredientToBeRemoved, ingredientQuantity - 1);
-            } else {
-                ingredients.remove(ingredientToBeRemoved);
-                uniqueSortedIngredients.remove(ingredientToBeRemoved);
-            }
+        removeIngredient(ingredient, 1);
+    }
+
+    /**
+     * Removes a specified quantity of an Ingredient from the Inventory HashMap in a single operation.
+     * If the quantity to remove is at least the quantity owned, then the Ingredient is removed entirely.
+     *
+     * @param ingredient An Ingredient object to be removed.
+     * @param quantity The quantity of the Ingredient to be removed.
+     * @throws InventoryIngredientNotFound If the Ingredient is not found in the Inventory.
+     */
+    public void removeIngredient(Ingredient ingredient, int quantity) throws InventoryIngredientNotFound {
+        if (isIngredientInInventory(ingredient)) {
+            decreaseQuantity(ingredient, quantity);
         } else {
             throw new InventoryIngredientNotFound(ingredient.toString());
         }
     }
 
-    private ArrayList<Ingredient> findIngredientsFromString(String ingredientString) {
-        ArrayList<Ingredient> ingredientsFound = new ArrayList<>();
-        for (Ingredient uniqueIngredient : uniqueSortedIngredients) {
-            if (uniqueIngredient.getName().equalsIgnoreCase(ingredientString)) {
-                ingredientsFound.add(uniqueIngredient);
-            }
+    private void decreaseQuantity(Ingredient ingredient, int quantity) {
+        int ingredientQuantity = ingredients.get(ingredient);
+        modificationCount++;
+        if (ingredientQuantity > quantity) {
+            ingredients.put(ingredient, ingredientQuantity - quantity);
+            notifyQuantityChanged(ingredient, ingredientQuantity - quantity);
+        } else {
+            ingredients.remove(ingredient);
+            notifyQuantityChanged(ingredient, 0);
+            removeNameVariant(ingredient);
         }
-        return ingredientsFound;
     }
 
-    private boolean hasMultipleIngredientsWithSameName(ArrayList<Ingredient> ingredients) {
+    private List<Ingredient> findIngredientsFromString(String ingredientString) {
+        return ingredientsByName.getOrDefault(getNameKey(ingredientString), List.of());
+    }
+
+    private boolean hasMultipleIngredientsWithSameName(List<Ingredient> ingredients) {
         return ingredients.size() > 1;
     }
 
-    private boolean hasOnlyOneIngredient(ArrayList<Ingredient> ingredients) {
+    private boolean hasOnlyOneIngredient(List<Ingredient> ingredients) {
         return ingredients.size() == 1;
     }
 
+    /**
+     * Returns the unique Ingredients sorted by name and then price, re-sorting them only if the Inventory has
+     * gained or lost an Ingredient since the last call.
+     */
+    private List<Ingredient> getSortedIngredients() {
+        if (isSortedViewStale) {
+            uniqueSortedIngredients.clear();
+            uniqueSortedIngredients.addAll(ingredients.keySet());
+            uniqueSortedIngredients.sort(INGREDIENT_ORDER);
+            isSortedViewStale = false;
+        }
+        return uniqueSortedIngredients;
+    }
+
     /**
      * Converts the Inventory and all its Ingredients to a String.
      */
     public String toString() {
         int count = 0;
         StringBuilder outputString = new StringBuilder();
-        for (Ingredient ingredient : uniqueSortedIngredients) {
+        for (Ingredient ingredient : getSortedIngredients()) {
             count++;
             outputString.append("    ");
             outputString.append(count);
@@ -147,28 +232,40 @@ public class Inventory {
      * The format used for each entry is "name | price | quantity".
      */
     public ArrayList<String> toDataArray() {
-        ArrayList<String> outputDataArray = new ArrayList<>();
-        for (Ingredient ingredient : uniqueSortedIngredients) {
+        List<Ingredient> sortedIngredients = getSortedIngredients();
+        ArrayList<String> outputDataArray = new ArrayList<>(sortedIngredients.size());
+        for (Ingredient ingredient : sortedIngredients) {
             outputDataArray.add(ingredient.toDataString() + " | " + getIngredientAmount(ingredient));
         }
         return outputDataArray;
     }
 
     /**
-     * Returns a List of unique Ingredient objects in the Inventory.
+     * Returns a List of unique Ingredient objects in the Inventory, sorted by name and then price.
      */
     public List<Ingredient> getUniqueIngredients() {
-        return uniqueSortedIngredients;
+        return new ArrayList<>(getSortedIngredients());
     }
 
     /**
      * Tests whether an Ingredient with the specified ingredientName exists in the Inventory.
      */
     public boolean hasIngredient(Ingredient ingredient) {
-        return uniqueSortedIngredients.contains(ingredient);
+        return isIngredientInInventory(ingredient);
     }
 
-    private int getIngredientAmount(Ingredient ingredient) {
+    /**
+     * Returns a copy of the set of IngredientIds of the Ingredients in the Inventory, so that many Ingredients can
+     * be checked against the Inventory with BitSet.get() instead of hashing each of them.
+     */
+    public BitSet getIngredientIds() {
+        return (BitSet) ingredientIds.clone();
+    }
+
+    /**
+     * Returns the quantity of the specified Ingredient in the Inventory, or 0 if it is not in the Inventory.
+     */
+    public int getIngredientAmount(Ingredient ingredient) {
         return ingredients.getOrDefault(ingredient, 0);
     }
 }
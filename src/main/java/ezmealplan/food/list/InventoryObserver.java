@@ -0,0 +1,22 @@
+package ezmealplan.food.list;
+
+/**
+ * Is told whenever the quantity of an Ingredient in the Inventory changes, and whenever the Inventory gains an
+ * Ingredient which it did not have or loses the last unit of one. Ingredients are identified by their IngredientIds.
+ */
+public interface InventoryObserver {
+    /**
+     * Called after the quantity of the Ingredient in the Inventory changes, before it is reported as gained or lost.
+     */
+    void onQuantityChanged(int ingredientId, int quantity);
+
+    /**
+     * Called after the first unit of the Ingredient is added to the Inventory.
+     */
+    void onIngredientGained(int ingredientId);
+
+    /**
+     * Called after the last unit of the Ingredient is removed from the Inventory.
+     */
+    void onIngredientLost(int ingredientId);
+}
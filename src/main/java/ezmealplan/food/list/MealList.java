@@ -6,38 +6,165 @@ import ezmealplan.exceptions.MealNotFoundException;
 import ezmealplan.exceptions.RemoveIndexOutOfRangeException;
 import ezmealplan.food.Meal;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 public abstract class MealList {
+    protected static final Comparator<Meal> MEAL_ORDER =
+            Comparator.comparing(Meal::getName, String.CASE_INSENSITIVE_ORDER)
+                    .thenComparingLong(Meal::getPriceInCents);
+
+    private static final int NOT_FOUND = -1;
+    private static final int SCAN_RATIO = 8;
+
     protected final List<Meal> mealList = new ArrayList<>();
     protected String mealListName;
+    private final Set<Meal> mealIndex = new HashSet<>();
+    private final List<Meal> mealListView = new MealListView();
+    private final List<MealListObserver> observers = new ArrayList<>();
+    private int modificationCount;
 
+    /**
+     * Returns the meals in sorted order. Changes made through the returned List are reflected in this MealList,
+     * and any Meal added through it is placed at its sorted position.
+     */
     public List<Meal> getList() {
-        return mealList;
+        return mealListView;
     }
 
     public String getMealListName() {
         return mealListName;
     }
 
-    // Adds a new meal to the specified list after checking for duplicates
+    /**
+     * Registers an observer to be told whenever meals are added to or removed from the list.
+     */
+    public void addObserver(MealListObserver observer) {
+        observers.add(observer);
+    }
+
+    /**
+     * Returns the number of times meals have been added to or removed from the list. Two equal counts mean that
+     * the list has not changed in between.
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Adds a new meal to the list after checking for duplicates.
+     * The meal is inserted at its sorted position, found by binary search.
+     *
+     * @throws DuplicateMealException If an equal Meal already exists in the list.
+     */
     public void addMeal(Meal newMeal) throws DuplicateMealException {
         checkDuplicateMeal(newMeal);
-        mealList.add(newMeal);
-        mealList.sort(Comparator.comparing(Meal::getName,String.CASE_INSENSITIVE_ORDER).thenComparing(Meal::getPrice));
+        insertSorted(newMeal);
+    }
+
+    /**
+     * Adds every meal in newMeals to the list, merging them into it only once at the end.
+     * Meals that duplicate an existing meal (or an earlier meal in newMeals) are skipped. Observers are told about
+     * the added meals, in the order they were given, only once they are all in the list.
+     *
+     * @return The exceptions for the skipped meals, in the order the meals were given.
+     */
+    public List<DuplicateMealException> addAll(Collection<Meal> newMeals) {
+        List<DuplicateMealException> skippedMeals = new ArrayList<>();
+        List<Meal> addedMeals = new ArrayList<>(newMeals.size());
+        for (Meal newMeal : newMeals) {
+            try {
+                checkDuplicateMeal(newMeal);
+                mealIndex.add(newMeal);
+                addedMeals.add(newMeal);
+            } catch (DuplicateMealException duplicateMealException) {
+                skippedMeals.add(duplicateMealException);
+            }
+        }
+        if (!addedMeals.isEmpty()) {
+            List<Meal> sortedMeals = new ArrayList<>(addedMeals);
+            sortedMeals.sort(MEAL_ORDER);
+            mergeSorted(sortedMeals);
+            modificationCount++;
+        }
+        for (Meal addedMeal : addedMeals) {
+            notifyMealAdded(addedMeal);
+        }
+        return skippedMeals;
+    }
+
+    /**
+     * Merges the sorted addedMeals into the list in a single pass. A meal which compares equal to one already in
+     * the list is placed after it, as with addMeal.
+     */
+    private void mergeSorted(List<Meal> addedMeals) {
+        List<Meal> mergedMeals = new ArrayList<>(mealList.size() + addedMeals.size());
+        int existingIndex = 0;
+        int addedIndex = 0;
+        while (existingIndex < mealList.size() && addedIndex < addedMeals.size()) {
+            Meal existingMeal = mealList.get(existingIndex);
+            Meal addedMeal = addedMeals.get(addedIndex);
+            if (MEAL_ORDER.compare(existingMeal, addedMeal) <= 0) {
+                mergedMeals.add(existingMeal);
+                existingIndex++;
+            } else {
+                mergedMeals.add(addedMeal);
+                addedIndex++;
+            }
+        }
+        mergedMeals.addAll(mealList.subList(existingIndex, mealList.size()));
+        mergedMeals.addAll(addedMeals.subList(addedIndex, addedMeals.size()));
+        mealList.clear();
+        mealList.addAll(mergedMeals);
     }
 
     /**
      * Checks whether newMeal already exists in the mealList.
      */
     private void checkDuplicateMeal(Meal newMeal) throws DuplicateMealException {
-        for (Meal meal : mealList) {
-            if (meal.equals(newMeal)) {
-                throw new DuplicateMealException(newMeal.getName(), mealListName);
+        if (contains(newMeal)) {
+            throw new DuplicateMealException(newMeal.getName(), mealListName);
+        }
+    }
+
+    private void insertSorted(Meal newMeal) {
+        mealIndex.add(newMeal);
+        mealList.add(findInsertionIndex(newMeal), newMeal);
+        modificationCount++;
+        notifyMealAdded(newMeal);
+    }
+
+    /**
+     * Returns the index after the last meal that is not ordered after newMeal, so that meals which compare equal
+     * keep their insertion order.
+     */
+    private int findInsertionIndex(Meal newMeal) {
+        return findBoundary(newMeal, true);
+    }
+
+    /**
+     * Binary searches for the first index whose meal is ordered after meal, or at or after meal if isAfterEqual
+     * is false.
+     */
+    private int findBoundary(Meal meal, boolean isAfterEqual) {
+        int low = 0;
+        int high = mealList.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int comparison = MEAL_ORDER.compare(mealList.get(middle), meal);
+            if (comparison < 0 || (isAfterEqual && comparison == 0)) {
+                low = middle + 1;
+            } else {
+                high = middle;
             }
         }
+        return low;
     }
 
     /**
@@ -48,13 +175,98 @@ public abstract class MealList {
             throw new EmptyListException(mealListName);
         }
         try {
-            return mealList.remove(index);
+            return removeAt(index);
         } catch (IndexOutOfBoundsException indexOutOfBoundsException) {
             int indexAdjustment = 1;
             throw new RemoveIndexOutOfRangeException(index + indexAdjustment, mealList.size());
         }
     }
 
+    private Meal removeAt(int index) {
+        Meal removedMeal = mealList.remove(index);
+        modificationCount++;
+        notifyMealRemoved(removedMeal);
+        return removedMeal;
+    }
+
+    /**
+     * Removes the meals at the specified indexes (starting from 0) and returns them in the order of the list.
+     * The remaining meals are moved up in a single pass over the list, instead of shifting the rest of the list
+     * once for every removed meal, and the list is only counted as modified once.
+     *
+     * @throws EmptyListException If the list is empty.
+     * @throws RemoveIndexOutOfRangeException If an index is not in the list.
+     */
+    public List<Meal> removeMeals(BitSet indexes) throws EmptyListException, RemoveIndexOutOfRangeException {
+        if (mealList.isEmpty()) {
+            throw new EmptyListException(mealListName);
+        }
+        if (indexes.length() > mealList.size()) {
+            throw new RemoveIndexOutOfRangeException(indexes.length(), mealList.size());
+        }
+        List<Meal> removedMeals = new ArrayList<>(indexes.cardinality());
+        int keptCount = 0;
+        for (int i = 0; i < mealList.size(); i++) {
+            Meal meal = mealList.get(i);
+            if (indexes.get(i)) {
+                removedMeals.add(meal);
+            } else {
+                mealList.set(keptCount++, meal);
+            }
+        }
+        mealList.subList(keptCount, mealList.size()).clear();
+        if (!removedMeals.isEmpty()) {
+            modificationCount++;
+        }
+        for (Meal removedMeal : removedMeals) {
+            notifyMealRemoved(removedMeal);
+        }
+        return removedMeals;
+    }
+
+    private void notifyMealRemoved(Meal meal) {
+        mealIndex.remove(meal);
+        onMealRemoved(meal);
+        for (MealListObserver observer : observers) {
+            observer.onMealRemoved(meal);
+        }
+    }
+
+    private void clearMeals() {
+        mealList.clear();
+        mealIndex.clear();
+        modificationCount++;
+        onMealsCleared();
+        for (MealListObserver observer : observers) {
+            observer.onMealsCleared();
+        }
+    }
+
+    private void notifyMealAdded(Meal meal) {
+        onMealAdded(meal);
+        for (MealListObserver observer : observers) {
+            observer.onMealAdded(meal);
+        }
+    }
+
+    /**
+     * Called after a meal is added to the list, so that subclasses can keep their own indexes up to date.
+     */
+    protected void onMealAdded(Meal meal) {
+    }
+
+    /**
+     * Called after a meal is removed from the list, so that subclasses can keep their own indexes up to date.
+     */
+    protected void onMealRemoved(Meal meal) {
+    }
+
+    /**
+     * Called after every meal is removed from the list, so that subclasses can keep their own indexes up to date.
+     */
+    protected void onMealsCleared() {
+    }
+
     /**
      * Returns the size of the meal list.
      */
@@ -68,17 +280,94 @@ public abstract class MealList {
      * @throws MealNotFoundException if the specified meal cannot be found.
      */
     public int getIndex(Meal meal) throws MealNotFoundException {
-        int index = mealList.indexOf(meal);
-        if (index == -1) {
+        int index = indexOf(meal);
+        if (index == NOT_FOUND) {
             throw new MealNotFoundException(meal);
-        } else {
-            return index;
         }
+        return index;
+    }
+
+    private int indexOf(Meal meal) {
+        if (contains(meal)) {
+            int endIndex = findBoundary(meal, true);
+            for (int index = findBoundary(meal, false); index < endIndex; index++) {
+                if (mealList.get(index).equals(meal)) {
+                    return index;
+                }
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Returns the meals of this list which are in matches, in the order of this list.
+     * A large set of matches is collected by scanning the list, and a small one is sorted instead.
+     */
+    protected List<Meal> toListOrder(Set<Meal> matches) {
+        if ((long) matches.size() * SCAN_RATIO >= mealList.size()) {
+            List<Meal> orderedMatches = new ArrayList<>(matches.size());
+            for (Meal meal : mealList) {
+                if (matches.contains(meal)) {
+                    orderedMatches.add(meal);
+                }
+            }
+            return orderedMatches;
+        }
+        List<Meal> orderedMatches = new ArrayList<>(matches);
+        orderedMatches.sort(MEAL_ORDER.thenComparingInt(this::indexOf));
+        return orderedMatches;
     }
 
     public boolean contains(Meal meal) {
-        return mealList.contains(meal);
+        return mealIndex.contains(meal);
     }
-}
 
+    /**
+     * A List view of the meals which keeps the duplicate index up to date when it is modified directly.
+     * Meals can only be added at their sorted position, so adding a meal at a given index is not supported.
+     */
+    private class MealListView extends AbstractList<Meal> {
+        @Override
+        public Meal get(int index) {
+            return mealList.get(index);
+        }
 
+        @Override
+        public int size() {
+            return mealList.size();
+        }
+
+        /**
+         * Adds the meal at its sorted position, unless an equal Meal is already in the list.
+         *
+         * @return False if the meal was not added because it is a duplicate.
+         */
+        @Override
+        public boolean add(Meal meal) {
+            if (contains(meal)) {
+                return false;
+            }
+            insertSorted(meal);
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public void add(int index, Meal meal) {
+            throw new UnsupportedOperationException("Meals can only be added at their sorted position.");
+        }
+
+        @Override
+        public Meal remove(int index) {
+            Meal removedMeal = removeAt(index);
+            modCount++;
+            return removedMeal;
+        }
+
+        @Override
+        public void clear() {
+            clearMeals();
+            modCount++;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package ezmealplan.food.list;
+
+import ezmealplan.food.Meal;
+
+/**
+ * Is told whenever Meals are added to or removed from a MealList, including changes made through its List view.
+ */
+public interface MealListObserver {
+    /**
+     * Called after the Meal is added to the MealList.
+     */
+    void onMealAdded(Meal meal);
+
+    /**
+     * Called after the Meal is removed from the MealList.
+     */
+    void onMealRemoved(Meal meal);
+
+    /**
+     * Called after every Meal is removed from the MealList at once.
+     */
+    void onMealsCleared();
+}
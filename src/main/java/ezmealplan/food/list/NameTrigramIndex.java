@@ -0,0 +1,98 @@
+package ezmealplan.food.list;
+
+import ezmealplan.food.Meal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index from every sequence of three consecutive characters (trigram) in the normalized name of a meal to the
+ * meals whose name contains it.
+ * A meal name can only contain a search term if it contains every trigram of the term, so the meals sharing all the
+ * trigrams of a term are the only candidates that need to be checked with String.contains.
+ */
+class NameTrigramIndex {
+    static final int TRIGRAM_LENGTH = 3;
+    private final Map<Long, Set<Meal>> postings = new HashMap<>();
+
+    void addMeal(Meal meal) {
+        for (long trigram : getTrigrams(normalize(meal.getName()))) {
+            postings.computeIfAbsent(trigram, key -> new HashSet<>()).add(meal);
+        }
+    }
+
+    void removeMeal(Meal meal) {
+        for (long trigram : getTrigrams(normalize(meal.getName()))) {
+            Set<Meal> meals = postings.get(trigram);
+            if (meals != null) {
+                meals.remove(meal);
+                if (meals.isEmpty()) {
+                    postings.remove(trigram);
+                }
+            }
+        }
+    }
+
+    void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the meals which may contain the normalized term in their name: those which contain every trigram of
+     * the term. The term must have at least TRIGRAM_LENGTH characters.
+     */
+    Set<Meal> findCandidates(String normalizedTerm) {
+        assert normalizedTerm.length() >= TRIGRAM_LENGTH;
+        List<Set<Meal>> trigramMatches = new ArrayList<>();
+        for (long trigram : getTrigrams(normalizedTerm)) {
+            Set<Meal> meals = postings.get(trigram);
+            if (meals == null) {
+                return Collections.emptySet();
+            }
+            trigramMatches.add(meals);
+        }
+        trigramMatches.sort(Comparator.comparingInt(Set::size));
+        Set<Meal> candidates = new HashSet<>(trigramMatches.get(0));
+        for (int i = 1; i < trigramMatches.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(trigramMatches.get(i));
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns an upper bound of the number of candidates for the normalized term: the size of the smallest posting
+     * set among the trigrams of the term. The term must have at least TRIGRAM_LENGTH characters.
+     */
+    int estimateCandidates(String normalizedTerm) {
+        assert normalizedTerm.length() >= TRIGRAM_LENGTH;
+        int estimate = Integer.MAX_VALUE;
+        for (long trigram : getTrigrams(normalizedTerm)) {
+            Set<Meal> meals = postings.get(trigram);
+            estimate = Math.min(estimate, meals == null ? 0 : meals.size());
+        }
+        return estimate;
+    }
+
+    static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the distinct trigrams of text, each packed into a long as three 16-bit characters.
+     */
+    private static Set<Long> getTrigrams(String text) {
+        Set<Long> trigrams = new HashSet<>();
+        for (int i = 0; i + TRIGRAM_LENGTH <= text.length(); i++) {
+            long trigram = ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+            trigrams.add(trigram);
+        }
+        return trigrams;
+    }
+}
@@ -1,7 +1,185 @@
 package ezmealplan.food.list;
 
+import ezmealplan.food.Meal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
 public class RecipesList extends MealList {
+    private final IngredientIndex ingredientIndex = new IngredientIndex();
+    private final NameTrigramIndex nameTrigramIndex = new NameTrigramIndex();
+    private final TreeMap<Long, Set<Meal>> priceIndex = new TreeMap<>();
+
     public RecipesList() {
         this.mealListName = "recipes list";
     }
+
+    /**
+     * Returns the meals which, for every term, have an Ingredient whose name contains that term (ignoring case),
+     * in the order of the list.
+     */
+    public List<Meal> findMealsWithIngredients(String[] terms) {
+        if (terms.length == 0) {
+            return new ArrayList<>(mealList);
+        }
+        Set<Meal> matches = ingredientIndex.findMeals(terms);
+        return toListOrder(matches);
+    }
+
+    /**
+     * Returns the meals whose name contains every term (ignoring case), in the order of the list.
+     * The candidates are narrowed down with the trigram index using the terms of at least 3 characters, and then
+     * checked against every term. If every term is shorter than that, the whole list is scanned instead.
+     */
+    public List<Meal> findMealsWithName(String[] terms) {
+        String[] normalizedTerms = new String[terms.length];
+        Set<Meal> candidates = null;
+        for (int i = 0; i < terms.length; i++) {
+            normalizedTerms[i] = NameTrigramIndex.normalize(terms[i]);
+            if (normalizedTerms[i].length() < NameTrigramIndex.TRIGRAM_LENGTH) {
+                continue;
+            }
+            Set<Meal> termCandidates = nameTrigramIndex.findCandidates(normalizedTerms[i]);
+            if (candidates == null) {
+                candidates = termCandidates;
+            } else {
+                candidates.retainAll(termCandidates);
+            }
+        }
+        Collection<Meal> mealsToCheck = candidates == null ? mealList : candidates;
+        Set<Meal> matches = new HashSet<>();
+        for (Meal meal : mealsToCheck) {
+            if (isNameContainingAll(meal, normalizedTerms)) {
+                matches.add(meal);
+            }
+        }
+        return toListOrder(matches);
+    }
+
+    /**
+     * Returns the meals whose price in cents is between minCents and maxCents (both inclusive), in the order of the
+     * list. If minCents is greater than maxCents, no meals are returned.
+     */
+    public List<Meal> findMealsInPriceRange(long minCents, long maxCents) {
+        if (minCents > maxCents) {
+            return new ArrayList<>();
+        }
+        Set<Meal> matches = new HashSet<>();
+        for (Set<Meal> meals : priceIndex.subMap(minCents, true, maxCents, true).values()) {
+            matches.addAll(meals);
+        }
+        return toListOrder(matches);
+    }
+
+    /**
+     * Returns a lazy Stream of the meals whose price in cents is between minCents and maxCents (both inclusive),
+     * from the cheapest to the most expensive. Meals of the same price are in the order of the list. Only the price
+     * groups up to the last meal consumed are visited, but each of them is put in the order of the list when it is
+     * reached, which sorts a small group of g meals in O(g log g log n) and scans the whole list for a large one.
+     */
+    public Stream<Meal> streamMealsByPrice(long minCents, long maxCents) {
+        if (minCents > maxCents) {
+            return Stream.empty();
+        }
+        return priceIndex.subMap(minCents, true, maxCents, true).values().stream()
+                .flatMap(meals -> toListOrder(meals).stream());
+    }
+
+    private void addToPriceIndex(Meal meal) {
+        priceIndex.computeIfAbsent(meal.getPriceInCents(), price -> new HashSet<>()).add(meal);
+    }
+
+    private void removeFromPriceIndex(Meal meal) {
+        long priceInCents = meal.getPriceInCents();
+        Set<Meal> meals = priceIndex.get(priceInCents);
+        if (meals != null) {
+            meals.remove(meal);
+            if (meals.isEmpty()) {
+                priceIndex.remove(priceInCents);
+            }
+        }
+    }
+
+    /**
+     * Returns an upper bound of the number of meals findMealsWithIngredients(terms) would return, computed from the
+     * sizes of the index entries only.
+     */
+    public int estimateMealsWithIngredients(String[] terms) {
+        if (terms.length == 0) {
+            return mealList.size();
+        }
+        return Math.min(ingredientIndex.estimateMeals(terms), mealList.size());
+    }
+
+    /**
+     * Returns an upper bound of the number of meals findMealsWithName(terms) would return, computed from the sizes
+     * of the trigram index entries only. If every term is shorter than a trigram, the size of the list is returned.
+     */
+    public int estimateMealsWithName(String[] terms) {
+        int estimate = mealList.size();
+        for (String term : terms) {
+            String normalizedTerm = NameTrigramIndex.normalize(term);
+            if (normalizedTerm.length() >= NameTrigramIndex.TRIGRAM_LENGTH) {
+                estimate = Math.min(estimate, nameTrigramIndex.estimateCandidates(normalizedTerm));
+            }
+        }
+        return estimate;
+    }
+
+    /**
+     * Returns the number of meals whose price in cents is between minCents and maxCents (both inclusive).
+     */
+    public int countMealsInPriceRange(long minCents, long maxCents) {
+        if (minCents > maxCents) {
+            return 0;
+        }
+        int count = 0;
+        for (Set<Meal> meals : priceIndex.subMap(minCents, true, maxCents, true).values()) {
+            count += meals.size();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the meals of this list which are in meals, in the order of the list.
+     */
+    public List<Meal> inListOrder(Set<Meal> meals) {
+        return toListOrder(meals);
+    }
+
+    private static boolean isNameContainingAll(Meal meal, String[] normalizedTerms) {
+        String mealName = NameTrigramIndex.normalize(meal.getName());
+        for (String normalizedTerm : normalizedTerms) {
+            if (!mealName.contains(normalizedTerm)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected void onMealAdded(Meal meal) {
+        ingredientIndex.addMeal(meal);
+        nameTrigramIndex.addMeal(meal);
+        addToPriceIndex(meal);
+    }
+
+    @Override
+    protected void onMealRemoved(Meal meal) {
+        ingredientIndex.removeMeal(meal);
+        nameTrigramIndex.removeMeal(meal);
+        removeFromPriceIndex(meal);
+    }
+
+    @Override
+    protected void onMealsCleared() {
+        ingredientIndex.clear();
+        nameTrigramIndex.clear();
+        priceIndex.clear();
+    }
 }
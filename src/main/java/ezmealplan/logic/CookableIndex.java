@@ -0,0 +1,113 @@
+package ezmealplan.logic;
+
+import ezmealplan.food.Meal;
+import ezmealplan.food.list.Inventory;
+import ezmealplan.food.list.InventoryObserver;
+import ezmealplan.food.list.MealList;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Keeps track of the Meals of a MealList which can be cooked with the Ingredients in the Inventory.
+ * Every Meal has a count of its Ingredients missing from the Inventory, and a reverse index from every
+ * IngredientId to the Meals using it. When the Inventory gains or loses an Ingredient, only the counts of the Meals
+ * using it are updated, and a Meal is cookable while its count is 0.
+ * The Meals are identified by their index in the MealList, so the index is rebuilt from the Inventory the next time
+ * it is read after the MealList has changed.
+ */
+public class CookableIndex implements InventoryObserver {
+    private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
+    private static final int NOT_BUILT = -1;
+    private final MealList mealList;
+    private final Inventory inventory;
+    private final Map<Integer, List<Integer>> mealIndexesByIngredient = new HashMap<>();
+    private final BitSet cookableMealIndexes = new BitSet();
+    private int[] missingCounts = new int[0];
+    private int builtModificationCount = NOT_BUILT;
+
+    public CookableIndex(MealList mealList, Inventory inventory) {
+        this.mealList = mealList;
+        this.inventory = inventory;
+        inventory.addObserver(this);
+    }
+
+    /**
+     * Returns the indexes in the MealList (starting from 0) of the Meals whose Ingredients are all in the
+     * Inventory, in increasing order. Unless the MealList has changed since the last call, only the cookable Meals
+     * are visited.
+     */
+    public List<Integer> getCookableMealIndexes() {
+        if (isStale()) {
+            rebuild();
+        }
+        List<Integer> mealIndexes = new ArrayList<>(cookableMealIndexes.cardinality());
+        for (int i = cookableMealIndexes.nextSetBit(0); i >= 0; i = cookableMealIndexes.nextSetBit(i + 1)) {
+            mealIndexes.add(i);
+        }
+        return mealIndexes;
+    }
+
+    @Override
+    public void onQuantityChanged(int ingredientId, int quantity) {
+        // Only whether an Ingredient is in the Inventory matters, which is reported as it is gained or lost.
+    }
+
+    @Override
+    public void onIngredientGained(int ingredientId) {
+        if (isStale()) {
+            return;
+        }
+        for (int mealIndex : mealIndexesByIngredient.getOrDefault(ingredientId, List.of())) {
+            missingCounts[mealIndex]--;
+            if (missingCounts[mealIndex] == 0) {
+                cookableMealIndexes.set(mealIndex);
+            }
+        }
+    }
+
+    @Override
+    public void onIngredientLost(int ingredientId) {
+        if (isStale()) {
+            return;
+        }
+        for (int mealIndex : mealIndexesByIngredient.getOrDefault(ingredientId, List.of())) {
+            if (missingCounts[mealIndex] == 0) {
+                cookableMealIndexes.clear(mealIndex);
+            }
+            missingCounts[mealIndex]++;
+        }
+    }
+
+    private boolean isStale() {
+        return builtModificationCount != mealList.getModificationCount();
+    }
+
+    /**
+     * Counts the missing Ingredients of every Meal of the MealList and indexes the Meals by their Ingredients.
+     */
+    private void rebuild() {
+        List<Meal> meals = mealList.getList();
+        BitSet ownedIngredientIds = inventory.getIngredientIds();
+        mealIndexesByIngredient.clear();
+        cookableMealIndexes.clear();
+        missingCounts = new int[meals.size()];
+        for (int mealIndex = 0; mealIndex < meals.size(); mealIndex++) {
+            for (int ingredientId : meals.get(mealIndex).getIngredientIds()) {
+                mealIndexesByIngredient.computeIfAbsent(ingredientId, key -> new ArrayList<>()).add(mealIndex);
+                if (!ownedIngredientIds.get(ingredientId)) {
+                    missingCounts[mealIndex]++;
+                }
+            }
+            if (missingCounts[mealIndex] == 0) {
+                cookableMealIndexes.set(mealIndex);
+            }
+        }
+        builtModificationCount = mealList.getModificationCount();
+        logger.fine("Rebuilt the cookable index of " + meals.size() + " meals in " + mealList.getMealListName());
+    }
+}
@@ -0,0 +1,127 @@
+package ezmealplan.logic;
+
+import ezmealplan.food.Ingredient;
+import ezmealplan.food.Meal;
+import ezmealplan.food.list.Inventory;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Ranks Meals by how much of them is covered by the Inventory. A Meal ranks higher if a larger fraction of its
+ * Ingredients is on hand, then if less has to be spent on its missing Ingredients, and then if it comes earlier in
+ * the list of candidates.
+ * The Inventory is read once as a BitSet of IngredientIds, and every Meal is checked by looking up its cached
+ * IngredientIds in it, so no Ingredient is hashed while ranking.
+ */
+public class CoverageRanker {
+    private final BitSet ownedIngredientIds;
+
+    public CoverageRanker(Inventory inventory) {
+        ownedIngredientIds = inventory.getIngredientIds();
+    }
+
+    /**
+     * Returns the count best covered Meals of the candidates, from the best covered. Only the best count Meals
+     * seen so far are kept while ranking, and a Meal which does not beat the worst of them is not kept at all.
+     */
+    public List<MealCoverage> rank(List<Meal> candidates, int count) {
+        assert count > 0 : "At least one meal must be ranked";
+        PriorityQueue<RankedCoverage> bestCoverages = new PriorityQueue<>(Collections.reverseOrder());
+        for (int i = 0; i < candidates.size(); i++) {
+            Meal meal = candidates.get(i);
+            if (bestCoverages.size() == count) {
+                if (!isBetter(meal, bestCoverages.peek())) {
+                    continue;
+                }
+                bestCoverages.poll();
+            }
+            bestCoverages.add(new RankedCoverage(getCoverage(meal), i));
+        }
+        List<RankedCoverage> rankedCoverages = new ArrayList<>(bestCoverages);
+        Collections.sort(rankedCoverages);
+        List<MealCoverage> coverages = new ArrayList<>(rankedCoverages.size());
+        for (RankedCoverage rankedCoverage : rankedCoverages) {
+            coverages.add(rankedCoverage.coverage);
+        }
+        return coverages;
+    }
+
+    /**
+     * Returns true if the Meal, which comes after the ranked one among the candidates, ranks before it. Only the
+     * Ingredients on hand are counted unless the fractions of the two Meals are equal.
+     */
+    private boolean isBetter(Meal meal, RankedCoverage ranked) {
+        int ingredientCount = meal.getIngredientIds().length;
+        int ownedCount = 0;
+        for (int ingredientId : meal.getIngredientIds()) {
+            if (ownedIngredientIds.get(ingredientId)) {
+                ownedCount++;
+            }
+        }
+        // A Meal without any Ingredients is fully covered.
+        long fractionDifference = ingredientCount == 0 ? ranked.ingredientCount - ranked.ownedCount
+                : ownedCount * ranked.ingredientCount - ranked.ownedCount * ingredientCount;
+        if (fractionDifference != 0) {
+            return fractionDifference > 0;
+        }
+        return getCoverage(meal).getMissingCents() < ranked.coverage.getMissingCents();
+    }
+
+    /**
+     * Returns how much of the Meal is covered by the Inventory.
+     */
+    public MealCoverage getCoverage(Meal meal) {
+        int[] ingredientIds = meal.getIngredientIds();
+        List<Ingredient> ingredients = meal.getIngredientList();
+        int ownedCount = 0;
+        long ownedCents = 0;
+        for (int i = 0; i < ingredientIds.length; i++) {
+            if (ownedIngredientIds.get(ingredientIds[i])) {
+                ownedCount++;
+                ownedCents += ingredients.get(i).getPriceInCents();
+            }
+        }
+        return new MealCoverage(meal, ownedCount, ownedCents, ownedIngredientIds);
+    }
+
+    /**
+     * A MealCoverage with the index of its Meal among the candidates, ordered from the best covered.
+     */
+    private static class RankedCoverage implements Comparable<RankedCoverage> {
+        private final MealCoverage coverage;
+        private final int candidateIndex;
+        private final long ownedCount;
+        private final long ingredientCount;
+
+        RankedCoverage(MealCoverage coverage, int candidateIndex) {
+            this.coverage = coverage;
+            this.candidateIndex = candidateIndex;
+            // A Meal without any Ingredients is fully covered.
+            boolean hasIngredients = coverage.getIngredientCount() > 0;
+            ownedCount = hasIngredients ? coverage.getOwnedCount() : 1;
+            ingredientCount = hasIngredients ? coverage.getIngredientCount() : 1;
+        }
+
+        /**
+         * Compares the fractions of Ingredients on hand exactly by cross-multiplying them, and then the missing
+         * spend and the index among the candidates.
+         */
+        @Override
+        public int compareTo(RankedCoverage other) {
+            int fractionComparison = Long.compare(other.ownedCount * ingredientCount,
+                    ownedCount * other.ingredientCount);
+            if (fractionComparison != 0) {
+                return fractionComparison;
+            }
+            int spendComparison = Long.compare(coverage.getMissingCents(), other.coverage.getMissingCents());
+            if (spendComparison != 0) {
+                return spendComparison;
+            }
+            return Integer.compare(candidateIndex, other.candidateIndex);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package ezmealplan.logic;
+
+import ezmealplan.food.Ingredient;
+import ezmealplan.food.Meal;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * How much of a Meal is covered by the Ingredients in the Inventory: the number and total price of the Ingredients
+ * already on hand, and the estimated spend on the Ingredients still missing.
+ */
+public class MealCoverage {
+    private static final int PERCENT = 100;
+    private final Meal meal;
+    private final int ownedCount;
+    private final long ownedCents;
+    private final BitSet ownedIngredientIds;
+
+    /**
+     * Creates the coverage of a Meal, where ownedIngredientIds are the IngredientIds of the Inventory.
+     */
+    public MealCoverage(Meal meal, int ownedCount, long ownedCents, BitSet ownedIngredientIds) {
+        this.meal = meal;
+        this.ownedCount = ownedCount;
+        this.ownedCents = ownedCents;
+        this.ownedIngredientIds = ownedIngredientIds;
+    }
+
+    public Meal getMeal() {
+        return meal;
+    }
+
+    public int getOwnedCount() {
+        return ownedCount;
+    }
+
+    public int getIngredientCount() {
+        return meal.getIngredientList().size();
+    }
+
+    /**
+     * Returns the total price in cents of the Ingredients already on hand.
+     */
+    public long getOwnedCents() {
+        return ownedCents;
+    }
+
+    /**
+     * Returns the estimated spend in cents on the Ingredients still missing.
+     */
+    public long getMissingCents() {
+        return meal.getPriceInCents() - ownedCents;
+    }
+
+    /**
+     * Returns the Ingredients of the Meal which are not on hand, in the order of the Meal.
+     */
+    public List<Ingredient> getMissingIngredients() {
+        List<Ingredient> ingredients = meal.getIngredientList();
+        int[] ingredientIds = meal.getIngredientIds();
+        List<Ingredient> missingIngredients = new ArrayList<>(ingredients.size() - ownedCount);
+        for (int i = 0; i < ingredientIds.length; i++) {
+            if (!ownedIngredientIds.get(ingredientIds[i])) {
+                missingIngredients.add(ingredients.get(i));
+            }
+        }
+        return missingIngredients;
+    }
+
+    /**
+     * Returns the percentage of the Ingredients of the Meal which are on hand, rounded down. A Meal without any
+     * Ingredients is fully covered.
+     */
+    public int getCoveragePercent() {
+        int ingredientCount = getIngredientCount();
+        return ingredientCount == 0 ? PERCENT : ownedCount * PERCENT / ingredientCount;
+    }
+}
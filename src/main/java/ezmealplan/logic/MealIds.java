@@ -0,0 +1,124 @@
+package ezmealplan.logic;
+
+import ezmealplan.food.Meal;
+import ezmealplan.food.list.MealList;
+import ezmealplan.food.list.MealListObserver;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Gives every Meal of the Recipes List a stable numeric ID, which does not change as other Meals are added and
+ * removed, and maps the IDs back to their Meals.
+ * A Meal is given the next unused ID when it is added, and its ID is dropped when it is removed, so that IDs are
+ * never reused. Equal Meals share the same ID, so a Meal in the wishlist has the ID of its copy in the Recipes List.
+ * The IDs are assigned in the order the Meals are added, so replaying the same changes over the same lists gives
+ * the same IDs.
+ */
+public class MealIds implements MealListObserver {
+    private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
+    public static final int NO_ID = 0;
+    public static final String ID_SEPARATOR = " ";
+    private final MealList mealList;
+    private final Map<Integer, Meal> mealsById = new HashMap<>();
+    private final Map<Meal, Integer> idsByMeal = new HashMap<>();
+    private int nextId = 1;
+
+    public MealIds(MealList mealList) {
+        this.mealList = mealList;
+        for (Meal meal : mealList.getList()) {
+            onMealAdded(meal);
+        }
+        mealList.addObserver(this);
+    }
+
+    /**
+     * Returns the Meal with the ID, or null if no Meal in the list has it.
+     */
+    public Meal getMeal(int id) {
+        return mealsById.get(id);
+    }
+
+    /**
+     * Returns the ID of the Meal, or NO_ID if no equal Meal is in the list.
+     */
+    public int getId(Meal meal) {
+        return idsByMeal.getOrDefault(meal, NO_ID);
+    }
+
+    public int getNextId() {
+        return nextId;
+    }
+
+    /**
+     * Returns the data to save: the next unused ID, followed by the ID and identity key of every Meal in the order
+     * of the list, e.g. "42 chicken rice || rice (1.00)".
+     */
+    public ArrayList<String> toDataArray() {
+        List<Meal> meals = mealList.getList();
+        ArrayList<String> data = new ArrayList<>(meals.size() + 1);
+        data.add(Integer.toString(nextId));
+        for (Meal meal : meals) {
+            data.add(getId(meal) + ID_SEPARATOR + meal.getIdentityKey());
+        }
+        return data;
+    }
+
+    /**
+     * Replaces the IDs of the Meals with the saved IDs, given by the identity key of their Meal, and continues from
+     * savedNextId. Each saved ID is only given to the Meal with its identity key, so a saved ID whose Meal is no
+     * longer in the list is dropped, and a Meal without a saved ID is given a new ID, in the order of the list.
+     * The saved IDs are ignored if any of them is not valid, in which case the Meals keep the IDs they were given
+     * when they were added.
+     */
+    public void restore(Map<String, Integer> savedIdsByKey, int savedNextId) {
+        Set<Integer> savedIds = new HashSet<>();
+        for (int savedId : savedIdsByKey.values()) {
+            if (savedId <= NO_ID || savedId >= savedNextId || !savedIds.add(savedId)) {
+                logger.warning("Ignored the saved meal IDs, as the ID " + savedId + " is not valid.");
+                return;
+            }
+        }
+        mealsById.clear();
+        idsByMeal.clear();
+        nextId = savedNextId;
+        int unmatchedCount = 0;
+        for (Meal meal : mealList.getList()) {
+            Integer savedId = savedIdsByKey.get(meal.getIdentityKey());
+            int id = savedId == null ? nextId++ : savedId;
+            unmatchedCount += savedId == null ? 1 : 0;
+            mealsById.put(id, meal);
+            idsByMeal.put(meal, id);
+        }
+        if (unmatchedCount > 0 || savedIdsByKey.size() != mealList.size()) {
+            logger.warning("The saved meal IDs did not match the list: " + unmatchedCount + " meals were given "
+                    + "new IDs, out of " + mealList.size() + ".");
+        }
+    }
+
+    @Override
+    public void onMealAdded(Meal meal) {
+        int id = nextId++;
+        mealsById.put(id, meal);
+        idsByMeal.put(meal, id);
+    }
+
+    @Override
+    public void onMealRemoved(Meal meal) {
+        Integer id = idsByMeal.remove(meal);
+        if (id != null) {
+            mealsById.remove(id);
+        }
+    }
+
+    @Override
+    public void onMealsCleared() {
+        mealsById.clear();
+        idsByMeal.clear();
+    }
+}
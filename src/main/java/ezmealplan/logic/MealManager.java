@@ -2,23 +2,43 @@ package ezmealplan.logic;
 
 import ezmealplan.exceptions.DuplicateMealException;
 import ezmealplan.exceptions.EmptyListException;
+import ezmealplan.exceptions.MealIdNotFoundException;
 import ezmealplan.exceptions.RemoveIndexOutOfRangeException;
-import ezmealplan.food.Ingredient;
 import ezmealplan.food.list.Inventory;
 import ezmealplan.food.Meal;
 import ezmealplan.food.list.MealList;
 import ezmealplan.food.list.RecipesList;
 import ezmealplan.food.list.WishList;
+import ezmealplan.food.Money;
+import ezmealplan.logic.plan.MealPlan;
+import ezmealplan.logic.plan.MealPlanner;
+import ezmealplan.logic.query.FilterCondition;
+import ezmealplan.logic.query.FilterQuery;
+import ezmealplan.logic.query.IngredientPredicate;
+import ezmealplan.logic.query.MealCostPredicate;
+import ezmealplan.logic.query.MealNamePredicate;
+import ezmealplan.logic.query.MealPredicate;
+import ezmealplan.logic.query.QueryPlanner;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public class MealManager {
     private final MealList wishList = new WishList();
-    private final MealList recipesList = new RecipesList();
+    private final RecipesList recipesList = new RecipesList();
     private final Inventory inventory = new Inventory();
+    private final QueryCache queryCache = new QueryCache();
+    private final CookableIndex cookableIndex = new CookableIndex(recipesList, inventory);
+    private final ShoppingList shoppingList = new ShoppingList(wishList, inventory);
+    private final MealIds mealIds = new MealIds(recipesList);
 
     private MealList chosenMealList;
+    private int savedRecipesListModificationCount;
+    private int savedWishListModificationCount;
+    private int savedInventoryModificationCount;
 
     public MealList getWishList() {
         return wishList;
@@ -28,6 +48,30 @@ public class MealManager {
         return recipesList;
     }
 
+    public MealIds getMealIds() {
+        return mealIds;
+    }
+
+    /**
+     * Returns the stable ID of the Meal in the Recipes List, or MealIds.NO_ID if it is not in the Recipes List.
+     */
+    public int getMealId(Meal meal) {
+        return mealIds.getId(meal);
+    }
+
+    /**
+     * Returns the Meal with the ID in the specified MealList, found without searching the list.
+     *
+     * @throws MealIdNotFoundException If no Meal in the MealList has the ID.
+     */
+    public Meal getMealById(int id, MealList mealsInput) throws MealIdNotFoundException {
+        Meal meal = mealIds.getMeal(id);
+        if (meal == null || !mealsInput.contains(meal)) {
+            throw new MealIdNotFoundException(id, mealsInput.getMealListName());
+        }
+        return meal;
+    }
+
     /**
      * Adds a new meal to the specified MealList after checking for duplicates.
      *
@@ -41,102 +85,144 @@ public class MealManager {
     }
 
     /**
-     * Filters the Recipes List by a specified Meal cost.
+     * Adds all the new meals to the specified MealList at once, skipping meals that are duplicates.
+     * Different MealLists may be filled concurrently, as this method does not share any state between them.
      *
-     * @return The filtered List.
-     */
-    public List<Meal> filteringByMcost(double mcostDouble) {
-        List<Meal> filteredMealList = new ArrayList<>();
-        List<Meal> recipesList = getRecipesList().getList();
-        for (Meal meal : recipesList) {
-            if (meal.getPrice() == mcostDouble) {
-                filteredMealList.add(meal);
-            }
-        }
-        return filteredMealList;
+     * @param newMeals The Meal objects to be added.
+     * @param mealsInput The MealList object to add the Meals to.
+     * @return The exceptions for the meals that were skipped because they already exist in the MealList.
+     */
+    public List<DuplicateMealException> addMeals(List<Meal> newMeals, MealList mealsInput) {
+        MealList targetMealList = mealsInput instanceof RecipesList ? getRecipesList() : getWishList();
+        return targetMealList.addAll(newMeals);
     }
 
     /**
-     * Filters the Recipes List by an array of Meal names.
+     * Filters the Recipes List by a range of Meal costs in cents (both bounds inclusive).
      *
-     * @return The filtered List.
-     */
-    public List<Meal> filteringByMname(String[] mealNameArray) {
-        List<Meal> filteredMealList = new ArrayList<>();
-        List<Meal> recipesList = getRecipesList().getList();
-        for (Meal meal : recipesList) {
-            boolean isMatchingMname = checkMname(mealNameArray, meal);
-            if (isMatchingMname) {
-                filteredMealList.add(meal);
-            }
-        }
-        return filteredMealList;
+     * @return A lazy Stream of the filtered Meals, in the order of the Recipes List.
+     */
+    public Stream<Meal> filteringByMcost(long minCents, long maxCents) {
+        String description = "/mcost " + Money.format(minCents) + "-" + Money.format(maxCents);
+        return filteringBy(new MealCostPredicate(minCents, maxCents, description));
     }
 
-    private static boolean checkMname(String[] mealNameArray, Meal meal) {
-        boolean isMealNameContains = true;
-        String getMealName = meal.getName().toLowerCase();
-        for (String mealName : mealNameArray) {
-            mealName = mealName.toLowerCase();
-            if (!getMealName.contains(mealName)) {
-                isMealNameContains = false;
-                break;
-            }
-        }
-        return isMealNameContains;
+    /**
+     * Filters the Recipes List by a range of Meal costs in cents (both bounds inclusive), keeping only the count
+     * cheapest Meals. Only the Meals up to the last one consumed are looked up in the price index.
+     *
+     * @return A lazy Stream of the filtered Meals, from the cheapest Meal to the most expensive.
+     */
+    public Stream<Meal> filteringCheapestByMcost(long minCents, long maxCents, int count) {
+        String key = "/mcost " + minCents + "-" + maxCents + " /top " + count;
+        return queryCache.stream(key, recipesList, () -> recipesList.streamMealsByPrice(minCents, maxCents)
+                .limit(count));
     }
 
     /**
-     * Filters the Recipes List by an array of Ingredients.
+     * Filters the Recipes List by a combined FilterQuery, using the indexes of the Recipes List chosen by a
+     * QueryPlanner. If the query is explained, the filtered Meals are collected so that the number of candidates
+     * after each step of the plan can be added to planSteps, and the query cache is not used.
      *
-     * @return The filtered List.
-     */
-    public List<Meal> filteringByIng(String[] ingredientsArray) {
-        List<Meal> filteredMealList = new ArrayList<>();
-        List<Meal> mainMealList = getRecipesList().getList();
-        for (Meal meal : mainMealList) {
-            boolean isMealContainsIng = checkIngPerMeal(ingredientsArray, meal);
-            if (isMealContainsIng) {
-                filteredMealList.add(meal);
-            }
+     * @param planSteps The List to which the steps of the plan and their candidate counts are added.
+     * @return A lazy Stream of the filtered Meals.
+     */
+    public Stream<Meal> filteringByQuery(FilterQuery query, List<String> planSteps) {
+        QueryPlanner queryPlanner = new QueryPlanner(recipesList);
+        if (!query.isExplained()) {
+            return queryCache.stream(query.getKey(), recipesList, () -> queryPlanner.stream(query));
         }
-        return filteredMealList;
+        List<Meal> filteredMealList = queryPlanner.execute(query);
+        planSteps.addAll(queryPlanner.getPlanSteps());
+        return filteredMealList.stream();
     }
 
-    private static boolean checkIngPerMeal(String[] ingArray, Meal meal) {
-        boolean isMealContainsIng = true;
-        ArrayList<Ingredient> ingredientList = (ArrayList<Ingredient>) meal.getIngredientList();
-        ArrayList<String> ingredientsNameList = new ArrayList<>();
-        ingredientList.forEach(ingredient -> ingredientsNameList.add(ingredient.getName()));
-        int overallCount = getOverallCount(ingArray, ingredientsNameList);
-        if (overallCount < ingArray.length) {
-            isMealContainsIng = false;
-        }
-        return isMealContainsIng;
+    /**
+     * Filters the Recipes List by an array of Meal names. A Meal matches if its name contains every name in the
+     * array (ignoring case).
+     *
+     * @return A lazy Stream of the filtered Meals, in the order of the Recipes List.
+     */
+    public Stream<Meal> filteringByMname(String[] mealNameArray) {
+        String description = "/mname " + String.join(", ", mealNameArray);
+        return filteringBy(new MealNamePredicate(mealNameArray, description));
     }
 
-    private static int getOverallCount(String[] ingArray, ArrayList<String> ingredientsNameList) {
-        int overallCount = 0;
-        int zero = 0;
-        for (String ingName : ingArray) {
-            ingName = ingName.toLowerCase();
-            int eachCount = getEachCount(ingName, ingredientsNameList);
-            if (eachCount > zero) {
-                overallCount++;
-            }
-        }
-        return overallCount;
+    /**
+     * Filters the Recipes List by an array of Ingredients. A Meal matches if, for every Ingredient name in the array,
+     * it has an Ingredient whose name contains that name (ignoring case).
+     *
+     * @return A lazy Stream of the filtered Meals, in the order of the Recipes List.
+     */
+    public Stream<Meal> filteringByIng(String[] ingredientsArray) {
+        String description = "/ing " + String.join(", ", ingredientsArray);
+        return filteringBy(new IngredientPredicate(ingredientsArray, description));
     }
 
-    private static int getEachCount(String ingName, ArrayList<String> ingredientsNameList) {
-        int eachCount = 0;
-        for (String ingredientName : ingredientsNameList) {
-            ingredientName = ingredientName.toLowerCase();
-            if (ingredientName.contains(ingName)) {
-                eachCount++;
-            }
-        }
-        return eachCount;
+    private Stream<Meal> filteringBy(MealPredicate predicate) {
+        List<List<FilterCondition>> groups = List.of(List.of(new FilterCondition(predicate, false)));
+        FilterQuery query = new FilterQuery(groups, FilterQuery.NO_TOP_COUNT, false);
+        return queryCache.stream(query.getKey(), recipesList, () -> new QueryPlanner(recipesList).stream(query));
+    }
+
+    /**
+     * Finds the Meals of the specified MealList with an Ingredient whose name contains the keyword (ignoring case).
+     *
+     * @param mealListInput The MealList to search.
+     * @return The found Meals, in the order of the MealList.
+     */
+    public List<Meal> findingByIngKeyword(MealList mealListInput, String keyword) {
+        MealList searchedMealList = mealListInput instanceof RecipesList ? getRecipesList() : getWishList();
+        IngredientPredicate predicate = new IngredientPredicate(new String[]{keyword}, "/ing " + keyword);
+        String key = searchedMealList.getMealListName() + " " + predicate.getKey();
+        return queryCache.list(key, searchedMealList,
+                () -> MealScanner.scan(searchedMealList.getList(), predicate::matches));
+    }
+
+    /**
+     * Ranks the candidate Meals by how much of them is covered by the Inventory.
+     *
+     * @param count The number of Meals to return.
+     * @return The count best covered Meals, from the best covered.
+     */
+    public List<MealCoverage> rankingByCoverage(List<Meal> candidates, int count) {
+        return new CoverageRanker(inventory).rank(candidates, count);
+    }
+
+    /**
+     * Returns the indexes in the recipes list (starting from 0) of the Meals whose Ingredients are all in the
+     * Inventory, in increasing order.
+     */
+    public List<Integer> findingCookableMealIndexes() {
+        return cookableIndex.getCookableMealIndexes();
+    }
+
+    /**
+     * Returns the Ingredients to buy for the wishlist, which are kept up to date as the wishlist and the Inventory
+     * change.
+     */
+    public ShoppingList getShoppingList() {
+        return shoppingList;
+    }
+
+    /**
+     * Chooses the Meals of the recipes list which need the least to be spent on the Ingredients missing from the
+     * Inventory, searching until the time budget of the MealPlanner runs out.
+     *
+     * @param mealCount The number of Meals to choose, from 1 to the size of the recipes list.
+     * @param onBetterPlan Called with every plan better than all the plans found before it.
+     * @return The best plan found, or null if the search was interrupted before any plan was found.
+     */
+    public MealPlan planningMeals(int mealCount, Consumer<MealPlan> onBetterPlan) {
+        return new MealPlanner(recipesList.getList(), inventory, mealCount).plan(mealCount, onBetterPlan);
+    }
+
+    /**
+     * Returns the cache of filter results, whose hit and miss counts show how often repeated queries were answered
+     * without scanning the lists again.
+     */
+    public QueryCache getQueryCache() {
+        return queryCache;
     }
 
     /**
@@ -154,32 +240,80 @@ public class MealManager {
         return chosenMealList.removeMeal(index);
     }
 
+    /**
+     * Removes the Meals at several indexes from the specified MealList in a single pass.
+     *
+     * @param indexes The indexes of the Meals to be removed in the MealList, starting from 0.
+     * @param mealListInput The MealList to remove from.
+     * @return The removed Meals, in the order of the MealList.
+     * @throws EmptyListException If the MealList is empty.
+     * @throws RemoveIndexOutOfRangeException If an index is out of range for the specified MealList.
+     */
+    public List<Meal> removeMeals(BitSet indexes, MealList mealListInput)
+            throws EmptyListException, RemoveIndexOutOfRangeException {
+        chosenMealList = mealListInput instanceof RecipesList ? getRecipesList() : getWishList();
+        return chosenMealList.removeMeals(indexes);
+    }
+
     /**
      * Compares between the Recipes List and Wishlist in the application and removes Meals that are in the Wishlist
      * but not the Recipes List.
      */
     public void removeIllegalMeals() {
-        List<Meal> recipesList = this.recipesList.getList();
         List<Meal> wishList = this.wishList.getList();
-        List<Meal> wishListCopy = new ArrayList<>(wishList);
         if(wishList.isEmpty()){
             return;
         }
-        for (Meal meal : wishListCopy) {
-            if (!recipesList.contains(meal)) {
-                wishList.remove(meal);
-                String removeIllegalMealMessage = "Removed " + meal + " containing the ingredients: " +
-                                                  meal.getIngredientList() +
-                                                  " from " + this.wishList.getMealListName() +
-                                                  " because it is not found in the "
-                                                  + this.recipesList.getMealListName() + ".";
-                System.err.println(removeIllegalMealMessage);
+        List<Meal> illegalMeals = new ArrayList<>();
+        for (Meal meal : wishList) {
+            if (!this.recipesList.contains(meal)) {
+                illegalMeals.add(meal);
             }
         }
+        for (Meal meal : illegalMeals) {
+            wishList.remove(meal);
+            String removeIllegalMealMessage = "Removed " + meal + " containing the ingredients: " +
+                                              meal.getIngredientList() +
+                                              " from " + this.wishList.getMealListName() +
+                                              " because it is not found in the "
+                                              + this.recipesList.getMealListName() + ".";
+            System.err.println(removeIllegalMealMessage);
+        }
         System.out.println();
     }
 
     public Inventory getInventory() {
         return inventory;
     }
+
+    /**
+     * Records that the Recipes List, Wishlist and Inventory are now the same as in their files, because they have
+     * just been loaded from or saved to them.
+     */
+    public void markListsSaved() {
+        savedRecipesListModificationCount = recipesList.getModificationCount();
+        savedWishListModificationCount = wishList.getModificationCount();
+        savedInventoryModificationCount = inventory.getModificationCount();
+    }
+
+    /**
+     * Returns true if the Recipes List has changed since markListsSaved() was last called.
+     */
+    public boolean isRecipesListModified() {
+        return recipesList.getModificationCount() != savedRecipesListModificationCount;
+    }
+
+    /**
+     * Returns true if the Wishlist has changed since markListsSaved() was last called.
+     */
+    public boolean isWishListModified() {
+        return wishList.getModificationCount() != savedWishListModificationCount;
+    }
+
+    /**
+     * Returns true if the Inventory has changed since markListsSaved() was last called.
+     */
+    public boolean isInventoryModified() {
+        return inventory.getModificationCount() != savedInventoryModificationCount;
+    }
 }
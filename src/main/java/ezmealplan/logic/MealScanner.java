@@ -0,0 +1,131 @@
+package ezmealplan.logic;
+
+import ezmealplan.food.Meal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Scans meal lists for the Meals matching a predicate, splitting large scans across the cores of the machine with
+ * the common fork-join pool. Every slice of a list is scanned into its own list and the slices are joined from left
+ * to right, so the matches are always in the order of the scanned list, whichever ScanMode is used.
+ * The predicate may be tested from several threads at once, so it must not modify any shared state, and the list
+ * must not be modified during the scan.
+ */
+public class MealScanner {
+    /** Lists with fewer Meals than this are scanned sequentially in AUTO mode. */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 16384;
+    private static final String MODE_PROPERTY = "ezmealplan.scan";
+    private static final String THRESHOLD_PROPERTY = "ezmealplan.scan.threshold";
+    /** Slices with at most this many Meals are scanned by a single task. */
+    private static final int LEAF_SIZE = 2048;
+    private static ScanMode scanMode = ScanMode.fromString(System.getProperty(MODE_PROPERTY));
+    private static int parallelThreshold = Integer.getInteger(THRESHOLD_PROPERTY, DEFAULT_PARALLEL_THRESHOLD);
+
+    public static ScanMode getScanMode() {
+        return scanMode;
+    }
+
+    public static void setScanMode(ScanMode mode) {
+        scanMode = mode;
+    }
+
+    public static int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    public static void setParallelThreshold(int threshold) {
+        assert threshold > 0 : "The parallel threshold must be positive";
+        parallelThreshold = threshold;
+    }
+
+    /**
+     * Returns true if a list of mealCount Meals is scanned in parallel in the current ScanMode.
+     */
+    public static boolean isParallel(int mealCount) {
+        return switch (scanMode) {
+        case SEQUENTIAL -> false;
+        case PARALLEL -> true;
+        case AUTO -> mealCount >= parallelThreshold && ForkJoinPool.getCommonPoolParallelism() > 1;
+        };
+    }
+
+    /**
+     * Returns the Meals of the list matching the predicate, in the order of the list.
+     */
+    public static List<Meal> scan(List<Meal> meals, Predicate<Meal> predicate) {
+        if (!isParallel(meals.size())) {
+            return scanSlice(meals, 0, meals.size(), predicate);
+        }
+        return ForkJoinPool.commonPool().invoke(new ScanTask(meals, 0, meals.size(), predicate));
+    }
+
+    /**
+     * Returns a lazy Stream of the Meals of the list matching the predicate, in the order of the list.
+     * A sequential scan tests one Meal at a time as the Stream is consumed. A parallel scan splits the list into
+     * blocks of at least the parallel threshold and scans one block at a time, so taking the first few matches
+     * still stops after the block containing them.
+     */
+    public static Stream<Meal> stream(List<Meal> meals, Predicate<Meal> predicate) {
+        if (!isParallel(meals.size())) {
+            return meals.stream().filter(predicate);
+        }
+        int blockSize = Math.max(parallelThreshold, LEAF_SIZE * ForkJoinPool.getCommonPoolParallelism());
+        int blockCount = (meals.size() + blockSize - 1) / blockSize;
+        return IntStream.range(0, blockCount)
+                .mapToObj(block -> {
+                    int start = block * blockSize;
+                    int end = Math.min(start + blockSize, meals.size());
+                    return ForkJoinPool.commonPool().invoke(new ScanTask(meals, start, end, predicate));
+                })
+                .flatMap(List::stream);
+    }
+
+    private static List<Meal> scanSlice(List<Meal> meals, int start, int end, Predicate<Meal> predicate) {
+        List<Meal> matches = new ArrayList<>();
+        for (int i = start; i < end; i++) {
+            Meal meal = meals.get(i);
+            if (predicate.test(meal)) {
+                matches.add(meal);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Scans a slice of a list, splitting it in half until the halves have at most LEAF_SIZE Meals.
+     */
+    private static class ScanTask extends RecursiveTask<List<Meal>> {
+        private static final long serialVersionUID = 1L;
+        private final List<Meal> meals;
+        private final int start;
+        private final int end;
+        private final Predicate<Meal> predicate;
+
+        ScanTask(List<Meal> meals, int start, int end, Predicate<Meal> predicate) {
+            this.meals = meals;
+            this.start = start;
+            this.end = end;
+            this.predicate = predicate;
+        }
+
+        @Override
+        protected List<Meal> compute() {
+            if (end - start <= LEAF_SIZE) {
+                return scanSlice(meals, start, end, predicate);
+            }
+            int middle = (start + end) >>> 1;
+            ScanTask leftTask = new ScanTask(meals, start, middle, predicate);
+            leftTask.fork();
+            List<Meal> rightMatches = new ScanTask(meals, middle, end, predicate).compute();
+            List<Meal> matches = leftTask.join();
+            matches.addAll(rightMatches);
+            return matches;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package ezmealplan.logic;
+
+import ezmealplan.food.Meal;
+import ezmealplan.food.list.MealList;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A bounded cache from normalized queries to snapshots of their results, evicting the least recently used query
+ * when it is full.
+ * Every snapshot is stored with the modification count of the MealList it was read from, and is only used while
+ * the list still has that count, so any meal added to, removed from or cleared from the list invalidates it.
+ */
+public class QueryCache {
+    /** The number of queries kept by default. */
+    public static final int DEFAULT_CAPACITY = 32;
+    private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
+    private final Map<String, CachedResult> cachedResults;
+    private int hitCount;
+    private int missCount;
+
+    public QueryCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public QueryCache(int capacity) {
+        assert capacity > 0 : "The capacity of the cache must be positive";
+        cachedResults = new LinkedHashMap<>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResult> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the Meals of the query on the MealList, from the cache if the list has not changed since they were
+     * stored. Otherwise, the Meals are found by the query as the returned Stream is consumed, and are only stored
+     * if the Stream is consumed to its end, so a query which is stopped early is not cached.
+     *
+     * @param key The normalized query, which must also identify the MealList.
+     */
+    public Stream<Meal> stream(String key, MealList mealList, Supplier<Stream<Meal>> query) {
+        List<Meal> cachedMeals = lookUp(key, mealList);
+        if (cachedMeals != null) {
+            return cachedMeals.stream();
+        }
+        int modificationCount = mealList.getModificationCount();
+        Spliterator<Meal> meals = query.get().spliterator();
+        RecordingSpliterator recordingMeals = new RecordingSpliterator(meals,
+                recordedMeals -> store(key, modificationCount, recordedMeals));
+        return StreamSupport.stream(recordingMeals, false);
+    }
+
+    /**
+     * Returns the Meals of the query on the MealList, from the cache if the list has not changed since they were
+     * stored. Otherwise, the Meals are found by the query and stored.
+     *
+     * @param key The normalized query, which must also identify the MealList.
+     */
+    public List<Meal> list(String key, MealList mealList, Supplier<List<Meal>> query) {
+        List<Meal> cachedMeals = lookUp(key, mealList);
+        if (cachedMeals != null) {
+            return cachedMeals;
+        }
+        int modificationCount = mealList.getModificationCount();
+        List<Meal> meals = Collections.unmodifiableList(new ArrayList<>(query.get()));
+        store(key, modificationCount, meals);
+        return meals;
+    }
+
+    private List<Meal> lookUp(String key, MealList mealList) {
+        CachedResult cachedResult = cachedResults.get(key);
+        if (cachedResult != null && cachedResult.modificationCount == mealList.getModificationCount()) {
+            hitCount++;
+            logger.fine("Query cache hit: " + key);
+            return cachedResult.meals;
+        }
+        if (cachedResult != null) {
+            cachedResults.remove(key);
+        }
+        missCount++;
+        logger.fine("Query cache miss: " + key);
+        return null;
+    }
+
+    private void store(String key, int modificationCount, List<Meal> meals) {
+        cachedResults.put(key, new CachedResult(modificationCount, meals));
+    }
+
+    /**
+     * Returns the number of lookups answered from the cache.
+     */
+    public int getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of lookups which had to run their query.
+     */
+    public int getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of queries currently stored.
+     */
+    public int size() {
+        return cachedResults.size();
+    }
+
+    public void clear() {
+        cachedResults.clear();
+    }
+
+    private static class CachedResult {
+        private final int modificationCount;
+        private final List<Meal> meals;
+
+        CachedResult(int modificationCount, List<Meal> meals) {
+            this.modificationCount = modificationCount;
+            this.meals = meals;
+        }
+    }
+
+    /**
+     * Passes on the Meals of another Spliterator, recording them, and hands the recorded Meals over once the other
+     * Spliterator has no Meals left.
+     */
+    private static class RecordingSpliterator implements Spliterator<Meal> {
+        private final Spliterator<Meal> meals;
+        private final Consumer<List<Meal>> onEnd;
+        private final List<Meal> recordedMeals = new ArrayList<>();
+        private boolean isEnded;
+
+        RecordingSpliterator(Spliterator<Meal> meals, Consumer<List<Meal>> onEnd) {
+            this.meals = meals;
+            this.onEnd = onEnd;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Meal> action) {
+            boolean hasAdvanced = meals.tryAdvance(meal -> {
+                recordedMeals.add(meal);
+                action.accept(meal);
+            });
+            if (!hasAdvanced) {
+                end();
+            }
+            return hasAdvanced;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Meal> action) {
+            meals.forEachRemaining(meal -> {
+                recordedMeals.add(meal);
+                action.accept(meal);
+            });
+            end();
+        }
+
+        private void end() {
+            if (!isEnded) {
+                isEnded = true;
+                onEnd.accept(Collections.unmodifiableList(recordedMeals));
+            }
+        }
+
+        @Override
+        public Spliterator<Meal> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return meals.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return meals.characteristics() & (ORDERED | NONNULL);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package ezmealplan.logic;
+
+import java.util.Locale;
+
+/**
+ * Controls whether predicate scans over a meal list are split across the cores of the machine.
+ */
+public enum ScanMode {
+    /** Always scans on the calling thread. */
+    SEQUENTIAL,
+    /** Always splits the scan across the common fork-join pool. */
+    PARALLEL,
+    /** Splits the scan only if the list has at least the parallel threshold of meals and there is more than 1 core. */
+    AUTO;
+
+    /**
+     * Returns the mode named by value, ignoring case, or AUTO if value is null or not a mode name.
+     */
+    public static ScanMode fromString(String value) {
+        if (value == null) {
+            return AUTO;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException illegalArgumentException) {
+            return AUTO;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package ezmealplan.logic;
+
+import ezmealplan.food.Ingredient;
+
+/**
+ * An Ingredient to buy for the wishlist, with the number of units to buy and their total price.
+ */
+public class ShoppingItem {
+    private final Ingredient ingredient;
+    private final int quantity;
+
+    public ShoppingItem(Ingredient ingredient, int quantity) {
+        this.ingredient = ingredient;
+        this.quantity = quantity;
+    }
+
+    public Ingredient getIngredient() {
+        return ingredient;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    /**
+     * Returns the price of all the units to buy, in cents.
+     */
+    public long getTotalCents() {
+        return ingredient.getPriceInCents() * quantity;
+    }
+}
@@ -0,0 +1,153 @@
+package ezmealplan.logic;
+
+import ezmealplan.food.Ingredient;
+import ezmealplan.food.Meal;
+import ezmealplan.food.list.Inventory;
+import ezmealplan.food.list.InventoryObserver;
+import ezmealplan.food.list.MealList;
+import ezmealplan.food.list.MealListObserver;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Keeps track of the Ingredients to buy to cook every Meal of a MealList, usually the wishlist.
+ * Every Meal needs one unit of each of its Ingredients, and the units in the Inventory are not bought. For every
+ * Ingredient used by the MealList, the number of units needed and owned are kept up to date as Meals are added and
+ * removed and as the Inventory changes, along with the total price of the units to buy. Each change only touches
+ * the Ingredients involved, and the Ingredients to buy are kept sorted by name and then price, so that listing them
+ * does not visit any other Ingredient.
+ * It is not thread-safe, so the MealList and the Inventory must not be changed from different threads at once.
+ */
+public class ShoppingList implements MealListObserver, InventoryObserver {
+    private static final Comparator<Ingredient> INGREDIENT_ORDER =
+            Comparator.comparing(Ingredient::getName, String.CASE_INSENSITIVE_ORDER)
+                    .thenComparingLong(Ingredient::getPriceInCents);
+    private final Inventory inventory;
+    private final Map<Integer, Demand> demandsByIngredientId = new HashMap<>();
+    private final TreeMap<Ingredient, Demand> shortfalls = new TreeMap<>(INGREDIENT_ORDER);
+    private long totalCents;
+    private int totalQuantity;
+
+    public ShoppingList(MealList mealList, Inventory inventory) {
+        this.inventory = inventory;
+        for (Meal meal : mealList.getList()) {
+            onMealAdded(meal);
+        }
+        mealList.addObserver(this);
+        inventory.addObserver(this);
+    }
+
+    /**
+     * Returns the Ingredients to buy with the number of units to buy, sorted by name and then price.
+     */
+    public List<ShoppingItem> getItems() {
+        List<ShoppingItem> items = new ArrayList<>(shortfalls.size());
+        for (Demand demand : shortfalls.values()) {
+            items.add(new ShoppingItem(demand.ingredient, demand.getShortfall()));
+        }
+        return items;
+    }
+
+    /**
+     * Returns the total price of all the units to buy, in cents.
+     */
+    public long getTotalCents() {
+        return totalCents;
+    }
+
+    /**
+     * Returns the total number of units to buy.
+     */
+    public int getTotalQuantity() {
+        return totalQuantity;
+    }
+
+    @Override
+    public void onMealAdded(Meal meal) {
+        int[] ingredientIds = meal.getIngredientIds();
+        List<Ingredient> ingredients = meal.getIngredientList();
+        for (int i = 0; i < ingredientIds.length; i++) {
+            Ingredient ingredient = ingredients.get(i);
+            Demand demand = demandsByIngredientId.computeIfAbsent(ingredientIds[i],
+                    ingredientId -> new Demand(ingredient, inventory.getIngredientAmount(ingredient)));
+            update(demand, demand.neededCount + 1, demand.ownedCount);
+        }
+    }
+
+    @Override
+    public void onMealRemoved(Meal meal) {
+        for (int ingredientId : meal.getIngredientIds()) {
+            Demand demand = demandsByIngredientId.get(ingredientId);
+            update(demand, demand.neededCount - 1, demand.ownedCount);
+            if (demand.neededCount == 0) {
+                demandsByIngredientId.remove(ingredientId);
+            }
+        }
+    }
+
+    @Override
+    public void onMealsCleared() {
+        demandsByIngredientId.clear();
+        shortfalls.clear();
+        totalCents = 0;
+        totalQuantity = 0;
+    }
+
+    @Override
+    public void onQuantityChanged(int ingredientId, int quantity) {
+        Demand demand = demandsByIngredientId.get(ingredientId);
+        if (demand != null) {
+            update(demand, demand.neededCount, quantity);
+        }
+    }
+
+    @Override
+    public void onIngredientGained(int ingredientId) {
+        // Every change in quantity is reported by onQuantityChanged.
+    }
+
+    @Override
+    public void onIngredientLost(int ingredientId) {
+        // Every change in quantity is reported by onQuantityChanged.
+    }
+
+    /**
+     * Sets the units needed and owned of an Ingredient, adjusting the totals by the change in its shortfall.
+     */
+    private void update(Demand demand, int neededCount, int ownedCount) {
+        int oldShortfall = demand.getShortfall();
+        demand.neededCount = neededCount;
+        demand.ownedCount = ownedCount;
+        int newShortfall = demand.getShortfall();
+        totalQuantity += newShortfall - oldShortfall;
+        totalCents += demand.ingredient.getPriceInCents() * (newShortfall - oldShortfall);
+        if (oldShortfall == 0 && newShortfall > 0) {
+            shortfalls.put(demand.ingredient, demand);
+        } else if (oldShortfall > 0 && newShortfall == 0) {
+            shortfalls.remove(demand.ingredient);
+        }
+    }
+
+    /**
+     * The number of units of an Ingredient needed by the Meals of the list, and the number in the Inventory.
+     */
+    private static class Demand {
+        private final Ingredient ingredient;
+        private int neededCount;
+        private int ownedCount;
+
+        Demand(Ingredient ingredient, int ownedCount) {
+            this.ingredient = ingredient;
+            this.ownedCount = ownedCount;
+        }
+
+        int getShortfall() {
+            return Math.max(neededCount - ownedCount, 0);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package ezmealplan.logic.plan;
+
+import ezmealplan.food.Ingredient;
+import ezmealplan.food.Meal;
+
+import java.util.List;
+
+/**
+ * A set of Meals chosen from the recipes list, with the Ingredients which have to be bought to cook all of them.
+ * An Ingredient is bought once however many of the Meals use it, and not at all if it is in the Inventory.
+ */
+public class MealPlan {
+    private final List<Integer> mealIndexes;
+    private final List<Meal> meals;
+    private final List<Ingredient> ingredientsToBuy;
+    private final long spendCents;
+    private final int ingredientUseCount;
+    private final int reusedCount;
+    private final long elapsedMillis;
+
+    MealPlan(List<Integer> mealIndexes, List<Meal> meals, List<Ingredient> ingredientsToBuy, long spendCents,
+            int ingredientUseCount, int reusedCount, long elapsedMillis) {
+        this.mealIndexes = mealIndexes;
+        this.meals = meals;
+        this.ingredientsToBuy = ingredientsToBuy;
+        this.spendCents = spendCents;
+        this.ingredientUseCount = ingredientUseCount;
+        this.reusedCount = reusedCount;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * Returns the indexes of the Meals in the recipes list (starting from 0), in increasing order.
+     */
+    public List<Integer> getMealIndexes() {
+        return mealIndexes;
+    }
+
+    /**
+     * Returns the Meals of the plan, in the order of the recipes list.
+     */
+    public List<Meal> getMeals() {
+        return meals;
+    }
+
+    public List<Ingredient> getIngredientsToBuy() {
+        return ingredientsToBuy;
+    }
+
+    /**
+     * Returns the total price of the Ingredients to buy, in cents.
+     */
+    public long getSpendCents() {
+        return spendCents;
+    }
+
+    /**
+     * Returns the number of Ingredients used by the Meals, counting an Ingredient once for every Meal using it.
+     */
+    public int getIngredientUseCount() {
+        return ingredientUseCount;
+    }
+
+    /**
+     * Returns the number of Ingredient uses which need nothing to be bought, because the Ingredient is in the
+     * Inventory or is already bought for another Meal of the plan.
+     */
+    public int getReusedCount() {
+        return reusedCount;
+    }
+
+    /**
+     * Returns the time from the start of the search until the plan was found, in milliseconds.
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+}
@@ -0,0 +1,377 @@
+package ezmealplan.logic.plan;
+
+import ezmealplan.food.Ingredient;
+import ezmealplan.food.IngredientIds;
+import ezmealplan.food.Meal;
+import ezmealplan.food.list.Inventory;
+import ezmealplan.logic.MealScanner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+/**
+ * Chooses a given number of Meals from the recipes list which need the least to be spent on Ingredients, as an
+ * Ingredient is not bought if it is in the Inventory and is only bought once for all the Meals using it. Between
+ * plans spending the same, the one reusing more Ingredients is preferred.
+ * Only the Meals which are cheapest to cook on their own are searched (the candidate pool), so that the search
+ * does not slow down with the size of the recipes list. A local search is run on the pool by every worker of the
+ * common fork-join pool until the time budget runs out: a Meal of the plan is repeatedly swapped for the one which
+ * adds the least spend, and some Meals are replaced at random whenever no swap has improved the plan for a while.
+ * Every plan better than all the plans found so far is passed to a listener as soon as it is found.
+ * The recipes list and the Inventory must not be modified while planning.
+ */
+public class MealPlanner {
+    /** The time budget used unless it is set, in milliseconds. */
+    public static final long DEFAULT_TIME_BUDGET_MILLIS = 300;
+    private static final String TIME_BUDGET_PROPERTY = "ezmealplan.plan.millis";
+    private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
+    /** The candidate pool has at least MIN_POOL_SIZE Meals, or POOL_SIZE_PER_MEAL for every Meal to choose. */
+    private static final int MIN_POOL_SIZE = 2048;
+    private static final int POOL_SIZE_PER_MEAL = 64;
+    /** A worker perturbs its plan after this many swaps without an improvement. */
+    private static final int SWAPS_BEFORE_PERTURBATION = 64;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    private static long timeBudgetMillis = Long.getLong(TIME_BUDGET_PROPERTY, DEFAULT_TIME_BUDGET_MILLIS);
+
+    private final List<Meal> recipes;
+    private final int[] poolMealIndexes;
+    private final int[][] poolIngredients;
+    private final Ingredient[] ingredients;
+    private final long[] ingredientCents;
+    private final boolean[] isOwned;
+    private MealPlan bestPlan;
+    private Consumer<MealPlan> listener;
+    private long startNanos;
+
+    /**
+     * Builds the candidate pool of the recipes list for plans of up to maxMealCount Meals.
+     */
+    public MealPlanner(List<Meal> recipes, Inventory inventory, int maxMealCount) {
+        this.recipes = recipes;
+        BitSet ownedIngredientIds = inventory.getIngredientIds();
+        poolMealIndexes = selectPool(ownedIngredientIds, maxMealCount);
+        poolIngredients = new int[poolMealIndexes.length][];
+        Map<Integer, Integer> localIdsByIngredientId = new HashMap<>();
+        List<Ingredient> localIngredients = new ArrayList<>();
+        for (int poolIndex = 0; poolIndex < poolMealIndexes.length; poolIndex++) {
+            Meal meal = recipes.get(poolMealIndexes[poolIndex]);
+            int[] ingredientIds = meal.getIngredientIds();
+            int[] localIds = new int[ingredientIds.length];
+            for (int i = 0; i < ingredientIds.length; i++) {
+                Ingredient ingredient = meal.getIngredientList().get(i);
+                localIds[i] = localIdsByIngredientId.computeIfAbsent(ingredientIds[i], ingredientId -> {
+                    localIngredients.add(ingredient);
+                    return localIngredients.size() - 1;
+                });
+            }
+            poolIngredients[poolIndex] = localIds;
+        }
+        ingredients = localIngredients.toArray(new Ingredient[0]);
+        ingredientCents = new long[ingredients.length];
+        isOwned = new boolean[ingredients.length];
+        for (int localId = 0; localId < ingredients.length; localId++) {
+            isOwned[localId] = ownedIngredientIds.get(IngredientIds.getId(ingredients[localId]));
+            ingredientCents[localId] = isOwned[localId] ? 0 : ingredients[localId].getPriceInCents();
+        }
+    }
+
+    public static long getTimeBudgetMillis() {
+        return timeBudgetMillis;
+    }
+
+    public static void setTimeBudgetMillis(long millis) {
+        assert millis > 0 : "The time budget must be positive";
+        timeBudgetMillis = millis;
+    }
+
+    /**
+     * Returns the indexes of the Meals in the candidate pool, in the order of the recipes list: the Meals which are
+     * cheapest to cook on their own, found by sorting a copy of their spends to get the spend of the last Meal which
+     * fits in the pool. The spends of large lists are computed and sorted in parallel, like a MealScanner scan.
+     */
+    private int[] selectPool(BitSet ownedIngredientIds, int maxMealCount) {
+        long wantedPoolSize = Math.max(MIN_POOL_SIZE, (long) maxMealCount * POOL_SIZE_PER_MEAL);
+        int poolSize = (int) Math.min(recipes.size(), wantedPoolSize);
+        long[] spendCents = new long[recipes.size()];
+        IntStream mealIndexStream = IntStream.range(0, recipes.size());
+        if (MealScanner.isParallel(recipes.size())) {
+            mealIndexStream = mealIndexStream.parallel();
+        }
+        mealIndexStream.forEach(i -> spendCents[i] = getSpendOnItsOwn(recipes.get(i), ownedIngredientIds));
+        long[] sortedSpendCents = spendCents.clone();
+        Arrays.parallelSort(sortedSpendCents);
+        long maxSpendCents = poolSize == 0 ? 0 : sortedSpendCents[poolSize - 1];
+        int cheaperCount = 0;
+        while (cheaperCount < poolSize && sortedSpendCents[cheaperCount] < maxSpendCents) {
+            cheaperCount++;
+        }
+        // Only the first Meals spending exactly the maximum are kept, so that the pool is not larger than poolSize.
+        int maxSpendSlots = poolSize - cheaperCount;
+        int[] mealIndexes = new int[poolSize];
+        int size = 0;
+        for (int i = 0; i < spendCents.length && size < poolSize; i++) {
+            if (spendCents[i] < maxSpendCents) {
+                mealIndexes[size++] = i;
+            } else if (spendCents[i] == maxSpendCents && maxSpendSlots > 0) {
+                mealIndexes[size++] = i;
+                maxSpendSlots--;
+            }
+        }
+        return mealIndexes;
+    }
+
+    private static long getSpendOnItsOwn(Meal meal, BitSet ownedIngredientIds) {
+        int[] ingredientIds = meal.getIngredientIds();
+        List<Ingredient> mealIngredients = meal.getIngredientList();
+        long spendCents = 0;
+        for (int i = 0; i < ingredientIds.length; i++) {
+            if (!ownedIngredientIds.get(ingredientIds[i])) {
+                spendCents += mealIngredients.get(i).getPriceInCents();
+            }
+        }
+        return spendCents;
+    }
+
+    /**
+     * Searches for the plan of mealCount Meals spending the least until the time budget runs out, and returns the
+     * best plan found.
+     *
+     * @param mealCount The number of Meals to choose, from 1 to the size of the recipes list.
+     * @param listener  Called with every plan better than all the plans found before it, from the worker which
+     *                  found it. Calls are never concurrent.
+     * @return The best plan found, or null if the calling thread was interrupted before any plan was found.
+     */
+    public MealPlan plan(int mealCount, Consumer<MealPlan> listener) {
+        assert mealCount > 0 && mealCount <= poolMealIndexes.length : "The meal count must fit in the pool";
+        this.listener = listener;
+        bestPlan = null;
+        startNanos = System.nanoTime();
+        long deadlineNanos = startNanos + timeBudgetMillis * NANOS_PER_MILLI;
+        int workerCount = ForkJoinPool.getCommonPoolParallelism();
+        List<Callable<Void>> workers = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            workers.add(new Search(mealCount, deadlineNanos, i));
+        }
+        List<Future<Void>> futures = ForkJoinPool.commonPool().invokeAll(workers);
+        try {
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException executionException) {
+            throw new IllegalStateException("A meal plan search failed", executionException.getCause());
+        }
+        logger.fine("Planned " + mealCount + " meals from a pool of " + poolMealIndexes.length + " with "
+                + workerCount + " workers in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)
+                + " ms");
+        return bestPlan;
+    }
+
+    /**
+     * Keeps the plan if it is better than every plan found so far, and passes it to the listener.
+     */
+    private synchronized void offer(Search search) {
+        if (bestPlan != null && !search.isBetterThan(bestPlan)) {
+            return;
+        }
+        bestPlan = search.toMealPlan();
+        listener.accept(bestPlan);
+    }
+
+    /**
+     * A local search over the candidate pool, run by one worker with its own random numbers.
+     * The Meals of the current plan are kept as pool indexes, with the number of Meals of the plan using every
+     * Ingredient, so that the spend added by a Meal is found by looking at its own Ingredients only.
+     */
+    private class Search implements Callable<Void> {
+        private final int mealCount;
+        private final long deadlineNanos;
+        private final int workerIndex;
+        private final SplittableRandom random;
+        private final int[] plannedMeals;
+        private final boolean[] isPlanned;
+        private final int[] useCounts = new int[ingredients.length];
+        private long spendCents;
+        private int ingredientUseCount;
+        private int boughtCount;
+        private long bestSpendCents = Long.MAX_VALUE;
+        private int bestReusedCount;
+
+        Search(int mealCount, long deadlineNanos, int workerIndex) {
+            this.mealCount = mealCount;
+            this.deadlineNanos = deadlineNanos;
+            this.workerIndex = workerIndex;
+            this.random = new SplittableRandom(workerIndex);
+            plannedMeals = new int[mealCount];
+            isPlanned = new boolean[poolMealIndexes.length];
+        }
+
+        @Override
+        public Void call() {
+            // The first worker starts from the cheapest Meal on its own, and the others from a random one.
+            add(0, workerIndex == 0 ? findBestAddition() : random.nextInt(poolMealIndexes.length));
+            // Once the time budget runs out, the rest of the plan is filled without searching, so that there is a plan.
+            int nextPoolIndex = 0;
+            for (int slot = 1; slot < mealCount; slot++) {
+                if (System.nanoTime() < deadlineNanos) {
+                    add(slot, findBestAddition());
+                    continue;
+                }
+                while (isPlanned[nextPoolIndex]) {
+                    nextPoolIndex++;
+                }
+                add(slot, nextPoolIndex);
+            }
+            keepIfBest();
+            int swapsWithoutImprovement = 0;
+            while (System.nanoTime() < deadlineNanos) {
+                if (swapsWithoutImprovement >= SWAPS_BEFORE_PERTURBATION) {
+                    perturb();
+                    swapsWithoutImprovement = 0;
+                }
+                int slot = random.nextInt(mealCount);
+                remove(slot);
+                add(slot, findBestAddition());
+                swapsWithoutImprovement = keepIfBest() ? 0 : swapsWithoutImprovement + 1;
+            }
+            return null;
+        }
+
+        /**
+         * Replaces about a third of the Meals of the plan with random Meals of the pool.
+         */
+        private void perturb() {
+            int replacedCount = Math.max(1, mealCount / 3);
+            for (int i = 0; i < replacedCount && poolMealIndexes.length > mealCount; i++) {
+                int slot = random.nextInt(mealCount);
+                remove(slot);
+                int poolIndex;
+                do {
+                    poolIndex = random.nextInt(poolMealIndexes.length);
+                } while (isPlanned[poolIndex]);
+                add(slot, poolIndex);
+            }
+        }
+
+        /**
+         * Returns the Meal of the pool outside the plan which adds the least spend, or the most reused Ingredients
+         * between Meals adding the same spend.
+         */
+        private int findBestAddition() {
+            int bestPoolIndex = -1;
+            long bestAddedCents = Long.MAX_VALUE;
+            int bestReuses = -1;
+            int start = random.nextInt(poolMealIndexes.length);
+            for (int offset = 0; offset < poolMealIndexes.length; offset++) {
+                int poolIndex = (start + offset) % poolMealIndexes.length;
+                if (isPlanned[poolIndex]) {
+                    continue;
+                }
+                long addedCents = 0;
+                int reuses = 0;
+                for (int ingredient : poolIngredients[poolIndex]) {
+                    if (useCounts[ingredient] == 0) {
+                        addedCents += ingredientCents[ingredient];
+                    }
+                    if (useCounts[ingredient] > 0 || isOwned[ingredient]) {
+                        reuses++;
+                    }
+                }
+                if (addedCents < bestAddedCents || addedCents == bestAddedCents && reuses > bestReuses) {
+                    bestPoolIndex = poolIndex;
+                    bestAddedCents = addedCents;
+                    bestReuses = reuses;
+                }
+            }
+            return bestPoolIndex;
+        }
+
+        private void add(int slot, int poolIndex) {
+            plannedMeals[slot] = poolIndex;
+            isPlanned[poolIndex] = true;
+            for (int ingredient : poolIngredients[poolIndex]) {
+                if (useCounts[ingredient]++ == 0 && !isOwned[ingredient]) {
+                    spendCents += ingredientCents[ingredient];
+                    boughtCount++;
+                }
+            }
+            ingredientUseCount += poolIngredients[poolIndex].length;
+        }
+
+        private void remove(int slot) {
+            int poolIndex = plannedMeals[slot];
+            isPlanned[poolIndex] = false;
+            for (int ingredient : poolIngredients[poolIndex]) {
+                if (--useCounts[ingredient] == 0 && !isOwned[ingredient]) {
+                    spendCents -= ingredientCents[ingredient];
+                    boughtCount--;
+                }
+            }
+            ingredientUseCount -= poolIngredients[poolIndex].length;
+        }
+
+        private int getReusedCount() {
+            return ingredientUseCount - boughtCount;
+        }
+
+        /**
+         * Offers the current plan if it is the best this worker has found, and returns true if it is.
+         */
+        private boolean keepIfBest() {
+            boolean isImproved = spendCents < bestSpendCents
+                    || spendCents == bestSpendCents && getReusedCount() > bestReusedCount;
+            if (isImproved) {
+                bestSpendCents = spendCents;
+                bestReusedCount = getReusedCount();
+                offer(this);
+            }
+            return isImproved;
+        }
+
+        boolean isBetterThan(MealPlan plan) {
+            if (spendCents != plan.getSpendCents()) {
+                return spendCents < plan.getSpendCents();
+            }
+            return getReusedCount() > plan.getReusedCount();
+        }
+
+        MealPlan toMealPlan() {
+            List<Integer> mealIndexes = new ArrayList<>(mealCount);
+            for (int poolIndex : plannedMeals) {
+                mealIndexes.add(poolMealIndexes[poolIndex]);
+            }
+            Collections.sort(mealIndexes);
+            List<Meal> meals = new ArrayList<>(mealCount);
+            for (int mealIndex : mealIndexes) {
+                meals.add(recipes.get(mealIndex));
+            }
+            List<Ingredient> ingredientsToBuy = new ArrayList<>(boughtCount);
+            for (int ingredient = 0; ingredient < ingredients.length; ingredient++) {
+                if (useCounts[ingredient] > 0 && !isOwned[ingredient]) {
+                    ingredientsToBuy.add(ingredients[ingredient]);
+                }
+            }
+            ingredientsToBuy.sort(Comparator.comparing(Ingredient::getName, String.CASE_INSENSITIVE_ORDER)
+                    .thenComparingLong(Ingredient::getPriceInCents));
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            return new MealPlan(mealIndexes, meals, ingredientsToBuy, spendCents, ingredientUseCount,
+                    getReusedCount(), elapsedMillis);
+        }
+    }
+}
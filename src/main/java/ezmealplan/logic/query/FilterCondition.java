@@ -0,0 +1,40 @@
+package ezmealplan.logic.query;
+
+import ezmealplan.food.Meal;
+
+/**
+ * A MealPredicate of a FilterQuery, which may be negated with /not.
+ */
+public class FilterCondition {
+    private final MealPredicate predicate;
+    private final boolean isNegated;
+
+    public FilterCondition(MealPredicate predicate, boolean isNegated) {
+        this.predicate = predicate;
+        this.isNegated = isNegated;
+    }
+
+    public MealPredicate getPredicate() {
+        return predicate;
+    }
+
+    public boolean isNegated() {
+        return isNegated;
+    }
+
+    public boolean matches(Meal meal) {
+        return predicate.matches(meal) != isNegated;
+    }
+
+    /**
+     * Returns the condition in a normalized form, built from the key of its predicate.
+     */
+    public String getKey() {
+        return isNegated ? "/not " + predicate.getKey() : predicate.getKey();
+    }
+
+    @Override
+    public String toString() {
+        return isNegated ? "/not " + predicate.getDescription() : predicate.getDescription();
+    }
+}
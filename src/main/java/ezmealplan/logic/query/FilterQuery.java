@@ -0,0 +1,61 @@
+package ezmealplan.logic.query;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * A filter over the Recipes List made of groups of FilterConditions. A Meal matches the query if it matches every
+ * condition of at least one group, i.e. the conditions of a group are joined by /and and the groups by /or.
+ */
+public class FilterQuery {
+    /** The top count of a query without /top. */
+    public static final int NO_TOP_COUNT = 0;
+    private final List<List<FilterCondition>> groups;
+    private final int topCount;
+    private final boolean isExplained;
+
+    public FilterQuery(List<List<FilterCondition>> groups, int topCount, boolean isExplained) {
+        assert !groups.isEmpty() : "A query must have at least one group";
+        this.groups = groups;
+        this.topCount = topCount;
+        this.isExplained = isExplained;
+    }
+
+    public List<List<FilterCondition>> getGroups() {
+        return groups;
+    }
+
+    public boolean hasTopCount() {
+        return topCount != NO_TOP_COUNT;
+    }
+
+    /**
+     * Returns the number of cheapest Meals to keep, or NO_TOP_COUNT if every matching Meal is kept.
+     */
+    public int getTopCount() {
+        return topCount;
+    }
+
+    /**
+     * Returns the query in a normalized form, so that queries entered differently but matching the same Meals in
+     * the same order have the same key. Whether the query is explained is not part of the key.
+     */
+    public String getKey() {
+        StringJoiner groupKeys = new StringJoiner(" /or ");
+        for (List<FilterCondition> group : groups) {
+            StringJoiner conditionKeys = new StringJoiner(" /and ");
+            for (FilterCondition condition : group) {
+                conditionKeys.add(condition.getKey());
+            }
+            groupKeys.add(conditionKeys.toString());
+        }
+        return hasTopCount() ? groupKeys + " /top " + topCount : groupKeys.toString();
+    }
+
+    /**
+     * Returns true if the plan of the query should be shown to the user (/explain).
+     */
+    public boolean isExplained() {
+        return isExplained;
+    }
+}
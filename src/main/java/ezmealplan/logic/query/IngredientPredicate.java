@@ -0,0 +1,62 @@
+package ezmealplan.logic.query;
+
+import ezmealplan.food.Ingredient;
+import ezmealplan.food.Meal;
+import ezmealplan.food.list.RecipesList;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Matches the Meals which, for every term, have an Ingredient whose name contains that term (ignoring case).
+ */
+public class IngredientPredicate extends MealPredicate {
+    private final String[] terms;
+    private final String[] normalizedTerms;
+
+    public IngredientPredicate(String[] terms, String description) {
+        super(description);
+        this.terms = terms;
+        normalizedTerms = new String[terms.length];
+        for (int i = 0; i < terms.length; i++) {
+            normalizedTerms[i] = terms[i].toLowerCase(Locale.ROOT);
+        }
+    }
+
+    @Override
+    public String getKey() {
+        String[] sortedTerms = normalizedTerms.clone();
+        Arrays.sort(sortedTerms);
+        return "/ing " + String.join(",", sortedTerms);
+    }
+
+    @Override
+    public int estimateMatches(RecipesList recipesList) {
+        return recipesList.estimateMealsWithIngredients(terms);
+    }
+
+    @Override
+    public List<Meal> findMatches(RecipesList recipesList) {
+        return recipesList.findMealsWithIngredients(terms);
+    }
+
+    @Override
+    public boolean matches(Meal meal) {
+        for (String normalizedTerm : normalizedTerms) {
+            if (!hasIngredientContaining(meal, normalizedTerm)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasIngredientContaining(Meal meal, String normalizedTerm) {
+        for (Ingredient ingredient : meal.getIngredientList()) {
+            if (ingredient.getName().toLowerCase(Locale.ROOT).contains(normalizedTerm)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,102 @@
+package ezmealplan.logic.query;
+
+import ezmealplan.exceptions.InvalidMcostException;
+import ezmealplan.food.Meal;
+import ezmealplan.food.Money;
+import ezmealplan.food.list.RecipesList;
+import ezmealplan.parser.IngredientTokenizer;
+
+import java.util.List;
+
+/**
+ * Matches the Meals whose price in cents is between a minimum and a maximum (both inclusive).
+ */
+public class MealCostPredicate extends MealPredicate {
+    private static final String AT_MOST = "<=";
+    private static final String LESS_THAN = "<";
+    private static final String AT_LEAST = ">=";
+    private static final String MORE_THAN = ">";
+    private static final char RANGE_SEPARATOR = '-';
+    private static final int NOT_FOUND = -1;
+    private final long minCents;
+    private final long maxCents;
+
+    public MealCostPredicate(long minCents, long maxCents, String description) {
+        super(description);
+        this.minCents = minCents;
+        this.maxCents = maxCents;
+    }
+
+    /**
+     * Parses a /mcost input into a MealCostPredicate. The input is either a price (e.g. 5.00), a bound (e.g. <5.00,
+     * <=5.00, >3.00, >=3.00) or an inclusive range (e.g. 3.00-6.00), where every price must be in 2 decimal places
+     * and between 0.00 and 9999999999999.99.
+     *
+     * @throws InvalidMcostException If the input is not in one of these formats.
+     */
+    public static MealCostPredicate parse(String mcostInput, String description) throws InvalidMcostException {
+        long minCents = 0;
+        long maxCents = Money.MAX_CENTS;
+        if (mcostInput.startsWith(AT_MOST)) {
+            maxCents = parsePrice(mcostInput.substring(AT_MOST.length()));
+        } else if (mcostInput.startsWith(LESS_THAN)) {
+            maxCents = parsePrice(mcostInput.substring(LESS_THAN.length())) - 1;
+        } else if (mcostInput.startsWith(AT_LEAST)) {
+            minCents = parsePrice(mcostInput.substring(AT_LEAST.length()));
+        } else if (mcostInput.startsWith(MORE_THAN)) {
+            minCents = parsePrice(mcostInput.substring(MORE_THAN.length())) + 1;
+        } else {
+            // A separator at the start is the sign of a negative price rather than a range.
+            int separatorIndex = mcostInput.indexOf(RANGE_SEPARATOR, 1);
+            if (separatorIndex == NOT_FOUND) {
+                minCents = parsePrice(mcostInput);
+                maxCents = minCents;
+            } else {
+                minCents = parsePrice(mcostInput.substring(0, separatorIndex));
+                maxCents = parsePrice(mcostInput.substring(separatorIndex + 1));
+                if (minCents > maxCents) {
+                    throw new InvalidMcostException();
+                }
+            }
+        }
+        return new MealCostPredicate(minCents, maxCents, description);
+    }
+
+    private static long parsePrice(String priceInput) throws InvalidMcostException {
+        String price = priceInput.trim();
+        long priceInCents = IngredientTokenizer.parsePriceInCents(price, 0, price.length());
+        if (!Money.isValid(priceInCents)) {
+            throw new InvalidMcostException();
+        }
+        return priceInCents;
+    }
+
+    public long getMinCents() {
+        return minCents;
+    }
+
+    public long getMaxCents() {
+        return maxCents;
+    }
+
+    @Override
+    public String getKey() {
+        return "/mcost " + minCents + "-" + maxCents;
+    }
+
+    @Override
+    public int estimateMatches(RecipesList recipesList) {
+        return recipesList.countMealsInPriceRange(minCents, maxCents);
+    }
+
+    @Override
+    public List<Meal> findMatches(RecipesList recipesList) {
+        return recipesList.findMealsInPriceRange(minCents, maxCents);
+    }
+
+    @Override
+    public boolean matches(Meal meal) {
+        long priceInCents = meal.getPriceInCents();
+        return priceInCents >= minCents && priceInCents <= maxCents;
+    }
+}
@@ -0,0 +1,53 @@
+package ezmealplan.logic.query;
+
+import ezmealplan.food.Meal;
+import ezmealplan.food.list.RecipesList;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Matches the Meals whose name contains every term (ignoring case).
+ */
+public class MealNamePredicate extends MealPredicate {
+    private final String[] terms;
+    private final String[] normalizedTerms;
+
+    public MealNamePredicate(String[] terms, String description) {
+        super(description);
+        this.terms = terms;
+        normalizedTerms = new String[terms.length];
+        for (int i = 0; i < terms.length; i++) {
+            normalizedTerms[i] = terms[i].toLowerCase(Locale.ROOT);
+        }
+    }
+
+    @Override
+    public String getKey() {
+        String[] sortedTerms = normalizedTerms.clone();
+        Arrays.sort(sortedTerms);
+        return "/mname " + String.join(",", sortedTerms);
+    }
+
+    @Override
+    public int estimateMatches(RecipesList recipesList) {
+        return recipesList.estimateMealsWithName(terms);
+    }
+
+    @Override
+    public List<Meal> findMatches(RecipesList recipesList) {
+        return recipesList.findMealsWithName(terms);
+    }
+
+    @Override
+    public boolean matches(Meal meal) {
+        String mealName = meal.getName().toLowerCase(Locale.ROOT);
+        for (String normalizedTerm : normalizedTerms) {
+            if (!mealName.contains(normalizedTerm)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,47 @@
+package ezmealplan.logic.query;
+
+import ezmealplan.food.Meal;
+import ezmealplan.food.list.RecipesList;
+
+import java.util.List;
+
+/**
+ * A condition on a Meal of the Recipes List which can either be answered from an index of the RecipesList, or be
+ * verified on a single Meal.
+ */
+public abstract class MealPredicate {
+    private final String description;
+
+    protected MealPredicate(String description) {
+        this.description = description;
+    }
+
+    /**
+     * Returns the predicate as the user entered it, e.g. "/ing chicken".
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Returns the predicate in a normalized form, so that predicates entered differently but matching the same Meals,
+     * e.g. "/ing Chicken, Rice" and "/ing rice,chicken", have the same key.
+     */
+    public abstract String getKey();
+
+    /**
+     * Returns an upper bound of the number of Meals in the RecipesList which match the predicate, computed from
+     * the sizes of its index entries only.
+     */
+    public abstract int estimateMatches(RecipesList recipesList);
+
+    /**
+     * Returns the Meals of the RecipesList which match the predicate, in the order of the list, using its index.
+     */
+    public abstract List<Meal> findMatches(RecipesList recipesList);
+
+    /**
+     * Returns true if the Meal matches the predicate.
+     */
+    public abstract boolean matches(Meal meal);
+}
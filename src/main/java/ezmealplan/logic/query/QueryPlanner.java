@@ -0,0 +1,232 @@
+package ezmealplan.logic.query;
+
+import ezmealplan.food.Meal;
+import ezmealplan.food.list.RecipesList;
+import ezmealplan.logic.MealScanner;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Executes a FilterQuery over the Recipes List.
+ * For every group, the conditions are ordered by the estimated number of Meals passing them. The most selective
+ * condition which is not negated is answered from its index, and the remaining conditions are then verified on its
+ * candidates only, from the most to the least selective. If every condition is negated, or the most selective one
+ * still matches a large part of the list, the group starts from the whole list instead, which can be scanned lazily.
+ * The candidates are verified by a MealScanner, which splits large scans across the cores of the machine.
+ * The steps taken and the number of candidates left after each of them are recorded by execute(), so that they can
+ * be shown with /explain.
+ */
+public class QueryPlanner {
+    private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
+    /** An index lookup is only used if it is estimated to match less than 1 in SCAN_RATIO of the meals. */
+    private static final int SCAN_RATIO = 8;
+    private final RecipesList recipesList;
+    private final List<String> planSteps = new ArrayList<>();
+
+    public QueryPlanner(RecipesList recipesList) {
+        this.recipesList = recipesList;
+    }
+
+    /**
+     * Returns the Meals matching the query, in the order of the Recipes List, or from the cheapest to the most
+     * expensive if the query has a /top count.
+     */
+    public List<Meal> execute(FilterQuery query) {
+        planSteps.clear();
+        List<List<FilterCondition>> groups = query.getGroups();
+        List<Meal> matches;
+        if (groups.size() == 1) {
+            matches = executeGroup(groups.get(0), 1);
+        } else {
+            Set<Meal> unionOfGroups = new HashSet<>();
+            for (int i = 0; i < groups.size(); i++) {
+                unionOfGroups.addAll(executeGroup(groups.get(i), i + 1));
+            }
+            matches = recipesList.inListOrder(unionOfGroups);
+            planSteps.add(String.format("Union of the %d groups: %d meals", groups.size(), matches.size()));
+        }
+        if (query.hasTopCount()) {
+            matches = keepCheapest(matches, query.getTopCount());
+            planSteps.add(String.format("Keep the %d cheapest: %d meals", query.getTopCount(), matches.size()));
+        }
+        logger.fine("Executed filter query: " + String.join("; ", planSteps));
+        return matches;
+    }
+
+    /**
+     * Returns a lazy Stream of the Meals matching the query, in the same order as execute().
+     * If the plan scans the whole list, the Meals are only verified as they are consumed, so taking the first few
+     * matches of a broad query does not visit the rest of the list. Nothing is recorded in the plan steps.
+     */
+    public Stream<Meal> stream(FilterQuery query) {
+        List<List<FilterCondition>> groups = query.getGroups();
+        Stream<Meal> matches;
+        if (groups.size() == 1) {
+            matches = streamGroup(groups.get(0));
+        } else if (isAnyGroupScanned(groups)) {
+            matches = MealScanner.stream(recipesList.getList(), meal -> matchesAnyGroup(groups, meal));
+        } else {
+            Set<Meal> unionOfGroups = new HashSet<>();
+            for (List<FilterCondition> group : groups) {
+                streamGroup(group).forEach(unionOfGroups::add);
+            }
+            matches = recipesList.inListOrder(unionOfGroups).stream();
+        }
+        if (query.hasTopCount()) {
+            matches = matches.sorted(Comparator.comparingLong(Meal::getPriceInCents)).limit(query.getTopCount());
+        }
+        return matches;
+    }
+
+    private Stream<Meal> streamGroup(List<FilterCondition> group) {
+        List<PlannedCondition> plannedConditions = planGroup(group);
+        PlannedCondition driver = findIndexLookup(plannedConditions);
+        List<Meal> candidates;
+        if (driver == null) {
+            candidates = recipesList.getList();
+        } else {
+            plannedConditions.remove(driver);
+            candidates = driver.getCondition().getPredicate().findMatches(recipesList);
+        }
+        Predicate<Meal> verification = meal -> true;
+        for (PlannedCondition plannedCondition : plannedConditions) {
+            verification = verification.and(plannedCondition.getCondition()::matches);
+        }
+        return MealScanner.stream(candidates, verification);
+    }
+
+    private boolean isAnyGroupScanned(List<List<FilterCondition>> groups) {
+        for (List<FilterCondition> group : groups) {
+            if (findIndexLookup(planGroup(group)) == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matchesAnyGroup(List<List<FilterCondition>> groups, Meal meal) {
+        for (List<FilterCondition> group : groups) {
+            if (matchesAll(group, meal)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matchesAll(List<FilterCondition> group, Meal meal) {
+        for (FilterCondition condition : group) {
+            if (!condition.matches(meal)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the steps taken by the last execute(), each with the number of candidates left after it.
+     */
+    public List<String> getPlanSteps() {
+        return planSteps;
+    }
+
+    private List<Meal> executeGroup(List<FilterCondition> group, int groupNumber) {
+        planSteps.add("Group " + groupNumber + ":");
+        List<PlannedCondition> plannedConditions = planGroup(group);
+        PlannedCondition driver = findIndexLookup(plannedConditions);
+        List<Meal> candidates;
+        if (driver == null) {
+            candidates = new ArrayList<>(recipesList.getList());
+            addStep("Scan the whole list", candidates.size());
+        } else {
+            plannedConditions.remove(driver);
+            candidates = driver.getCondition().getPredicate().findMatches(recipesList);
+            addStep("Index lookup " + driver, candidates.size());
+        }
+        for (PlannedCondition plannedCondition : plannedConditions) {
+            FilterCondition condition = plannedCondition.getCondition();
+            candidates = MealScanner.scan(candidates, condition::matches);
+            addStep("Verify " + plannedCondition, candidates.size());
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the conditions of the group with their estimated number of passing Meals, from the most to the least
+     * selective.
+     */
+    private List<PlannedCondition> planGroup(List<FilterCondition> group) {
+        List<PlannedCondition> plannedConditions = new ArrayList<>(group.size());
+        for (FilterCondition condition : group) {
+            plannedConditions.add(new PlannedCondition(condition, estimatePasses(condition)));
+        }
+        plannedConditions.sort(Comparator.comparingInt(PlannedCondition::getEstimatedPasses));
+        return plannedConditions;
+    }
+
+    /**
+     * Returns the estimated number of Meals passing the condition. A negated condition is passed by the Meals which
+     * do not match its predicate.
+     */
+    private int estimatePasses(FilterCondition condition) {
+        int estimatedMatches = condition.getPredicate().estimateMatches(recipesList);
+        if (condition.isNegated()) {
+            return Math.max(recipesList.size() - estimatedMatches, 0);
+        }
+        return estimatedMatches;
+    }
+
+    /**
+     * Returns the most selective condition which is not negated, if it is selective enough to be answered from its
+     * index, or null if the whole list should be scanned instead.
+     */
+    private PlannedCondition findIndexLookup(List<PlannedCondition> plannedConditions) {
+        for (PlannedCondition plannedCondition : plannedConditions) {
+            if (plannedCondition.getCondition().isNegated()) {
+                continue;
+            }
+            boolean isSelective = (long) plannedCondition.getEstimatedPasses() * SCAN_RATIO < recipesList.size();
+            return isSelective ? plannedCondition : null;
+        }
+        return null;
+    }
+
+    private void addStep(String step, int candidateCount) {
+        planSteps.add(String.format("    %s: %d candidates", step, candidateCount));
+    }
+
+    private static List<Meal> keepCheapest(List<Meal> meals, int count) {
+        List<Meal> cheapestMeals = new ArrayList<>(meals);
+        cheapestMeals.sort(Comparator.comparingLong(Meal::getPriceInCents));
+        return cheapestMeals.size() > count ? new ArrayList<>(cheapestMeals.subList(0, count)) : cheapestMeals;
+    }
+
+    private static class PlannedCondition {
+        private final FilterCondition condition;
+        private final int estimatedPasses;
+
+        PlannedCondition(FilterCondition condition, int estimatedPasses) {
+            this.condition = condition;
+            this.estimatedPasses = estimatedPasses;
+        }
+
+        FilterCondition getCondition() {
+            return condition;
+        }
+
+        int getEstimatedPasses() {
+            return estimatedPasses;
+        }
+
+        @Override
+        public String toString() {
+            return condition + " (estimated " + estimatedPasses + ")";
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package ezmealplan.parser;
+
+import ezmealplan.exceptions.EZMealPlanException;
+import ezmealplan.exceptions.InvalidFilterMethodException;
+import ezmealplan.exceptions.InvalidFilterQueryException;
+import ezmealplan.exceptions.InvalidTopException;
+import ezmealplan.exceptions.MissingIngredientException;
+import ezmealplan.exceptions.MissingMealCostException;
+import ezmealplan.exceptions.MissingMealNameException;
+import ezmealplan.logic.query.FilterCondition;
+import ezmealplan.logic.query.FilterQuery;
+import ezmealplan.logic.query.IngredientPredicate;
+import ezmealplan.logic.query.MealCostPredicate;
+import ezmealplan.logic.query.MealNamePredicate;
+import ezmealplan.logic.query.MealPredicate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Parses the filter conditions of a 'filter' or 'select' command into a FilterQuery.
+ * The conditions are /ing, /mname and /mcost, each of which may be preceded by /not. Consecutive conditions are
+ * joined by /and, which may be left out, and groups of them by /or. A /top count may follow the last condition if
+ * there is a /mcost condition, and the 'filter' command also accepts /explain.
+ */
+public class FilterQueryParser {
+    private static final String ING = "/ing";
+    private static final String MNAME = "/mname";
+    private static final String MCOST = "/mcost";
+    private static final String TOP = "/top";
+    private static final String AND = "/and";
+    private static final String OR = "/or";
+    private static final String NOT = "/not";
+    private static final String EXPLAIN = "/explain";
+    private static final String[] KEYWORDS = {ING, MNAME, MCOST, TOP, AND, OR, NOT, EXPLAIN};
+    private static final String[] OPERATORS = {AND, OR, NOT, EXPLAIN};
+    private static final String FILTER = "filter";
+    private static final String SPLIT_REGEX = "\\s*,\\s*";
+    private static final char KEYWORD_PREFIX = '/';
+    private static final int NOT_FOUND = -1;
+    private final String userInput;
+    private final String filterOrSelect;
+    private final List<List<FilterCondition>> groups = new ArrayList<>();
+    private boolean isNextNegated;
+    private boolean isConditionExpected;
+    private boolean hasMcost;
+    private boolean isExplained;
+    private int topCount = FilterQuery.NO_TOP_COUNT;
+
+    public FilterQueryParser(String userInput, String filterOrSelect) {
+        this.userInput = userInput;
+        this.filterOrSelect = filterOrSelect;
+    }
+
+    /**
+     * Returns true if the input needs a FilterQuery: it has more than one condition, or any of /and, /or, /not
+     * or /explain.
+     */
+    public static boolean isCompositeQuery(String lowerCaseInput) {
+        int conditionCount = 0;
+        for (int[] keyword : findKeywords(lowerCaseInput)) {
+            String keywordString = KEYWORDS[keyword[0]];
+            for (String operator : OPERATORS) {
+                if (operator.equals(keywordString)) {
+                    return true;
+                }
+            }
+            if (!TOP.equals(keywordString)) {
+                conditionCount++;
+            }
+        }
+        return conditionCount > 1;
+    }
+
+    /**
+     * Returns the index of the first keyword of the filter conditions in the input, or -1 if there is none.
+     */
+    public static int findFirstKeywordIndex(String lowerCaseInput) {
+        List<int[]> keywords = findKeywords(lowerCaseInput);
+        return keywords.isEmpty() ? NOT_FOUND : keywords.get(0)[1];
+    }
+
+    /**
+     * Parses the count of cheapest meals to keep after /top, which must be a whole number from 1 to 2147483647.
+     *
+     * @throws InvalidTopException If the count is not in this range.
+     */
+    public static int parseTopCount(String topInput, String filterOrSelect) throws InvalidTopException {
+        int count;
+        try {
+            count = Integer.parseInt(topInput.trim());
+            if (count < 1) {
+                throw new NumberFormatException();
+            }
+        } catch (NumberFormatException numberFormatException) {
+            throw new InvalidTopException(filterOrSelect);
+        }
+        return count;
+    }
+
+    /**
+     * Parses the filter conditions of the input.
+     *
+     * @throws EZMealPlanException If a condition is missing its input or has an invalid one, or if the keywords
+     *     are not in a valid order.
+     */
+    public FilterQuery parse() throws EZMealPlanException {
+        groups.add(new ArrayList<>());
+        String lowerCaseInput = userInput.toLowerCase(Locale.ROOT);
+        List<int[]> keywords = findKeywords(lowerCaseInput);
+        for (int i = 0; i < keywords.size(); i++) {
+            int[] keyword = keywords.get(i);
+            int valueStartIndex = keyword[1] + KEYWORDS[keyword[0]].length();
+            int valueEndIndex = i + 1 < keywords.size() ? keywords.get(i + 1)[1] : userInput.length();
+            if (topCount != FilterQuery.NO_TOP_COUNT) {
+                throw new InvalidTopException(filterOrSelect);
+            }
+            parseKeyword(KEYWORDS[keyword[0]], userInput.substring(valueStartIndex, valueEndIndex).trim());
+        }
+        if (getCurrentGroup().isEmpty() && groups.size() == 1) {
+            throw new InvalidFilterMethodException();
+        }
+        if (isNextNegated || isConditionExpected || getCurrentGroup().isEmpty()) {
+            throw new InvalidFilterQueryException("a condition is missing at the end");
+        }
+        return new FilterQuery(groups, topCount, isExplained);
+    }
+
+    private void parseKeyword(String keyword, String value) throws EZMealPlanException {
+        switch (keyword) {
+        case ING -> addCondition(parseIngredients(value));
+        case MNAME -> addCondition(parseMealNames(value));
+        case MCOST -> addCondition(parseMealCost(value));
+        case TOP -> parseTop(value);
+        case NOT -> parseNot(value);
+        case AND -> parseJoin(keyword, value);
+        case OR -> {
+            parseJoin(keyword, value);
+            groups.add(new ArrayList<>());
+        }
+        case EXPLAIN -> parseExplain(value);
+        default -> throw new InvalidFilterQueryException("the keyword " + keyword + " is unknown");
+        }
+    }
+
+    private MealPredicate parseIngredients(String value) throws EZMealPlanException {
+        if (value.isEmpty()) {
+            throw new MissingIngredientException(filterOrSelect);
+        }
+        return new IngredientPredicate(value.split(SPLIT_REGEX), ING + " " + value);
+    }
+
+    private MealPredicate parseMealNames(String value) throws EZMealPlanException {
+        if (value.isEmpty()) {
+            throw new MissingMealNameException(filterOrSelect);
+        }
+        return new MealNamePredicate(value.split(SPLIT_REGEX), MNAME + " " + value);
+    }
+
+    private MealPredicate parseMealCost(String value) throws EZMealPlanException {
+        if (value.isEmpty()) {
+            throw new MissingMealCostException(filterOrSelect);
+        }
+        hasMcost = true;
+        return MealCostPredicate.parse(value, MCOST + " " + value);
+    }
+
+    private void addCondition(MealPredicate predicate) {
+        getCurrentGroup().add(new FilterCondition(predicate, isNextNegated));
+        isNextNegated = false;
+        isConditionExpected = false;
+    }
+
+    private void parseTop(String value) throws EZMealPlanException {
+        if (!hasMcost || isNextNegated || isConditionExpected || getCurrentGroup().isEmpty()) {
+            throw new InvalidTopException(filterOrSelect);
+        }
+        topCount = parseTopCount(value, filterOrSelect);
+    }
+
+    private void parseNot(String value) throws EZMealPlanException {
+        if (!value.isEmpty() || isNextNegated) {
+            throw new InvalidFilterQueryException("/not must be followed by a condition");
+        }
+        isNextNegated = true;
+    }
+
+    private void parseJoin(String keyword, String value) throws EZMealPlanException {
+        if (!value.isEmpty() || isNextNegated || isConditionExpected || getCurrentGroup().isEmpty()) {
+            throw new InvalidFilterQueryException(keyword + " must be between two conditions");
+        }
+        isConditionExpected = true;
+    }
+
+    private void parseExplain(String value) throws EZMealPlanException {
+        if (!FILTER.equals(filterOrSelect) || isExplained || !value.isEmpty()) {
+            throw new InvalidFilterQueryException("/explain can only be entered once, without an input, " +
+                    "in the 'filter' command");
+        }
+        isExplained = true;
+    }
+
+    private List<FilterCondition> getCurrentGroup() {
+        return groups.get(groups.size() - 1);
+    }
+
+    /**
+     * Returns the keywords in the input, in order, as pairs of their index in KEYWORDS and their position in the
+     * input. A keyword is only recognised if it is not directly followed by another letter.
+     */
+    private static List<int[]> findKeywords(String lowerCaseInput) {
+        List<int[]> keywords = new ArrayList<>();
+        int position = lowerCaseInput.indexOf(KEYWORD_PREFIX);
+        while (position != NOT_FOUND) {
+            int keywordIndex = matchKeyword(lowerCaseInput, position);
+            if (keywordIndex != NOT_FOUND) {
+                keywords.add(new int[]{keywordIndex, position});
+            }
+            position = lowerCaseInput.indexOf(KEYWORD_PREFIX, position + 1);
+        }
+        return keywords;
+    }
+
+    private static int matchKeyword(String lowerCaseInput, int position) {
+        for (int i = 0; i < KEYWORDS.length; i++) {
+            if (!lowerCaseInput.startsWith(KEYWORDS[i], position)) {
+                continue;
+            }
+            int endIndex = position + KEYWORDS[i].length();
+            if (endIndex == lowerCaseInput.length() || !Character.isLetter(lowerCaseInput.charAt(endIndex))) {
+                return i;
+            }
+        }
+        return NOT_FOUND;
+    }
+}
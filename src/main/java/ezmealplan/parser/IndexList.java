@@ -0,0 +1,35 @@
+package ezmealplan.parser;
+
+import java.util.List;
+
+/**
+ * The meals addressed by a list of indexes such as "3, 7, 10-20, #42", as entered by the user. Meals are addressed
+ * either by their position in a list, as ranges of indexes, or by their stable meal ID, which is prefixed with '#'.
+ */
+public class IndexList {
+    private final List<IndexRange> ranges;
+    private final List<Integer> mealIds;
+
+    public IndexList(List<IndexRange> ranges, List<Integer> mealIds) {
+        this.ranges = ranges;
+        this.mealIds = mealIds;
+    }
+
+    /**
+     * Returns the ranges of indexes, in the order they were entered.
+     */
+    public List<IndexRange> getRanges() {
+        return ranges;
+    }
+
+    /**
+     * Returns the meal IDs, in the order they were entered.
+     */
+    public List<Integer> getMealIds() {
+        return mealIds;
+    }
+
+    public boolean hasRanges() {
+        return !ranges.isEmpty();
+    }
+}
@@ -0,0 +1,72 @@
+package ezmealplan.parser;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parses lists of meal indexes such as "3, 7, 10-2000, #42", in which every item is separated by a comma and is
+ * either a single index, a range of indexes with both ends inclusive, or a meal ID prefixed with '#'.
+ * Single indexes may be negative, so that they can be reported as out of range rather than badly formatted, but
+ * both ends of a range must be whole numbers which do not decrease.
+ */
+public class IndexListParser {
+    private static final Pattern SINGLE_INDEX = Pattern.compile("\\s*(-?\\d+)\\s*");
+    private static final Pattern MEAL_ID = Pattern.compile("\\s*#(\\d+)\\s*");
+    private static final Pattern INDEX_RANGE = Pattern.compile("\\s*(\\d+)\\s*-\\s*(\\d+)\\s*");
+    private static final String ITEM_SEPARATOR = ",";
+
+    /**
+     * Returns the ranges of indexes and the meal IDs in the text, each in the order they were entered.
+     *
+     * @throws NumberFormatException If an item is empty, is neither an index, a range nor a meal ID, does not fit
+     *     in an int, or is a range ending before it starts.
+     */
+    public static IndexList parse(String text) throws NumberFormatException {
+        String[] items = text.split(ITEM_SEPARATOR, -1);
+        List<IndexRange> ranges = new ArrayList<>(items.length);
+        List<Integer> mealIds = new ArrayList<>();
+        for (String item : items) {
+            Matcher mealIdMatcher = MEAL_ID.matcher(item);
+            if (mealIdMatcher.matches()) {
+                mealIds.add(Integer.parseInt(mealIdMatcher.group(1)));
+            } else {
+                ranges.add(parseItem(item));
+            }
+        }
+        return new IndexList(ranges, mealIds);
+    }
+
+    private static IndexRange parseItem(String item) throws NumberFormatException {
+        Matcher singleIndexMatcher = SINGLE_INDEX.matcher(item);
+        if (singleIndexMatcher.matches()) {
+            int index = Integer.parseInt(singleIndexMatcher.group(1));
+            return new IndexRange(index, index);
+        }
+        Matcher rangeMatcher = INDEX_RANGE.matcher(item);
+        if (!rangeMatcher.matches()) {
+            throw new NumberFormatException("Not an index or a range of indexes: " + item);
+        }
+        int first = Integer.parseInt(rangeMatcher.group(1));
+        int last = Integer.parseInt(rangeMatcher.group(2));
+        if (first > last) {
+            throw new NumberFormatException("The range ends before it starts: " + item);
+        }
+        return new IndexRange(first, last);
+    }
+
+    /**
+     * Returns the set of list positions (starting from 0) covered by the ranges, all of which must be within a list
+     * of listSize meals. An index entered more than once is only included once.
+     */
+    public static BitSet toPositions(List<IndexRange> ranges, int listSize) {
+        BitSet positions = new BitSet(listSize);
+        for (IndexRange range : ranges) {
+            assert range.isWithin(listSize) : "Every range must be within the list";
+            positions.set(range.getFirst() - 1, range.getLast());
+        }
+        return positions;
+    }
+}
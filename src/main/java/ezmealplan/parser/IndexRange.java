@@ -0,0 +1,40 @@
+package ezmealplan.parser;
+
+/**
+ * A range of meal indexes as entered by the user, starting from 1, with both ends inclusive. A single index is a
+ * range whose first and last indexes are equal.
+ */
+public class IndexRange {
+    private final int first;
+    private final int last;
+
+    public IndexRange(int first, int last) {
+        assert first <= last : "A range cannot end before it starts";
+        this.first = first;
+        this.last = last;
+    }
+
+    public int getFirst() {
+        return first;
+    }
+
+    public int getLast() {
+        return last;
+    }
+
+    /**
+     * Returns an index of the range which is not from 1 to listSize, to be reported to the user. The range must not
+     * be within the list.
+     */
+    public int getOutOfRangeIndex(int listSize) {
+        assert !isWithin(listSize) : "The range is within the list";
+        return first < 1 ? first : last;
+    }
+
+    /**
+     * Returns true if every index of the range is from 1 to listSize.
+     */
+    public boolean isWithin(int listSize) {
+        return first >= 1 && last <= listSize;
+    }
+}
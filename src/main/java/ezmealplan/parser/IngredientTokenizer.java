@@ -0,0 +1,188 @@
+package ezmealplan.parser;
+
+import ezmealplan.exceptions.IngredientPriceFormatException;
+import ezmealplan.exceptions.InvalidPriceException;
+import ezmealplan.food.Ingredient;
+import ezmealplan.food.Money;
+
+/**
+ * Splits text such as "egg (0.50), rice (1.20)" or "Meal | egg (0.50) | rice (1.20)" into tokens, and each token into
+ * an ingredient name and a price in cents.
+ * The tokenizer only keeps the positions of the current token in the text, so no intermediate strings are created
+ * while scanning. A string is only created for the parts that are kept, such as the name of an Ingredient.
+ */
+public class IngredientTokenizer {
+    /** Returned by parsePriceInCents if the text is not a price with exactly 2 decimal places. */
+    public static final long INVALID_PRICE = Long.MIN_VALUE;
+    private static final long MAX_PRICE_IN_CENTS = Money.MAX_CENTS;
+    private static final int NOT_FOUND = -1;
+    private static final char OPEN_BRACKET = '(';
+    private static final char CLOSE_BRACKET = ')';
+    private static final char DECIMAL_POINT = '.';
+    private static final char MINUS_SIGN = '-';
+    private static final int DECIMAL_PLACES = 2;
+
+    private final CharSequence text;
+    private final char delimiter;
+    private final int end;
+    private int position;
+    private int tokenStart;
+    private int tokenEnd;
+    private int openBracketIndex;
+    private int closeBracketIndex;
+
+    public IngredientTokenizer(CharSequence text, char delimiter) {
+        this(text, 0, text.length(), delimiter);
+    }
+
+    /**
+     * Creates a tokenizer over the characters of text between start (inclusive) and end (exclusive).
+     */
+    public IngredientTokenizer(CharSequence text, int start, int end, char delimiter) {
+        this.text = text;
+        this.delimiter = delimiter;
+        this.end = end;
+        this.position = start;
+    }
+
+    /**
+     * Moves to the next token, with the whitespace around it removed.
+     *
+     * @return true if there is a next token, which may be empty, or false if the end of the text is reached.
+     */
+    public boolean next() {
+        if (position > end) {
+            return false;
+        }
+        int delimiterIndex = position;
+        while (delimiterIndex < end && text.charAt(delimiterIndex) != delimiter) {
+            delimiterIndex++;
+        }
+        tokenStart = skipWhitespace(position, delimiterIndex);
+        tokenEnd = trimWhitespace(tokenStart, delimiterIndex);
+        position = delimiterIndex + 1;
+        findBrackets();
+        return true;
+    }
+
+    public boolean isEmpty() {
+        return tokenStart == tokenEnd;
+    }
+
+    /**
+     * Returns true if the current token has a price, i.e. an opening bracket followed by a closing bracket.
+     */
+    public boolean hasPrice() {
+        return openBracketIndex != NOT_FOUND && closeBracketIndex != NOT_FOUND;
+    }
+
+    /**
+     * Returns the whole current token.
+     */
+    public String getToken() {
+        return text.subSequence(tokenStart, tokenEnd).toString();
+    }
+
+    /**
+     * Returns the name in the current token, which is the text before its price, or the whole token if it has no
+     * price.
+     */
+    public String getName() {
+        if (!hasPrice()) {
+            return getToken();
+        }
+        int nameEnd = trimWhitespace(tokenStart, openBracketIndex);
+        return text.subSequence(tokenStart, nameEnd).toString();
+    }
+
+    /**
+     * Returns the price between the brackets of the current token in cents, or INVALID_PRICE if the token has no
+     * price or the price does not have exactly 2 decimal places.
+     */
+    public long getPriceInCents() {
+        if (!hasPrice()) {
+            return INVALID_PRICE;
+        }
+        int priceStart = skipWhitespace(openBracketIndex + 1, closeBracketIndex);
+        int priceEnd = trimWhitespace(priceStart, closeBracketIndex);
+        return parsePriceInCents(text, priceStart, priceEnd);
+    }
+
+    /**
+     * Creates an Ingredient from the name and price of the current token.
+     *
+     * @throws IngredientPriceFormatException If the price does not have exactly 2 decimal places.
+     * @throws InvalidPriceException If the price is outside the range 0.00 to 9999999999999.99.
+     */
+    public Ingredient toIngredient() throws IngredientPriceFormatException, InvalidPriceException {
+        String name = getName();
+        long priceInCents = getPriceInCents();
+        if (priceInCents == INVALID_PRICE) {
+            throw new IngredientPriceFormatException(name);
+        }
+        return new Ingredient(name, priceInCents);
+    }
+
+    /**
+     * Parses a price of the form "-?digits.dd" between start (inclusive) and end (exclusive) into cents, without
+     * creating any intermediate string. Prices above 9999999999999.99 are returned as one cent above that maximum
+     * rather than overflowing.
+     *
+     * @return The price in cents, or INVALID_PRICE if the text is not a price with exactly 2 decimal places.
+     */
+    public static long parsePriceInCents(CharSequence text, int start, int end) {
+        int index = start;
+        boolean isNegative = index < end && text.charAt(index) == MINUS_SIGN;
+        if (isNegative) {
+            index++;
+        }
+        int decimalPointIndex = end - DECIMAL_PLACES - 1;
+        if (decimalPointIndex <= index || text.charAt(decimalPointIndex) != DECIMAL_POINT) {
+            return INVALID_PRICE;
+        }
+        long cents = 0;
+        for (; index < end; index++) {
+            if (index == decimalPointIndex) {
+                continue;
+            }
+            char digit = text.charAt(index);
+            if (digit < '0' || digit > '9') {
+                return INVALID_PRICE;
+            }
+            cents = Math.min(cents * 10 + (digit - '0'), MAX_PRICE_IN_CENTS + 1);
+        }
+        return isNegative ? -cents : cents;
+    }
+
+    /**
+     * Finds the brackets of the price, which is the last bracketed part of the current token.
+     */
+    private void findBrackets() {
+        openBracketIndex = NOT_FOUND;
+        closeBracketIndex = NOT_FOUND;
+        for (int i = tokenEnd - 1; i >= tokenStart; i--) {
+            char character = text.charAt(i);
+            if (character == CLOSE_BRACKET) {
+                closeBracketIndex = i;
+            } else if (character == OPEN_BRACKET && closeBracketIndex != NOT_FOUND) {
+                openBracketIndex = i;
+                return;
+            }
+        }
+        closeBracketIndex = NOT_FOUND;
+    }
+
+    private int skipWhitespace(int from, int to) {
+        while (from < to && Character.isWhitespace(text.charAt(from))) {
+            from++;
+        }
+        return from;
+    }
+
+    private int trimWhitespace(int from, int to) {
+        while (to > from && Character.isWhitespace(text.charAt(to - 1))) {
+            to--;
+        }
+        return to;
+    }
+}
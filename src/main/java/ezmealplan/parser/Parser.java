@@ -5,16 +5,19 @@ import ezmealplan.command.ByeCommand;
 import ezmealplan.command.ClearCommand;
 import ezmealplan.command.Command;
 import ezmealplan.command.ConsumeCommand;
+import ezmealplan.command.CookableCommand;
 import ezmealplan.command.CreateCommand;
 import ezmealplan.command.DeleteCommand;
 import ezmealplan.command.FilterCommand;
 import ezmealplan.command.HelpCommand;
 import ezmealplan.command.InventoryCommand;
 import ezmealplan.command.MistypedCommand;
+import ezmealplan.command.PlanCommand;
 import ezmealplan.command.RecipesCommand;
 import ezmealplan.command.RecommendCommand;
 import ezmealplan.command.RemoveCommand;
 import ezmealplan.command.SelectCommand;
+import ezmealplan.command.ShoplistCommand;
 import ezmealplan.command.UnknownCommand;
 import ezmealplan.command.ViewCommand;
 import ezmealplan.command.WishlistCommand;
@@ -36,8 +39,11 @@ public class Parser {
     private static final String CONSUME = "consume";
     private static final String BUY = "buy";
     private static final String INVENTORY = "inventory";
+    private static final String COOKABLE = "cookable";
+    private static final String PLAN = "plan";
+    private static final String SHOPLIST = "shoplist";
     private static final String[] allCommandStrings = {BYE, CREATE, FILTER, SELECT, WISHLIST, RECIPES, CLEAR, HELP,
-        REMOVE, VIEW, DELETE, RECOMMEND, CONSUME, BUY, INVENTORY};
+        REMOVE, VIEW, DELETE, RECOMMEND, CONSUME, BUY, INVENTORY, COOKABLE, PLAN, SHOPLIST};
 
 
     /**
@@ -66,6 +72,9 @@ public class Parser {
         case CONSUME -> parseConsume(tokens, trimmedInput);
         case BUY -> parseBuy(tokens, trimmedInput);
         case INVENTORY -> parseInventory(tokens);
+        case COOKABLE -> parseCookable(tokens);
+        case PLAN -> parsePlan(tokens, trimmedInput);
+        case SHOPLIST -> parseShoplist(tokens);
         default -> parseUnknownInput(commandWord);
         };
     }
@@ -115,7 +124,7 @@ public class Parser {
     }
 
     private static Command parseSelect(String[] tokens, String input) throws ParserException {
-        assertExactTokenCount(tokens, 2, "Select command should have exactly one argument.");
+        assertMinTokenCount(tokens, 2, "Missing arguments for select command.");
         return new SelectCommand(input);
     }
 
@@ -170,6 +179,21 @@ public class Parser {
         return new InventoryCommand();
     }
 
+    private static Command parseCookable(String[] tokens) throws ParserException {
+        assertExactTokenCount(tokens, 1, "The cookable command does not take any arguments.");
+        return new CookableCommand();
+    }
+
+    private static Command parsePlan(String[] tokens, String input) throws ParserException {
+        assertMinTokenCount(tokens, 2, "Missing arguments for plan command.");
+        return new PlanCommand(input);
+    }
+
+    private static Command parseShoplist(String[] tokens) throws ParserException {
+        assertExactTokenCount(tokens, 1, "The shoplist command does not take any arguments.");
+        return new ShoplistCommand();
+    }
+
     private static Command parseUnknownInput(String commandWord) {
         for (String actualCommandString : allCommandStrings) {
             if (commandWord.startsWith(actualCommandString)) {
@@ -0,0 +1,47 @@
+package ezmealplan.storage;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.util.Locale;
+
+/**
+ * Controls how a snapshot file is forced onto the disk before it replaces the previous file.
+ */
+public enum FsyncPolicy {
+    /** Leaves flushing to the operating system. Fastest, but a power loss may lose the latest save. */
+    NONE,
+    /** Forces the file contents onto the disk before the file is renamed. */
+    DATA,
+    /** Forces the file contents and metadata, and the directory entry after the file is renamed. */
+    FULL;
+
+    /**
+     * Returns the policy named by value, ignoring case, or DATA if value is null or not a policy name.
+     */
+    public static FsyncPolicy fromString(String value) {
+        if (value == null) {
+            return DATA;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException illegalArgumentException) {
+            return DATA;
+        }
+    }
+
+    /**
+     * Forces the channel's file onto the disk as required by this policy.
+     */
+    public void force(FileChannel channel) throws IOException {
+        switch (this) {
+        case DATA:
+            channel.force(false);
+            break;
+        case FULL:
+            channel.force(true);
+            break;
+        default:
+            break;
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package ezmealplan.storage;
+
+import ezmealplan.exceptions.EZMealPlanException;
+import ezmealplan.food.Ingredient;
+import ezmealplan.food.Meal;
+import ezmealplan.food.list.Inventory;
+import ezmealplan.food.list.MealList;
+import ezmealplan.logic.MealManager;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * An append-only journal of every change made to the Recipes List, Wishlist and Inventory.
+ * Each change is appended as one record of the form "code | data", so that the change survives a crash without
+ * rewriting the list files. On startup, the journal is replayed on top of the list files, and compaction writes the
+ * lists back into their files and empties the journal.
+ * Replaying a record over lists which already contain its change leaves them as they are, so the journal can be
+ * replayed again if the list files were written but the journal could not be emptied. For this, meals are only added
+ * or removed if they are not already added or removed, and a change of an Inventory quantity is recorded as the
+ * quantity after the change rather than as the amount bought or consumed.
+ */
+public class Journal {
+    private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
+    private static final String CREATE = "C";
+    private static final String DELETE = "D";
+    private static final String SELECT = "S";
+    private static final String REMOVE = "R";
+    private static final String CLEAR = "X";
+    private static final String QUANTITY = "Q";
+    // Relative quantity records, written before the QUANTITY record. They are only replayed for older journals.
+    private static final String BUY = "B";
+    private static final String CONSUME = "U";
+    private static final String SEPARATOR = " | ";
+    private static final String SPLIT_REGEX = "\\s*\\|\\s*";
+    private static final int COMPACTION_THRESHOLD = 1000;
+    private static File journalFile;
+    private static BufferedWriter journalWriter;
+    private static int recordCount;
+
+    /**
+     * Opens the journal file for appending. Records are ignored until the journal is opened.
+     */
+    public static void open() throws IOException {
+        open(Storage.getJournalFile());
+    }
+
+    /**
+     * Opens selectedFile as the journal for appending.
+     */
+    static void open(File selectedFile) throws IOException {
+        close();
+        journalFile = selectedFile;
+        journalWriter = new BufferedWriter(new FileWriter(journalFile, StandardCharsets.UTF_8, true));
+        logger.fine("Opened the journal with " + recordCount + " records.");
+    }
+
+    public static boolean isOpen() {
+        return journalWriter != null;
+    }
+
+    /**
+     * Returns true if the journal has grown large enough that it should be folded back into the list files.
+     */
+    public static boolean isCompactionDue() {
+        return recordCount >= COMPACTION_THRESHOLD;
+    }
+
+    public static void recordCreate(Meal meal) {
+        append(CREATE, meal.toDataString());
+    }
+
+    public static void recordDelete(Meal meal) {
+        append(DELETE, meal.toDataString());
+    }
+
+    public static void recordSelect(Meal meal) {
+        append(SELECT, meal.toDataString());
+    }
+
+    /**
+     * Records the selection of several meals, flushing the journal once after all of them are written.
+     */
+    public static void recordSelects(List<Meal> meals) {
+        appendAll(SELECT, meals);
+    }
+
+    public static void recordRemove(Meal meal) {
+        append(REMOVE, meal.toDataString());
+    }
+
+    /**
+     * Records the deletion of several meals, flushing the journal once after all of them are written.
+     */
+    public static void recordDeletes(List<Meal> meals) {
+        appendAll(DELETE, meals);
+    }
+
+    /**
+     * Records the removal of several meals, flushing the journal once after all of them are written.
+     */
+    public static void recordRemoves(List<Meal> meals) {
+        appendAll(REMOVE, meals);
+    }
+
+    public static void recordClear() {
+        append(CLEAR, "");
+    }
+
+    /**
+     * Records that the quantity of the Ingredient in the Inventory is now quantity, after it was bought or consumed.
+     */
+    public static void recordQuantity(Ingredient ingredient, int quantity) {
+        append(QUANTITY, ingredient.toDataString() + SEPARATOR + quantity);
+    }
+
+    /**
+     * Appends a record to the journal and flushes it to the file, so that it is not lost if the application
+     * stops unexpectedly.
+     */
+    private static void append(String code, String data) {
+        if (!isOpen()) {
+            return;
+        }
+        try {
+            journalWriter.write(data.isEmpty() ? code : code + SEPARATOR + data);
+            journalWriter.newLine();
+            journalWriter.flush();
+            recordCount++;
+        } catch (IOException ioException) {
+            logger.warning("Could not write to the journal: " + ioException.getMessage());
+        }
+    }
+
+    private static void appendAll(String code, List<Meal> meals) {
+        if (!isOpen()) {
+            return;
+        }
+        try {
+            for (Meal meal : meals) {
+                journalWriter.write(code + SEPARATOR + meal.toDataString());
+                journalWriter.newLine();
+                recordCount++;
+            }
+            journalWriter.flush();
+        } catch (IOException ioException) {
+            logger.warning("Could not write to the journal: " + ioException.getMessage());
+        }
+    }
+
+    /**
+     * Applies every record in the journal file to the lists in mealManager, in the order they were written.
+     * A last record which was not completely written is ignored.
+     *
+     * @return The number of records replayed.
+     */
+    public static int replay(MealManager mealManager) throws IOException {
+        return replay(mealManager, Storage.getJournalFile());
+    }
+
+    /**
+     * Applies every record in selectedFile to the lists in mealManager, as replay(mealManager) does.
+     */
+    static int replay(MealManager mealManager, File selectedFile) throws IOException {
+        journalFile = selectedFile;
+        recordCount = 0;
+        if (!journalFile.exists()) {
+            return recordCount;
+        }
+        String journalContent = Files.readString(journalFile.toPath(), StandardCharsets.UTF_8);
+        int lineStart = 0;
+        int lineEnd = journalContent.indexOf('\n');
+        while (lineEnd != -1) {
+            String record = journalContent.substring(lineStart, lineEnd).trim();
+            if (!record.isEmpty()) {
+                replayRecord(record, mealManager);
+                recordCount++;
+            }
+            lineStart = lineEnd + 1;
+            lineEnd = journalContent.indexOf('\n', lineStart);
+        }
+        logger.fine("Replayed " + recordCount + " journal records.");
+        return recordCount;
+    }
+
+    private static void replayRecord(String record, MealManager mealManager) {
+        int separatorIndex = record.indexOf('|');
+        String code = (separatorIndex == -1 ? record : record.substring(0, separatorIndex)).trim();
+        String data = separatorIndex == -1 ? "" : record.substring(separatorIndex + 1).trim();
+        try {
+            switch (code) {
+            case CREATE -> replayAdd(data, mealManager.getRecipesList(), mealManager);
+            case DELETE -> replayDelete(data, mealManager);
+            case SELECT -> replayAdd(data, mealManager.getWishList(), mealManager);
+            case REMOVE -> replayRemove(data, mealManager.getWishList(), mealManager);
+            case CLEAR -> mealManager.getWishList().getList().clear();
+            case QUANTITY -> replayQuantity(data, mealManager.getInventory());
+            case BUY -> replayBuy(data, mealManager.getInventory());
+            case CONSUME -> replayConsume(data, mealManager.getInventory());
+            default -> logger.warning("Skipped unknown journal record: " + record);
+            }
+        } catch (EZMealPlanException | IllegalArgumentException exception) {
+            logger.warning("Skipped journal record \"" + record + "\": " + exception.getMessage());
+        }
+    }
+
+    private static void replayAdd(String data, MealList mealList, MealManager mealManager)
+            throws EZMealPlanException {
+        Meal meal = Storage.parseMeal(data);
+        if (meal != null && !mealList.contains(meal)) {
+            mealManager.addMeal(meal, mealList);
+        }
+    }
+
+    private static void replayDelete(String data, MealManager mealManager) throws EZMealPlanException {
+        replayRemove(data, mealManager.getRecipesList(), mealManager);
+        replayRemove(data, mealManager.getWishList(), mealManager);
+    }
+
+    private static void replayRemove(String data, MealList mealList, MealManager mealManager)
+            throws EZMealPlanException {
+        Meal meal = Storage.parseMeal(data);
+        if (meal != null && mealList.contains(meal)) {
+            mealManager.removeMeal(mealList.getIndex(meal), mealList);
+        }
+    }
+
+    /**
+     * Changes the quantity of the Ingredient in the Inventory to the recorded quantity, by adding or removing only
+     * the difference.
+     */
+    private static void replayQuantity(String data, Inventory inventory) throws EZMealPlanException {
+        String[] parts = data.split(SPLIT_REGEX);
+        Ingredient ingredient = parseIngredient(parts);
+        int quantity = parseQuantity(parts);
+        int currentQuantity = inventory.getIngredientAmount(ingredient);
+        if (quantity > currentQuantity) {
+            inventory.addIngredient(ingredient, quantity - currentQuantity);
+        } else if (quantity < currentQuantity) {
+            inventory.removeIngredient(ingredient, currentQuantity - quantity);
+        }
+    }
+
+    private static void replayBuy(String data, Inventory inventory) throws EZMealPlanException {
+        String[] parts = data.split(SPLIT_REGEX);
+        inventory.addIngredient(parseIngredient(parts), parseQuantity(parts));
+    }
+
+    private static void replayConsume(String data, Inventory inventory) throws EZMealPlanException {
+        String[] parts = data.split(SPLIT_REGEX);
+        Ingredient ingredient = parseIngredient(parts);
+        if (inventory.hasIngredient(ingredient)) {
+            inventory.removeIngredient(ingredient, parseQuantity(parts));
+        }
+    }
+
+    private static Ingredient parseIngredient(String[] parts) throws EZMealPlanException {
+        int validLength = 3;
+        if (parts.length < validLength) {
+            throw new IllegalArgumentException("Invalid ingredient data.");
+        }
+        int nameIndex = 0;
+        int priceIndex = 1;
+        return new Ingredient(parts[nameIndex], parts[priceIndex]);
+    }
+
+    private static int parseQuantity(String[] parts) {
+        int quantityIndex = 2;
+        return Integer.parseInt(parts[quantityIndex]);
+    }
+
+    /**
+     * Empties the journal after its records have been folded back into the list files.
+     */
+    public static void reset() throws IOException {
+        if (journalFile == null) {
+            return;
+        }
+        close();
+        Storage.clearFile(journalFile.getPath());
+        recordCount = 0;
+        logger.fine("Compacted the journal into the list files.");
+    }
+
+    /**
+     * Closes the journal file. Records are ignored until the journal is opened again.
+     */
+    public static void close() {
+        if (!isOpen()) {
+            return;
+        }
+        try {
+            journalWriter.close();
+        } catch (IOException ioException) {
+            logger.warning("Could not close the journal: " + ioException.getMessage());
+        }
+        journalWriter = null;
+    }
+}
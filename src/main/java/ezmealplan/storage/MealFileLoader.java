@@ -0,0 +1,180 @@
+package ezmealplan.storage;
+
+import ezmealplan.food.Meal;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.logging.Logger;
+
+/**
+ * Loads a MealList file by reading it in newline-aligned chunks into heap buffers and parsing each chunk.
+ * The chunks are read with positional reads rather than memory-mapped, so that the file is no longer in use once it
+ * is loaded and can be replaced by SnapshotWriter straight away, which fails on some platforms while a mapping of
+ * the file is still alive.
+ * Files larger than PARALLEL_THRESHOLD are parsed on the common fork-join pool, one task per chunk. The meals and
+ * error messages of every chunk are merged in chunk order, so the result and the order of the error messages are
+ * the same as when the file is read line by line.
+ */
+public class MealFileLoader {
+    private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
+    private static final long PARALLEL_THRESHOLD = 1L << 20;
+    private static final long MIN_CHUNK_SIZE = 1L << 18;
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final int BOUNDARY_SCAN_SIZE = 4096;
+
+    /**
+     * Parses every line of the file into a Meal, printing the errors found in order of their line number.
+     * Overlay directive lines are not parsed, but added to directives in the order they appear.
+     *
+     * @return The meals in the file, in the order they appear.
+     */
+    public static List<Meal> load(File file, List<String> directives) throws IOException {
+        long startTime = System.nanoTime();
+        List<Meal> meals = new ArrayList<>();
+        List<String> errorMessages = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            List<ChunkTask> chunkTasks = createChunkTasks(channel, fileSize);
+            boolean isParallel = chunkTasks.size() > 1;
+            if (isParallel) {
+                ForkJoinTask.invokeAll(chunkTasks);
+            }
+            for (ChunkTask chunkTask : chunkTasks) {
+                ChunkResult chunkResult = isParallel ? chunkTask.join() : chunkTask.compute();
+                meals.addAll(chunkResult.meals);
+                errorMessages.addAll(chunkResult.errorMessages);
+                directives.addAll(chunkResult.directives);
+            }
+            double elapsedMillis = (System.nanoTime() - startTime) / 1_000_000.0;
+            logger.fine(String.format("Loaded %d meals from %s (%d bytes, %d chunks) in %.3f ms", meals.size(),
+                    file.getPath(), fileSize, chunkTasks.size(), elapsedMillis));
+        }
+        Storage.printErrorMessages(errorMessages);
+        return meals;
+    }
+
+    /**
+     * Splits the file into chunks which each start at the beginning of a line and end after a newline (or at the
+     * end of the file).
+     */
+    private static List<ChunkTask> createChunkTasks(FileChannel channel, long fileSize) throws IOException {
+        List<ChunkTask> chunkTasks = new ArrayList<>();
+        long chunkSize = getChunkSize(fileSize);
+        long chunkStart = 0;
+        while (chunkStart < fileSize) {
+            long chunkEnd = findLineEnd(channel, chunkStart + chunkSize, fileSize);
+            chunkTasks.add(new ChunkTask(channel, chunkStart, chunkEnd));
+            chunkStart = chunkEnd;
+        }
+        return chunkTasks;
+    }
+
+    private static long getChunkSize(long fileSize) {
+        if (fileSize < PARALLEL_THRESHOLD) {
+            return Math.max(fileSize, 1);
+        }
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        long chunkSize = fileSize / ((long) parallelism * CHUNKS_PER_THREAD);
+        return Math.min(Math.max(chunkSize, MIN_CHUNK_SIZE), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the position just after the first newline at or after position, or fileSize if there is none.
+     */
+    private static long findLineEnd(FileChannel channel, long position, long fileSize) throws IOException {
+        ByteBuffer scanBuffer = ByteBuffer.allocate(BOUNDARY_SCAN_SIZE);
+        long scanPosition = position;
+        while (scanPosition < fileSize) {
+            scanBuffer.clear();
+            int bytesRead = channel.read(scanBuffer, scanPosition);
+            if (bytesRead <= 0) {
+                break;
+            }
+            for (int i = 0; i < bytesRead; i++) {
+                if (scanBuffer.get(i) == '\n') {
+                    return scanPosition + i + 1;
+                }
+            }
+            scanPosition += bytesRead;
+        }
+        return fileSize;
+    }
+
+    /**
+     * The meals, error messages and directives parsed from one chunk, in line order.
+     */
+    private static class ChunkResult {
+        private final List<Meal> meals = new ArrayList<>();
+        private final List<String> errorMessages = new ArrayList<>();
+        private final List<String> directives = new ArrayList<>();
+    }
+
+    /**
+     * Parses the lines between chunkStart and chunkEnd of a file.
+     */
+    private static class ChunkTask extends RecursiveTask<ChunkResult> {
+        private static final long serialVersionUID = 1L;
+        private final FileChannel channel;
+        private final long chunkStart;
+        private final long chunkEnd;
+
+        ChunkTask(FileChannel channel, long chunkStart, long chunkEnd) {
+            this.channel = channel;
+            this.chunkStart = chunkStart;
+            this.chunkEnd = chunkEnd;
+        }
+
+        @Override
+        protected ChunkResult compute() {
+            ChunkResult chunkResult = new ChunkResult();
+            try {
+                parseLines(readChunk(), chunkResult);
+            } catch (IOException ioException) {
+                chunkResult.errorMessages.add("Could not read meals: " + ioException.getMessage());
+            }
+            return chunkResult;
+        }
+
+        /**
+         * Returns the bytes of the chunk, read with positional reads so that chunks can be read at the same time.
+         */
+        private byte[] readChunk() throws IOException {
+            byte[] chunk = new byte[(int) (chunkEnd - chunkStart)];
+            ByteBuffer chunkBuffer = ByteBuffer.wrap(chunk);
+            while (chunkBuffer.hasRemaining()) {
+                int bytesRead = channel.read(chunkBuffer, chunkStart + chunkBuffer.position());
+                if (bytesRead < 0) {
+                    throw new IOException("The file ended before the end of the chunk.");
+                }
+            }
+            return chunk;
+        }
+
+        private void parseLines(byte[] chunk, ChunkResult chunkResult) {
+            int lineStart = 0;
+            for (int i = 0; i <= chunk.length; i++) {
+                if (i < chunk.length && chunk[i] != '\n') {
+                    continue;
+                }
+                String line = new String(chunk, lineStart, i - lineStart, StandardCharsets.UTF_8).trim();
+                if (!line.isEmpty() && Storage.isDirective(line)) {
+                    chunkResult.directives.add(line);
+                } else if (!line.isEmpty()) {
+                    Meal meal = Storage.parseMeal(line, chunkResult.errorMessages);
+                    if (meal != null) {
+                        chunkResult.meals.add(meal);
+                    }
+                }
+                lineStart = i + 1;
+            }
+        }
+    }
+}
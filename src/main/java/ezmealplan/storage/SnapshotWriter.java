@@ -0,0 +1,127 @@
+package ezmealplan.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Logger;
+
+/**
+ * Writes a whole list file in one pass. The records are streamed through a single buffered FileChannel into a
+ * temporary file next to the target, which is forced to the disk according to the FsyncPolicy and then renamed
+ * over the target. The target therefore always holds either the previous save or the new one, never a partial file.
+ */
+public class SnapshotWriter {
+    private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
+    private static final String FSYNC_PROPERTY = "ezmealplan.fsync";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static FsyncPolicy fsyncPolicy = FsyncPolicy.fromString(System.getProperty(FSYNC_PROPERTY));
+
+    public static FsyncPolicy getFsyncPolicy() {
+        return fsyncPolicy;
+    }
+
+    public static void setFsyncPolicy(FsyncPolicy policy) {
+        fsyncPolicy = policy;
+    }
+
+    /**
+     * Atomically replaces the file at filePath with the records, one record per line.
+     *
+     * @return The number of bytes written.
+     */
+    public static long write(Iterable<String> records, String filePath) throws IOException {
+        long startTime = System.nanoTime();
+        Path target = Path.of(filePath).toAbsolutePath();
+        Path directory = target.getParent();
+        Files.createDirectories(directory);
+        Path tempFile = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+        long bytesWritten;
+        try {
+            bytesWritten = writeRecords(records, tempFile);
+            moveAtomically(tempFile, target);
+        } catch (IOException | RuntimeException exception) {
+            Files.deleteIfExists(tempFile);
+            throw exception;
+        }
+        if (fsyncPolicy == FsyncPolicy.FULL) {
+            forceDirectory(directory);
+        }
+        double elapsedMillis = (System.nanoTime() - startTime) / 1_000_000.0;
+        logger.info(String.format("Saved %d bytes to %s in %.3f ms (fsync: %s)", bytesWritten, filePath,
+                elapsedMillis, fsyncPolicy));
+        return bytesWritten;
+    }
+
+    private static long writeRecords(Iterable<String> records, Path tempFile) throws IOException {
+        CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        String lineSeparator = System.lineSeparator();
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (String record : records) {
+                encode(record, encoder, buffer, channel);
+                encode(lineSeparator, encoder, buffer, channel);
+            }
+            drain(buffer, channel);
+            fsyncPolicy.force(channel);
+            return channel.size();
+        }
+    }
+
+    /**
+     * Encodes text into the buffer, writing the buffer to the channel whenever it fills up.
+     */
+    private static void encode(String text, CharsetEncoder encoder, ByteBuffer buffer, FileChannel channel)
+            throws IOException {
+        CharBuffer chars = CharBuffer.wrap(text);
+        encoder.reset();
+        while (true) {
+            CoderResult result = encoder.encode(chars, buffer, true);
+            if (result.isOverflow()) {
+                drain(buffer, channel);
+            } else if (result.isUnderflow()) {
+                break;
+            } else {
+                result.throwException();
+            }
+        }
+    }
+
+    private static void drain(ByteBuffer buffer, FileChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException atomicMoveNotSupportedException) {
+            logger.warning("Atomic rename is not supported, replacing " + target + " directly.");
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the directory entry of the renamed file onto the disk. Not every platform allows a directory to be
+     * opened, in which case this step is skipped.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel directoryChannel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            directoryChannel.force(true);
+        } catch (IOException ioException) {
+            logger.fine("Could not force directory " + directory + ": " + ioException.getMessage());
+        }
+    }
+}
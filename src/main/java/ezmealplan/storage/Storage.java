@@ -4,24 +4,43 @@ import ezmealplan.exceptions.EZMealPlanException;
 import ezmealplan.food.Ingredient;
 import ezmealplan.food.list.Inventory;
 import ezmealplan.food.Meal;
+import ezmealplan.logic.MealIds;
 import ezmealplan.logic.MealManager;
+import ezmealplan.parser.IngredientTokenizer;
 import ezmealplan.storage.presetmeals.PresetMeals;
 
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
+import java.util.Set;
+import java.util.logging.Logger;
 
 public class Storage {
+    private static final Logger logger = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
     private static File wishListFile;
     private static File recipesListFile;
     private static File inventoryListFile;
+    private static File journalFile;
+    private static File mealIdsFile;
     private static final String WISH_LIST_FILE_PATH = "data/wishList.txt";
     private static final String RECIPES_LIST_FILE_PATH = "data/recipesList.txt";
     private static final String INVENTORY_LIST_FILE_PATH = "data/inventoryList.txt";
+    private static final String JOURNAL_FILE_PATH = "data/journal.txt";
+    private static final String MEAL_IDS_FILE_PATH = "data/mealIds.txt";
+    private static final String SPLIT_REGEX = "\\s*\\|\\s*";
+    private static final char MEAL_DELIMITER = '|';
+    private static final char DIRECTIVE_PREFIX = '|';
+    private static final String OVERLAY_HEADER = "| preset catalog";
+    private static final String TOMBSTONE_PREFIX = "| deleted | ";
 
     public static File getWishListFile() {
         return wishListFile;
@@ -35,6 +54,10 @@ public class Storage {
         return inventoryListFile;
     }
 
+    public static File getJournalFile() {
+        return journalFile;
+    }
+
     public static String getWishListFilePath() {
         return WISH_LIST_FILE_PATH;
     }
@@ -48,15 +71,20 @@ public class Storage {
     }
 
     /**
-     * Creates the files for Recipes List, Wishlist and Inventory in the data directory, if they do not exist already.
+     * Creates the files for Recipes List, Wishlist, Inventory, meal IDs and the Journal in the data directory, if
+     * they do not exist already.
      */
     public static void createListFiles() throws IOException {
         wishListFile = new File(WISH_LIST_FILE_PATH);
         recipesListFile = new File(RECIPES_LIST_FILE_PATH);
         inventoryListFile = new File(INVENTORY_LIST_FILE_PATH);
+        journalFile = new File(JOURNAL_FILE_PATH);
+        mealIdsFile = new File(MEAL_IDS_FILE_PATH);
         createListFile(recipesListFile);
         createListFile(wishListFile);
         createListFile(inventoryListFile);
+        createListFile(journalFile);
+        createListFile(mealIdsFile);
     }
 
     private static void createListFile(File listFile) throws IOException {
@@ -76,9 +104,16 @@ public class Storage {
      * @param mealManager The mealManager handling the application's Inventory.
      */
     public static void loadExistingInventory(MealManager mealManager) throws FileNotFoundException {
+        loadExistingInventory(mealManager, inventoryListFile);
+    }
+
+    /**
+     * Loads the Inventory saved in selectedFile, with one "name | price | quantity" line per Ingredient.
+     */
+    static void loadExistingInventory(MealManager mealManager, File selectedFile) throws FileNotFoundException {
         Inventory inventory = mealManager.getInventory();
-        if (inventoryListFile.exists()) {
-            Scanner scanner = new Scanner(inventoryListFile);
+        if (selectedFile.exists()) {
+            Scanner scanner = new Scanner(selectedFile);
             while (scanner.hasNextLine()) {
                 String line = scanner.nextLine().trim();
                 if (line.isEmpty()) {
@@ -92,98 +127,187 @@ public class Storage {
 
     /**
      * Opens a MealList file in the data folder and loads its contents.
+     * If the file is a preset overlay, the preset meals which it does not mark as deleted are loaded as well.
      *
      * @param selectedFile The file to open from.
      * @return A List of meals that were in the file.
      */
     public static List<Meal> loadExistingList(File selectedFile) throws IOException {
-        List<Meal> meals = new ArrayList<>();
-        if (selectedFile.exists()) {
-            Scanner scanner = new Scanner(selectedFile);
-            while (scanner.hasNextLine()) {
-                String line = scanner.nextLine().trim();
-                if (line.isEmpty()) {
-                    continue;
+        List<String> directives = new ArrayList<>();
+        List<Meal> meals = loadMealFile(selectedFile, directives);
+        return directives.isEmpty() ? meals : applyPresetOverlay(directives, meals);
+    }
+
+    /**
+     * Loads the Recipes List, which is the preset catalog with the changes recorded in the Recipes List file applied
+     * over it. If the file is empty, only the preset meals are loaded. A file written before the Recipes List was
+     * saved as an overlay holds the whole Recipes List, and is loaded as it is.
+     *
+     * @return A List of meals in the Recipes List.
+     */
+    public static List<Meal> loadRecipesList() throws IOException {
+        List<String> directives = new ArrayList<>();
+        List<Meal> meals = loadMealFile(recipesListFile, directives);
+        if (!directives.isEmpty()) {
+            return applyPresetOverlay(directives, meals);
+        }
+        return meals.isEmpty() ? loadPresetMeals() : meals;
+    }
+
+    /**
+     * Gives the meals of the Recipes List the meal IDs saved in the meal IDs file, which must be loaded after the
+     * Recipes List.
+     *
+     * @param mealManager The mealManager handling the application's meal IDs.
+     */
+    public static void loadMealIds(MealManager mealManager) throws IOException {
+        loadMealIds(mealManager, mealIdsFile);
+    }
+
+    /**
+     * Gives the meals of the Recipes List the meal IDs saved in selectedFile. The file holds the next unused ID on
+     * its first line, followed by the ID and identity key of every meal, so that an ID is only given back to its own
+     * meal. If the file is empty or not valid, the meals keep the IDs they were given as they were loaded.
+     *
+     * @param mealManager The mealManager handling the application's meal IDs.
+     * @param selectedFile The file to load the meal IDs from.
+     */
+    public static void loadMealIds(MealManager mealManager, File selectedFile) throws IOException {
+        if (selectedFile == null || !selectedFile.exists()) {
+            return;
+        }
+        List<String> lines = Files.readAllLines(selectedFile.toPath(), StandardCharsets.UTF_8);
+        if (lines.isEmpty()) {
+            return;
+        }
+        try {
+            int nextId = Integer.parseInt(lines.get(0).trim());
+            Map<String, Integer> savedIdsByKey = new HashMap<>();
+            for (String line : lines.subList(1, lines.size())) {
+                int separatorIndex = line.indexOf(MealIds.ID_SEPARATOR);
+                if (separatorIndex == -1) {
+                    throw new NumberFormatException("Missing identity key: " + line);
                 }
-                // Split the line by "|" with optional spaces around it.
-                String[] parts = line.split("\\s*\\|\\s*");
-                int minLengthToHaveIng = 2;
-                if (parts.length < minLengthToHaveIng) {
-                    continue; // Skip lines that don't have ingredients.
+                int id = Integer.parseInt(line.substring(0, separatorIndex));
+                if (savedIdsByKey.put(line.substring(separatorIndex + 1), id) != null) {
+                    throw new NumberFormatException("Repeated identity key: " + line);
                 }
-                checkValidMeal(parts, meals);
             }
-            scanner.close();
+            mealManager.getMealIds().restore(savedIdsByKey, nextId);
+        } catch (NumberFormatException numberFormatException) {
+            logger.warning("Ignored the meal IDs file, as it is not valid: " + numberFormatException.getMessage());
         }
-        return meals;
+    }
+
+    private static List<Meal> loadMealFile(File selectedFile, List<String> directives) throws IOException {
+        if (!selectedFile.exists()) {
+            return new ArrayList<>();
+        }
+        return MealFileLoader.load(selectedFile, directives);
     }
 
     /**
-     * Loads preset meals from the PresetMeals class.
-     * This is used when no files for the Recipes List is found in the data directory.
-     *
-     * @return A List of meals that were in the PresetMeals class.
+     * Returns true if the line is an overlay directive rather than a Meal. A Meal always starts with its name, so
+     * its data line never starts with the separator.
      */
-    public static List<Meal> loadPresetMeals() {
-        String[] allInitialisedMeals = PresetMeals.createPresetMeals();
+    static boolean isDirective(String line) {
+        return line.charAt(0) == DIRECTIVE_PREFIX;
+    }
+
+    /**
+     * Returns the preset meals that are not deleted by a tombstone in directives, followed by the added meals.
+     */
+    private static List<Meal> applyPresetOverlay(List<String> directives, List<Meal> addedMeals) {
+        Set<Meal> deletedPresets = new HashSet<>();
+        List<String> errorMessages = new ArrayList<>();
+        for (String directive : directives) {
+            if (directive.startsWith(TOMBSTONE_PREFIX)) {
+                Meal deletedPreset = parseMeal(directive.substring(TOMBSTONE_PREFIX.length()), errorMessages);
+                if (deletedPreset != null) {
+                    deletedPresets.add(deletedPreset);
+                }
+            }
+        }
+        printErrorMessages(errorMessages);
         List<Meal> meals = new ArrayList<>();
-        for (String eachInitialisedMeal : allInitialisedMeals) {
-            String[] parts = eachInitialisedMeal.split("\\s*\\|\\s*");
-            int minLengthToHaveIng = 2;
-            if (parts.length < minLengthToHaveIng) {
-                continue; // Skip initialised meal that don't have ingredients if there is any.
+        for (Meal presetMeal : PresetMeals.getCatalog()) {
+            if (!deletedPresets.contains(presetMeal)) {
+                meals.add(presetMeal);
             }
-            checkValidMeal(parts, meals);
         }
+        meals.addAll(addedMeals);
         return meals;
     }
 
-    private static void checkValidMeal(String[] parts, List<Meal> meals) {
+    /**
+     * Parses a line in the format "mealName | ingredient1Name (price1) | ingredient2Name (price2)..." into a Meal,
+     * printing any error found.
+     *
+     * @return The parsed Meal, or null if the line has no ingredients or is not a valid Meal.
+     */
+    static Meal parseMeal(String line) {
+        List<String> errorMessages = new ArrayList<>();
+        Meal meal = parseMeal(line, errorMessages);
+        printErrorMessages(errorMessages);
+        return meal;
+    }
+
+    /**
+     * Parses a line in the format "mealName | ingredient1Name (price1) | ingredient2Name (price2)..." into a Meal.
+     * Any error found is added to errorMessages instead of being printed, so that callers can report them in order.
+     *
+     * @return The parsed Meal, or null if the line has no ingredients or is not a valid Meal.
+     */
+    static Meal parseMeal(String line, List<String> errorMessages) {
+        IngredientTokenizer tokenizer = new IngredientTokenizer(line, MEAL_DELIMITER);
+        tokenizer.next();
+        String mealName = tokenizer.getToken();
+        Meal meal = null;
         try {
-            checkMealsBeforeAdd(parts, meals);
-        } catch (Exception exception) {
-            //Throw error message if detected an ingredient with invalid price and skips to the next meal.
-            System.err.println(exception.getMessage());
-        }
-    }
-
-    private static void checkMealsBeforeAdd(String[] parts, List<Meal> meals)
-            throws Exception {
-        int mealNameIndex = 0;
-        String mealName = parts[mealNameIndex];
-        Meal meal = addIngredientsToMeal(mealName, parts);
-        meals.add(meal);
-    }
-
-    private static Meal addIngredientsToMeal(String mealName, String[] parts)
-            throws Exception {
-        Meal meal = new Meal(mealName);
-        // For each remaining part, extract ingredient name and its actual price.
-        for (int i = 1; i < parts.length; i++) {
-            try {
-                Ingredient ingredient = getIngredient(parts[i]);
-                meal.addIngredient(ingredient);
-            } catch (Exception exception) {
-                System.err.println(exception.getMessage());
+            while (tokenizer.next()) {
+                if (tokenizer.isEmpty()) {
+                    continue;
+                }
+                if (meal == null) {
+                    meal = new Meal(mealName);
+                }
+                addIngredientToMeal(tokenizer, meal, errorMessages);
             }
+        } catch (EZMealPlanException ezMealPlanException) {
+            //Record error message if the meal cannot be created and skips to the next meal.
+            errorMessages.add(ezMealPlanException.getMessage());
+            return null;
         }
-        return meal;
+        return meal; // Lines that don't have ingredients are skipped.
     }
 
-    private static Ingredient getIngredient(String parts) throws Exception {
-        String ingredientStr = parts.trim();
-        int openBracketIndex = ingredientStr.indexOf("(");
-        int closeBracketIndex = ingredientStr.indexOf(")");
-        int notFoundIndex = -1;
-        if (openBracketIndex == notFoundIndex || closeBracketIndex == notFoundIndex) {
-            throw new IllegalArgumentException("Invalid ingredient format: " + ingredientStr);
+    static void printErrorMessages(List<String> errorMessages) {
+        for (String errorMessage : errorMessages) {
+            System.err.println(errorMessage);
+        }
+    }
+
+    /**
+     * Loads preset meals from the preset catalog.
+     * This is used when the Recipes List file in the data directory is empty.
+     *
+     * @return A List of meals that are in the preset catalog.
+     */
+    public static List<Meal> loadPresetMeals() {
+        return new ArrayList<>(PresetMeals.getCatalog());
+    }
+
+    private static void addIngredientToMeal(IngredientTokenizer tokenizer, Meal meal,
+                                            List<String> errorMessages) {
+        if (!tokenizer.hasPrice()) {
+            errorMessages.add("Invalid ingredient format: " + tokenizer.getToken());
+            return;
+        }
+        try {
+            meal.addIngredient(tokenizer.toIngredient());
+        } catch (EZMealPlanException ezMealPlanException) {
+            errorMessages.add(ezMealPlanException.getMessage());
         }
-        int startIndex = 0;
-        int indexAdjustment = 1;
-        int afterOpenBracketIndex = openBracketIndex + indexAdjustment;
-        String ingredientName = ingredientStr.substring(startIndex, openBracketIndex).trim();
-        String priceStr = ingredientStr.substring(afterOpenBracketIndex, closeBracketIndex).trim();
-        return new Ingredient(ingredientName, priceStr);
     }
 
     /**
@@ -195,6 +319,115 @@ public class Storage {
         }
     }
 
+    /**
+     * Atomically replaces the file at the designated filePath with each Meal in its data format.
+     *
+     * @return The number of bytes written.
+     */
+    public static long writeMealsToFile(List<Meal> meals, String filePath) throws IOException {
+        Iterable<String> mealData = () -> meals.stream().map(Meal::toDataString).iterator();
+        return SnapshotWriter.write(mealData, filePath);
+    }
+
+    /**
+     * Atomically replaces the Recipes List file at the designated filePath with the Recipes List, saved as an overlay
+     * of the preset catalog. Only the deleted preset meals, as tombstones, and the meals which are not preset meals
+     * are written. If the preset catalog is not available, the whole Recipes List is written instead.
+     *
+     * @return The number of bytes written.
+     */
+    public static long writeRecipesListToFile(List<Meal> recipes, String filePath) throws IOException {
+        List<Meal> presetMeals = PresetMeals.getCatalog();
+        if (presetMeals.isEmpty()) {
+            return writeMealsToFile(recipes, filePath);
+        }
+        Set<Meal> recipesSet = new HashSet<>(recipes);
+        Set<Meal> presetMealsSet = new HashSet<>(presetMeals);
+        List<String> overlay = new ArrayList<>();
+        overlay.add(OVERLAY_HEADER);
+        for (Meal presetMeal : presetMeals) {
+            if (!recipesSet.contains(presetMeal)) {
+                overlay.add(TOMBSTONE_PREFIX + presetMeal.toDataString());
+            }
+        }
+        for (Meal meal : recipes) {
+            if (!presetMealsSet.contains(meal)) {
+                overlay.add(meal.toDataString());
+            }
+        }
+        return SnapshotWriter.write(overlay, filePath);
+    }
+
+    /**
+     * Atomically replaces the meal IDs file at the designated filePath with the next unused ID, followed by the ID and
+     * identity key of every meal of the Recipes List.
+     *
+     * @return The number of bytes written.
+     */
+    public static long writeMealIdsToFile(MealIds mealIds, String filePath) throws IOException {
+        return SnapshotWriter.write(mealIds.toDataArray(), filePath);
+    }
+
+    /**
+     * Atomically replaces the file at the designated filePath with the lines.
+     *
+     * @return The number of bytes written.
+     */
+    public static long writeLinesToFile(List<String> lines, String filePath) throws IOException {
+        return SnapshotWriter.write(lines, filePath);
+    }
+
+    /**
+     * Writes each of the Recipes List, Wishlist and Inventory in mealManager which changed since it was last saved
+     * to its file, and empties the Journal, whose records are then contained in the files. The meal IDs are saved
+     * along with the Recipes List, so that replaying the Journal from then on gives every meal the same ID again.
+     * If a list cannot be written, or the Journal cannot be emptied afterwards, the Journal is left as it is. It can
+     * still be replayed over the lists which were written, as replaying a record twice does not change them again.
+     */
+    public static void compact(MealManager mealManager) throws IOException {
+        long bytesWritten = 0;
+        long bytesSkipped = 0;
+        if (mealManager.isRecipesListModified()) {
+            bytesWritten += writeRecipesListToFile(mealManager.getRecipesList().getList(), RECIPES_LIST_FILE_PATH);
+        } else {
+            bytesSkipped += getFileSize(RECIPES_LIST_FILE_PATH);
+        }
+        if (mealManager.isRecipesListModified() || getFileSize(MEAL_IDS_FILE_PATH) == 0) {
+            bytesWritten += writeMealIdsToFile(mealManager.getMealIds(), MEAL_IDS_FILE_PATH);
+        } else {
+            bytesSkipped += getFileSize(MEAL_IDS_FILE_PATH);
+        }
+        if (mealManager.isWishListModified()) {
+            bytesWritten += writeMealsToFile(mealManager.getWishList().getList(), WISH_LIST_FILE_PATH);
+        } else {
+            bytesSkipped += getFileSize(WISH_LIST_FILE_PATH);
+        }
+        if (mealManager.isInventoryModified()) {
+            bytesWritten += writeLinesToFile(mealManager.getInventory().toDataArray(), INVENTORY_LIST_FILE_PATH);
+        } else {
+            bytesSkipped += getFileSize(INVENTORY_LIST_FILE_PATH);
+        }
+        logSavedBytes(bytesWritten, bytesSkipped);
+        mealManager.markListsSaved();
+        Journal.reset();
+    }
+
+    /**
+     * Returns the size of the file at the designated filePath in bytes, or 0 if it does not exist.
+     */
+    public static long getFileSize(String filePath) {
+        return new File(filePath).length();
+    }
+
+    /**
+     * Logs how many bytes were written to the list files, and how many bytes were left as they were because their
+     * lists did not change.
+     */
+    public static void logSavedBytes(long bytesWritten, long bytesSkipped) {
+        logger.info(String.format("Saved the lists: %d bytes written, %d bytes of unchanged lists skipped",
+                bytesWritten, bytesSkipped));
+    }
+
     /**
      * Clears the contents of the file at the designated filePath.
      */
@@ -206,7 +439,7 @@ public class Storage {
     }
 
     private static void checkValidIngredients(String line, Inventory inventory) {
-        String[] parts = line.split("\\s*\\|\\s*");
+        String[] parts = line.split(SPLIT_REGEX);
         int validLength = 3;
         if (parts.length < validLength) {
             throw new IllegalArgumentException("Invalid ingredient data: " + line);
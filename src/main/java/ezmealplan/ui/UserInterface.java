@@ -2,7 +2,10 @@ package ezmealplan.ui;
 
 import ezmealplan.food.Ingredient;
 import ezmealplan.food.Meal;
+import ezmealplan.food.Money;
 import ezmealplan.food.list.MealList;
+import ezmealplan.logic.MealIds;
+import ezmealplan.logic.ShoppingItem;
 
 import java.util.List;
 import java.util.Scanner;
@@ -67,6 +70,28 @@ public class UserInterface {
         System.out.println(totalMealsMessage);
     }
 
+    /**
+     * Prints the meals added to the meal list together, followed by the number of selected meals which were
+     * already in it.
+     */
+    public void printAddMealsMessage(List<Meal> addedMeals, int alreadyAddedCount, MealList mealList) {
+        String mealListName = mealList.getMealListName();
+        StringBuilder sb = new StringBuilder("You have successfully added " + addedMeals.size() + " meals into "
+                + mealListName + ":").append(System.lineSeparator());
+        int count = 0;
+        for (Meal meal : addedMeals) {
+            count++;
+            sb.append("    ").append(count).append(". ").append(meal).append(System.lineSeparator());
+        }
+        if (alreadyAddedCount > 0) {
+            sb.append(alreadyAddedCount).append(" of the selected meals were already in ").append(mealListName)
+                    .append(".").append(System.lineSeparator());
+        }
+        sb.append("Currently, you have ").append(mealList.size()).append(" meals in ").append(mealListName)
+                .append(".").append(System.lineSeparator());
+        System.out.print(sb);
+    }
+
     public void printIngredientList(Meal meal) {
         List<Ingredient> ingredientList = meal.getIngredientList();
         System.out.println("Here are the ingredients for " + meal + ":");
@@ -78,6 +103,15 @@ public class UserInterface {
         System.out.println();
     }
 
+    /**
+     * Prints the meal ID of a meal, which can be used instead of its index, unless it has none.
+     */
+    public void printMealId(int mealId) {
+        if (mealId != MealIds.NO_ID) {
+            System.out.println("Meal ID: #" + mealId);
+        }
+    }
+
     public void printMealList(List<Meal> meals, String mealListName) {
         if (meals.isEmpty()) {
             System.out.println("No meals found in " + mealListName + ".\n");
@@ -93,6 +127,20 @@ public class UserInterface {
         System.out.println();
     }
 
+    /**
+     * Prints a page of a meal list, numbering the meals from the index of the first meal of the page.
+     */
+    public void printMealPage(List<Meal> meals, String mealListName, long firstNumber) {
+        long lastNumber = firstNumber + meals.size() - 1;
+        System.out.println("Here are the meals " + firstNumber + " to " + lastNumber + " in " + mealListName + ":");
+        long count = firstNumber;
+        for (Meal meal : meals) {
+            System.out.println("    " + count + ". " + meal);
+            count++;
+        }
+        System.out.println();
+    }
+
     public void printRemovedMessage(Meal meal, int size) {
         System.out.println(meal + " has been removed from your meal list!");
         System.out.printf("You have %d meals in your meal list.\n", size);
@@ -103,6 +151,40 @@ public class UserInterface {
         System.out.printf("There are now %d meals in the recipes list.\n", size);
     }
 
+    /**
+     * Prints the meals removed from the wishlist together, or the usual message if only one meal was removed.
+     */
+    public void printRemovedMessages(List<Meal> meals, int size) {
+        if (meals.size() == 1) {
+            printRemovedMessage(meals.get(0), size);
+            return;
+        }
+        printBatch(meals, "The following " + meals.size() + " meals have been removed from your meal list:");
+        System.out.printf("You have %d meals in your meal list.\n", size);
+    }
+
+    /**
+     * Prints the meals deleted from the recipes list together, or the usual message if only one meal was deleted.
+     */
+    public void printDeletedMessages(List<Meal> meals, int size) {
+        if (meals.size() == 1) {
+            printDeletedMessage(meals.get(0), size);
+            return;
+        }
+        printBatch(meals, "The following " + meals.size() + " meals have been removed from the recipes list:");
+        System.out.printf("There are now %d meals in the recipes list.\n", size);
+    }
+
+    private void printBatch(List<Meal> meals, String header) {
+        StringBuilder sb = new StringBuilder(header).append(System.lineSeparator());
+        int count = 0;
+        for (Meal meal : meals) {
+            count++;
+            sb.append("    ").append(count).append(". ").append(meal).append(System.lineSeparator());
+        }
+        System.out.print(sb);
+    }
+
     public void prompt() {
         System.out.println("How may I help you?");
     }
@@ -153,6 +235,7 @@ public class UserInterface {
         System.out.println("Sample input: remove 1 ");
         System.out.println("Sample output:");
         System.out.println("               OK.  Chicken Rice ($3.00) have been removed from the wishlist.");
+        System.out.println("Several indexes and ranges of indexes can be removed at once: remove 1, 3-5");
     }
 
     public void printSelectCommandHelp() {
@@ -164,6 +247,7 @@ public class UserInterface {
         System.out.println("Sample input: select 1");
         System.out.println("Sample output based on the sample input 'select 1':");
         System.out.println("               OK.  Chicken Rice ($3.00) have been added to the wishlist.");
+        System.out.println("Several indexes and ranges of indexes can be selected at once: select 1-50, 60 /ing fish");
     }
 
     public void printFilterCommandHelp() {
@@ -178,6 +262,9 @@ public class UserInterface {
         System.out.println("Sample input: filter /mname Hokkien Mee");
         System.out.println("Sample output:");
         System.out.println("               1. Hokkien Mee ($5.50)");
+        System.out.println("Conditions can be combined with /and, /or and /not, and /explain shows the plan used:");
+        System.out.println("Sample input: filter /explain /ing chicken /not /mname rice /or /mcost <2.00");
+        System.out.println("Adding /page N at the end shows only the N-th page of 20 meals.");
     }
 
     public void printDeleteCommandHelp() {
@@ -185,6 +272,7 @@ public class UserInterface {
         System.out.println("Sample input: delete 1 ");
         System.out.println("Sample output:");
         System.out.println("               OK.  Chicken Rice ($3.00) have been deleted from the recipes list.");
+        System.out.println("Several indexes and ranges of indexes can be deleted at once: delete 3, 7, 10-20");
     }
 
     public void printViewCommandHelp() {
@@ -198,6 +286,8 @@ public class UserInterface {
         System.out.println("               5. pork lard");
         System.out.println("               6. squid");
         System.out.println("               7. lime");
+        System.out.println("A meal can also be given by its meal ID, which view shows and which does not change when "
+                + "other meals are added or removed: view /r #42");
     }
 
     public void printClearCommandHelp() {
@@ -235,18 +325,65 @@ public class UserInterface {
         System.out.print(inventoryString);
     }
 
+    /**
+     * Prints the cookable Meals of the recipes list, numbered by their index in the recipes list.
+     *
+     * @param mealIndexes The indexes of the cookable Meals in the recipes list, starting from 0.
+     * @param recipes     The Meals of the recipes list.
+     */
+    public void printCookableMeals(List<Integer> mealIndexes, List<Meal> recipes) {
+        if (mealIndexes.isEmpty()) {
+            System.out.println("None of the meals in the recipes list can be cooked with your inventory.\n");
+            return;
+        }
+
+        System.out.println("Here are the meals that you can cook with your inventory:");
+        for (int mealIndex : mealIndexes) {
+            System.out.println("    " + (mealIndex + 1) + ". " + recipes.get(mealIndex));
+        }
+        System.out.println();
+    }
+
+    /**
+     * Prints the ingredients to buy for the wishlist, with the number of units and the price of each, and the
+     * totals.
+     */
+    public void printShoppingList(List<ShoppingItem> items, int totalQuantity, long totalCents) {
+        if (items.isEmpty()) {
+            System.out.println("You have all the ingredients needed for the meals in your wishlist.\n");
+            return;
+        }
+
+        System.out.println("Here are the ingredients to buy for your wishlist:");
+        StringBuilder sb = new StringBuilder();
+        int count = 0;
+        for (ShoppingItem item : items) {
+            count++;
+            sb.append("    ").append(count).append(". ").append(item.getIngredient()).append(" x")
+                    .append(item.getQuantity()).append(": $");
+            Money.appendTo(sb, item.getTotalCents()).append(System.lineSeparator());
+        }
+        sb.append("Total: $");
+        Money.appendTo(sb, totalCents).append(" for ").append(totalQuantity).append(" ingredients.");
+        System.out.println(sb);
+        System.out.println();
+    }
+
     public void printRecommendCommandHelp() {
-        System.out.println("Entering the recommend command with an ingredient keyword will suggest a meal");
-        System.out.println("based on that ingredient from your wishlist or the recipe list.");
-        System.out.println("Sample input: recommend /ing chicken");
+        System.out.println("Entering the recommend command with an ingredient keyword will suggest the meals");
+        System.out.println("based on that ingredient from your wishlist or the recipe list,");
+        System.out.println("ranked by the ingredients you already own. Add /top N to see N meals instead of 3.");
+        System.out.println("Sample input: recommend /ing chicken /top 1");
         System.out.println("Sample output:");
-        System.out.println("                Recommended Meal: Kung Pao Chicken (Kung Pao Chicken ($3.60))");
+        System.out.println("                Recommended Meal 1: Kung Pao Chicken (Kung Pao Chicken ($3.60))");
         System.out.println("                Ingredients:");
         System.out.println("                   1. Chicken ($2.00)");
         System.out.println("                   2. Chilli ($0.50)");
         System.out.println("                   3. Peanuts ($0.70)");
         System.out.println("                   4. Sichuan Pepper ($0.40)");
-        System.out.println("                Missing Ingredients: Chicken, Chilli, Peanuts, Sichuan Pepper");
+        System.out.println("                Ingredients on hand: 1 of 4 (25%), worth $2.00");
+        System.out.println("                Missing Ingredients: Chilli, Peanuts, Sichuan Pepper");
+        System.out.println("                Estimated spend on missing ingredients: $1.60");
     }
 
     public void printConsumeCommandHelp() {
@@ -275,4 +412,44 @@ public class UserInterface {
         System.out.println("                   2. chicken breast ($3.25)");
         System.out.println("                   3. rice ($1.00)");
     }
+
+    public void printCookableCommandHelp() {
+        System.out.println("Entering the cookable command will list the meals in the recipes list " +
+                "whose ingredients are all in your inventory.");
+        System.out.println("Sample input: cookable");
+        System.out.println("Sample output:");
+        System.out.println("                Here are the meals that you can cook with your inventory:");
+        System.out.println("                    3. Chicken Rice ($3.00)");
+        System.out.println("                    7. Fried Egg ($0.50)");
+    }
+
+    public void printPlanCommandHelp() {
+        System.out.println("Entering the plan command with a number of meals will choose that many meals from the " +
+                "recipes list which need the least to be spent on ingredients.");
+        System.out.println("Ingredients in your inventory are not bought, and ingredients shared between meals are " +
+                "bought once. Add /budget followed by a price to compare the plan with your budget.");
+        System.out.println("The budget does not change which meals are chosen, as the plan chosen always spends " +
+                "the least that could be found.");
+        System.out.println("Sample input: plan 2 /budget 5.00");
+        System.out.println("Sample output:");
+        System.out.println("                Best plan so far spends $3.50 (found after 1 ms).");
+        System.out.println("                Here is your plan of 2 meals:");
+        System.out.println("                    3. Chicken Rice ($3.00)");
+        System.out.println("                    7. Fried Egg ($0.50)");
+        System.out.println("                Ingredients to buy: Chicken ($2.00), Egg ($0.50), Rice ($1.00)");
+        System.out.println("                Total spend: $3.50 (within your budget of $5.00)");
+        System.out.println("                Ingredients reused: 0 of 3, from your inventory or shared between " +
+                "the meals.");
+    }
+
+    public void printShoplistCommandHelp() {
+        System.out.println("Entering the shoplist command will list the ingredients to buy to cook every meal in " +
+                "the wishlist, leaving out the ingredients in your inventory.");
+        System.out.println("Sample input: shoplist");
+        System.out.println("Sample output:");
+        System.out.println("                Here are the ingredients to buy for your wishlist:");
+        System.out.println("                    1. Chicken ($2.00) x2: $4.00");
+        System.out.println("                    2. Rice ($1.00) x1: $1.00");
+        System.out.println("                Total: $5.00 for 3 ingredients.");
+    }
 }
@@ -205,9 +205,24 @@ public class EZMealPlanTest {
         int recipesFileIndex = 0;
         int wishListFileIndex = 1;
         int inventoryListFileIndex = 2;
+        int journalFileIndex = 3;
         restoreLatestRecipes(latestFiles.get(recipesFileIndex));
         restoreLatestWishList(latestFiles.get(wishListFileIndex));
         restoreLatestInventoryList(latestFiles.get(inventoryListFileIndex));
+        restoreLatestJournal(latestFiles.get(journalFileIndex));
+    }
+
+    private void restoreLatestJournal(File tempJournalFile) throws IOException {
+        File journalFile = Storage.getJournalFile();
+        Scanner scanner = new Scanner(tempJournalFile);
+        try (FileWriter fileCleaner = new FileWriter(journalFile);
+             FileWriter fileWriter = new FileWriter(journalFile, true)) {
+            while (scanner.hasNextLine()) {
+                fileWriter.append(scanner.nextLine()).append(System.lineSeparator());
+            }
+            scanner.close();
+        }
+        tempJournalFile.delete();
     }
 
     private void restoreLatestInventoryList(File tempInventoryListFile) throws IOException {
@@ -254,9 +269,24 @@ public class EZMealPlanTest {
         files.add(saveLatestRecipes());
         files.add(saveLatestWishList());
         files.add(saveLatestInventoryList());
+        files.add(saveLatestJournal());
         return files;
     }
 
+    private File saveLatestJournal() throws IOException {
+        String tempJournalPath = "data/tempJournal.txt";
+        File tempJournalFile = new File(tempJournalPath);
+        File journalFile = Storage.getJournalFile();
+        Scanner scanner = new Scanner(journalFile);
+        try (FileWriter fileWriter = new FileWriter(tempJournalFile, true)) {
+            while (scanner.hasNextLine()) {
+                fileWriter.append(scanner.nextLine()).append(System.lineSeparator());
+            }
+            scanner.close();
+        }
+        return tempJournalFile;
+    }
+
     private File saveLatestInventoryList() throws IOException {
         String tempInventoryListPath = "data/tempInventoryList.txt";
         File tempInventoryListFile = new File(tempInventoryListPath);
@@ -0,0 +1,129 @@
+package ezmealplan.command;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ezmealplan.exceptions.EZMealPlanException;
+import ezmealplan.food.Ingredient;
+import ezmealplan.food.Meal;
+import ezmealplan.food.list.Inventory;
+import ezmealplan.food.list.MealList;
+import ezmealplan.logic.MealManager;
+import ezmealplan.ui.UserInterface;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CookableCommandTest {
+    private static final Logger logger = Logger.getLogger(CookableCommandTest.class.getName());
+    private final ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+    private final PrintStream originalOut = System.out;
+    private final UserInterface ui = new UserInterface();
+    private final String ls = System.lineSeparator();
+    private MealManager mealManager;
+
+    public CookableCommandTest() {
+        String fileName = "CookableCommandTest.log";
+        setupLogger(fileName);
+    }
+
+    private static void setupLogger(String fileName) {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+        createLogFile(fileName);
+    }
+
+    private static void createLogFile(String fileName) {
+        try {
+            FileHandler fileHandler = new FileHandler(fileName, true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "File logger is not working.", ioException);
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws EZMealPlanException {
+        System.setOut(new PrintStream(outContent)); // Redirect System.out to capture output
+        mealManager = new MealManager();
+        MealList recipesList = mealManager.getRecipesList();
+        Meal friedEgg = new Meal("Fried Egg");
+        friedEgg.addIngredient(new Ingredient("Egg", "0.50"));
+        Meal chickenRice = new Meal("Chicken Rice");
+        chickenRice.addIngredient(new Ingredient("Chicken", "2.00"));
+        chickenRice.addIngredient(new Ingredient("Rice", "1.00"));
+        mealManager.addMeal(chickenRice, recipesList);
+        mealManager.addMeal(friedEgg, recipesList);
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut); // Restore original System.out
+        outContent.reset();         // Reset captured output
+    }
+
+    @Test
+    public void testExecute_emptyInventory_printsNoCookableMeals() throws EZMealPlanException {
+        logger.fine("Running testExecute_emptyInventory_printsNoCookableMeals()");
+        new CookableCommand().execute(mealManager, ui);
+        String expectedString = "None of the meals in the recipes list can be cooked with your inventory.";
+        assertEquals(expectedString, outContent.toString().trim());
+        logger.info("No cookable meals printed");
+    }
+
+    @Test
+    public void testExecute_allIngredientsOwned_printsMealsWithRecipesIndex() throws EZMealPlanException {
+        logger.fine("Running testExecute_allIngredientsOwned_printsMealsWithRecipesIndex()");
+        Inventory inventory = mealManager.getInventory();
+        inventory.addIngredient(new Ingredient("Egg", "0.50"));
+        inventory.addIngredient(new Ingredient("Rice", "1.00"));
+        new CookableCommand().execute(mealManager, ui);
+        String expectedString = "Here are the meals that you can cook with your inventory:" + ls
+                + "    2. Fried Egg ($0.50)";
+        assertEquals(expectedString, outContent.toString().trim());
+        logger.info("Only the meals with all ingredients owned are printed");
+    }
+
+    @Test
+    public void findingCookableMealIndexes_buyAndConsume_updatedIncrementally() throws EZMealPlanException {
+        logger.fine("Running findingCookableMealIndexes_buyAndConsume_updatedIncrementally()");
+        Inventory inventory = mealManager.getInventory();
+        Ingredient chicken = new Ingredient("Chicken", "2.00");
+        inventory.addIngredient(new Ingredient("Rice", "1.00"));
+        assertEquals(List.of(), mealManager.findingCookableMealIndexes());
+        inventory.addIngredient(chicken, 2);
+        assertEquals(List.of(0), mealManager.findingCookableMealIndexes());
+        inventory.removeIngredient(chicken);
+        assertEquals(List.of(0), mealManager.findingCookableMealIndexes());
+        inventory.removeIngredient(chicken);
+        assertEquals(List.of(), mealManager.findingCookableMealIndexes());
+        logger.info("Meals become cookable and uncookable as their ingredients are bought and consumed");
+    }
+
+    @Test
+    public void findingCookableMealIndexes_recipesListChanged_rebuilt() throws EZMealPlanException {
+        logger.fine("Running findingCookableMealIndexes_recipesListChanged_rebuilt()");
+        mealManager.getInventory().addIngredient(new Ingredient("Egg", "0.50"));
+        assertEquals(List.of(1), mealManager.findingCookableMealIndexes());
+        mealManager.removeMeal(1, mealManager.getRecipesList());
+        assertEquals(List.of(), mealManager.findingCookableMealIndexes());
+        Meal boiledEgg = new Meal("Boiled Egg");
+        boiledEgg.addIngredient(new Ingredient("Egg", "0.50"));
+        mealManager.addMeal(boiledEgg, mealManager.getRecipesList());
+        assertEquals(List.of(0), mealManager.findingCookableMealIndexes());
+        logger.info("The cookable meals follow changes to the recipes list");
+    }
+}
@@ -89,6 +89,19 @@ public class CreateCommandTest {
         assertEquals(5, mealManager.getRecipesList().size());
     }
 
+    @Test
+    public void createCommand_trailingComma_emptyIngredientSkipped() throws EZMealPlanException {
+        logger.fine("running createCommand_trailingComma_emptyIngredientSkipped()");
+        MealManager mealManager = new MealManager();
+        mealManager.getRecipesList().getList().clear();
+        Command command = new CreateCommand("create /mname egg rice /ing egg (0.50), rice (1.50), ");
+        command.execute(mealManager, ui);
+        assertEquals(1, mealManager.getRecipesList().size());
+        assertEquals("egg rice | egg (0.50) | rice (1.50)",
+                mealManager.getRecipesList().getList().get(0).toDataString());
+        logger.info("createCommand_trailingComma_emptyIngredientSkipped() test passed");
+    }
+
     @Test
     public void createCommand_fail() throws EZMealPlanException {
         logger.fine("running createCommand_fail()");
@@ -17,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import ezmealplan.exceptions.EZMealPlanException;
 import ezmealplan.exceptions.EmptyListException;
 import ezmealplan.exceptions.InvalidPriceException;
+import ezmealplan.exceptions.MealIdNotFoundException;
 import ezmealplan.exceptions.RemoveFormatException;
 import ezmealplan.exceptions.RemoveIndexOutOfRangeException;
 import ezmealplan.food.Meal;
@@ -52,6 +53,16 @@ public class DeleteCommandTest {
         public void printDeletedMessage(Meal removedMeal, int newSize) {
             // Suppress output
         }
+
+        @Override
+        public void printDeletedMessages(List<Meal> removedMeals, int newSize) {
+            // Suppress output
+        }
+
+        @Override
+        public void printRemovedMessages(List<Meal> removedMeals, int newSize) {
+            // Suppress output
+        }
     }
 
     @Test
@@ -159,4 +170,53 @@ public class DeleteCommandTest {
                 () -> deleteCommand.execute(new MealManager(), new TestUI()));
         logger.info("deleteCommand_nonIntegerIndex_throwsRemoveFormatException passed");
     }
+
+    @Test
+    public void deleteCommand_indexListAndRange_alsoRemovedFromWishList() throws EZMealPlanException {
+        logger.fine("Running deleteCommand_indexListAndRange_alsoRemovedFromWishList()");
+        MealManager mealManager = new MealManager();
+        mealManager.getRecipesList().getList().clear();
+        for (String mealName : new String[]{"A", "B", "C", "D", "E"}) {
+            Meal meal = new Meal(mealName);
+            mealManager.getRecipesList().addMeal(meal);
+            if (!mealName.equals("C")) {
+                mealManager.getWishList().addMeal(meal);
+            }
+        }
+
+        DeleteCommand deleteCommand = new DeleteCommand("delete 1, 3-4");
+        deleteCommand.execute(mealManager, new TestUI());
+
+        List<Meal> recipes = mealManager.getRecipesList().getList();
+        assertEquals(2, recipes.size());
+        assertEquals("B", recipes.get(0).getName());
+        assertEquals("E", recipes.get(1).getName());
+        List<Meal> wishList = mealManager.getWishList().getList();
+        assertEquals(2, wishList.size());
+        assertEquals("B", wishList.get(0).getName());
+        assertEquals("E", wishList.get(1).getName());
+        logger.info("deleteCommand_indexListAndRange_alsoRemovedFromWishList passed");
+    }
+
+    @Test
+    public void deleteCommand_mealIds_deletedWithoutShiftingIds() throws EZMealPlanException {
+        logger.fine("Running deleteCommand_mealIds_deletedWithoutShiftingIds()");
+        MealManager mealManager = new MealManager();
+        mealManager.getRecipesList().getList().clear();
+        for (String mealName : new String[]{"A", "B", "C", "D"}) {
+            mealManager.getRecipesList().addMeal(new Meal(mealName));
+        }
+        List<Meal> recipes = mealManager.getRecipesList().getList();
+        int idOfC = mealManager.getMealId(recipes.get(2));
+
+        new DeleteCommand("delete #" + mealManager.getMealId(recipes.get(0))).execute(mealManager, new TestUI());
+        assertEquals("C", mealManager.getMealById(idOfC, mealManager.getRecipesList()).getName());
+        new DeleteCommand("delete 1, #" + idOfC).execute(mealManager, new TestUI());
+
+        assertEquals(1, recipes.size());
+        assertEquals("D", recipes.get(0).getName());
+        DeleteCommand deleteCommand = new DeleteCommand("delete #" + idOfC);
+        assertThrows(MealIdNotFoundException.class, () -> deleteCommand.execute(mealManager, new TestUI()));
+        logger.info("deleteCommand_mealIds_deletedWithoutShiftingIds passed");
+    }
 }
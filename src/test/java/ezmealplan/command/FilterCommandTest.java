@@ -3,7 +3,10 @@ package ezmealplan.command;
 
 import ezmealplan.exceptions.EZMealPlanException;
 import ezmealplan.exceptions.InvalidFilterMethodException;
+import ezmealplan.exceptions.InvalidFilterQueryException;
 import ezmealplan.exceptions.InvalidMcostException;
+import ezmealplan.exceptions.InvalidPageException;
+import ezmealplan.exceptions.InvalidTopException;
 import ezmealplan.food.Meal;
 import ezmealplan.logic.MealManager;
 import ezmealplan.food.list.MealList;
@@ -17,10 +20,12 @@ import java.util.logging.FileHandler;
 import java.util.logging.Level;
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class FilterCommandTest {
@@ -75,7 +80,11 @@ public class FilterCommandTest {
         logger.fine("running filterCommand_success()");
         String[] validFilterCommands = {"filter /mname a", "filter /ing b,c", "filter /mcost 2.00", "filter /mname " +
                                                                                                     "Mname"
-                , "filter /ing Ing", "filter /mcost 5.00"};
+                , "filter /ing Ing", "filter /mcost 5.00", "filter /mcost <5.00", "filter /mcost >=3.00"
+                , "filter /mcost 3.00-6.00", "filter /mcost <=5.00 /top 3", "filter /ing chicken /mname rice"
+                , "filter /ing chicken /not /mname rice /or /mcost <2.00", "filter /explain /not /ing egg /mcost >=5.00"
+                , "filter /mname rice /and /mcost <6.00 /top 2", "filter /mname a /page 2"
+                , "filter /ing chicken /page 9"};
         runValidFilterCommands(validFilterCommands);
         addMeals();
         runValidFilterCommands(validFilterCommands);
@@ -89,9 +98,34 @@ public class FilterCommandTest {
         addMeals();
         checkMissingFilterKeyword();
         checkInvalidPrice();
+        checkInvalidTop();
+        checkInvalidQuery();
+        checkInvalidPage();
         logger.info("filterCommand_fail() passed");
     }
 
+    @Test
+    public void filterCommand_mcostRangeWithTop_cheapestMealsFirst() {
+        logger.fine("running filterCommand_mcostRangeWithTop_cheapestMealsFirst()");
+        mealManager.getRecipesList().getList().clear();
+        addMeals();
+        List<Meal> cheapestMeals = mealManager.filteringCheapestByMcost(300, 600, 5).collect(Collectors.toList());
+        assertEquals(5, cheapestMeals.size());
+        for (int i = 0; i < cheapestMeals.size(); i++) {
+            long priceInCents = cheapestMeals.get(i).getPriceInCents();
+            assertTrue(priceInCents >= 300 && priceInCents <= 600);
+            if (i > 0) {
+                assertTrue(cheapestMeals.get(i - 1).getPriceInCents() <= priceInCents);
+            }
+        }
+        for (Meal meal : mealManager.filteringByMcost(300, 600).collect(Collectors.toList())) {
+            if (!cheapestMeals.contains(meal)) {
+                assertTrue(meal.getPriceInCents() >= cheapestMeals.get(4).getPriceInCents());
+            }
+        }
+        logger.info("filterCommand_mcostRangeWithTop_cheapestMealsFirst() passed");
+    }
+
     private void checkInvalidPrice() {
         logger.fine("running checkInvalidPrice()");
         checkNegativePrice();
@@ -103,13 +137,50 @@ public class FilterCommandTest {
         String testName = "checkInvalidPriceFormat()";
         double one = 1.00;
         String[] invalidPrices = {"filter /mcost mcost", "filter /mcost 1", "filter /mcost 1.0", "filter /mcost 1.0005"
-                , "filter /mcost .1", "filter /mcost .10", "filter /mcost " + (Double.MAX_VALUE + one)};
+                , "filter /mcost .1", "filter /mcost .10", "filter /mcost " + (Double.MAX_VALUE + one)
+                , "filter /mcost <5", "filter /mcost 6.00-3.00", "filter /mcost 3.00--6.00"};
         String expectedMessage = new InvalidMcostException().getMessage();
         for (String invalidPrice : invalidPrices) {
             checkInvalidFilterInput(testName, expectedMessage, invalidPrice);
         }
     }
 
+    private void checkInvalidTop() {
+        String testName = "checkInvalidTop()";
+        String[] invalidTops = {"filter /mcost <5.00 /top 0", "filter /mcost <5.00 /top a", "filter /mcost 5.00 /top"
+                , "filter /top 3 /mcost <5.00", "filter /ing chicken /top 3"};
+        String expectedMessage = new InvalidTopException("filter").getMessage();
+        for (String invalidTop : invalidTops) {
+            checkInvalidFilterInput(testName, expectedMessage, invalidTop);
+        }
+    }
+
+    private void checkInvalidQuery() {
+        String testName = "checkInvalidQuery()";
+        String[] invalidQueries = {"filter /ing chicken /or", "filter /or /ing chicken", "filter /not /not /ing egg"
+                , "filter /ing chicken /and /or /mname rice", "filter /explain /explain /ing chicken"};
+        for (String invalidQuery : invalidQueries) {
+            try {
+                new FilterCommand(invalidQuery).execute(mealManager, ui);
+                fail();
+            } catch (InvalidFilterQueryException invalidFilterQueryException) {
+                logger.info("Matching exception caught!");
+            } catch (EZMealPlanException ezMealPlanException) {
+                fail();
+            }
+        }
+        logger.info(testName + " passed");
+    }
+
+    private void checkInvalidPage() {
+        String testName = "checkInvalidPage()";
+        String[] invalidPages = {"filter /mname a /page 0", "filter /mname a /page", "filter /page 1 /mname a"};
+        String expectedMessage = new InvalidPageException().getMessage();
+        for (String invalidPage : invalidPages) {
+            checkInvalidFilterInput(testName, expectedMessage, invalidPage);
+        }
+    }
+
     private void checkNegativePrice() {
         String testName = "checkNegativePrice()";
         String negativePrice = "filter /mcost -2.00";
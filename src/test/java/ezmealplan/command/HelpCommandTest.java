@@ -127,6 +127,21 @@ public class HelpCommandTest {
             System.out.print("Inventory Help");
         }
 
+        @Override
+        public void printCookableCommandHelp() {
+            System.out.print("Cookable Help");
+        }
+
+        @Override
+        public void printPlanCommandHelp() {
+            System.out.print("Plan Help");
+        }
+
+        @Override
+        public void printShoplistCommandHelp() {
+            System.out.print("Shoplist Help");
+        }
+
         @Override
         public void printUnknownCommand(String command) {
             System.out.print("Unknown command: " + command);
@@ -297,6 +312,36 @@ public class HelpCommandTest {
         logger.fine("helpCommand_inventoryInput_printsInventoryHelp() passed");
     }
 
+    // helpCommand_cookableInput_printsCookableHelp
+    @Test
+    public void helpCommand_cookableInput_printsCookableHelp() {
+        logger.fine("running helpCommand_cookableInput_printsCookableHelp");
+        HelpCommand command = new HelpCommand("help cookable");
+        command.execute(mealManager, ui);
+        assertEquals("Cookable Help", outContent.toString());
+        logger.fine("helpCommand_cookableInput_printsCookableHelp() passed");
+    }
+
+    // helpCommand_planInput_printsPlanHelp
+    @Test
+    public void helpCommand_planInput_printsPlanHelp() {
+        logger.fine("running helpCommand_planInput_printsPlanHelp");
+        HelpCommand command = new HelpCommand("help plan");
+        command.execute(mealManager, ui);
+        assertEquals("Plan Help", outContent.toString());
+        logger.fine("helpCommand_planInput_printsPlanHelp() passed");
+    }
+
+    // helpCommand_shoplistInput_printsShoplistHelp
+    @Test
+    public void helpCommand_shoplistInput_printsShoplistHelp() {
+        logger.fine("running helpCommand_shoplistInput_printsShoplistHelp");
+        HelpCommand command = new HelpCommand("help shoplist");
+        command.execute(mealManager, ui);
+        assertEquals("Shoplist Help", outContent.toString());
+        logger.fine("helpCommand_shoplistInput_printsShoplistHelp() passed");
+    }
+
     // helpCommand_unknownInput_printsUnknownCommand
     @Test
     public void helpCommand_unknownInput_printsUnknownCommand() {
@@ -0,0 +1,137 @@
+package ezmealplan.command;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ezmealplan.exceptions.EZMealPlanException;
+import ezmealplan.exceptions.InvalidPlanException;
+import ezmealplan.exceptions.PlanCountOutOfRangeException;
+import ezmealplan.food.Ingredient;
+import ezmealplan.food.Meal;
+import ezmealplan.food.list.MealList;
+import ezmealplan.logic.MealManager;
+import ezmealplan.logic.plan.MealPlanner;
+import ezmealplan.ui.UserInterface;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlanCommandTest {
+    private static final Logger logger = Logger.getLogger(PlanCommandTest.class.getName());
+    private final ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+    private final PrintStream originalOut = System.out;
+    private final UserInterface ui = new UserInterface();
+    private final String ls = System.lineSeparator();
+    private MealManager mealManager;
+
+    public PlanCommandTest() {
+        String fileName = "PlanCommandTest.log";
+        setupLogger(fileName);
+    }
+
+    private static void setupLogger(String fileName) {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+        createLogFile(fileName);
+    }
+
+    private static void createLogFile(String fileName) {
+        try {
+            FileHandler fileHandler = new FileHandler(fileName, true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "File logger is not working.", ioException);
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws EZMealPlanException {
+        System.setOut(new PrintStream(outContent)); // Redirect System.out to capture output
+        MealPlanner.setTimeBudgetMillis(50);
+        mealManager = new MealManager();
+        MealList recipesList = mealManager.getRecipesList();
+        Meal chickenRice = new Meal("Chicken Rice");
+        chickenRice.addIngredient(new Ingredient("Chicken", "2.00"));
+        chickenRice.addIngredient(new Ingredient("Rice", "1.00"));
+        Meal eggRice = new Meal("Egg Rice");
+        eggRice.addIngredient(new Ingredient("Egg", "0.50"));
+        eggRice.addIngredient(new Ingredient("Rice", "1.00"));
+        Meal steak = new Meal("Steak");
+        steak.addIngredient(new Ingredient("Beef", "9.00"));
+        mealManager.addMeal(chickenRice, recipesList);
+        mealManager.addMeal(eggRice, recipesList);
+        mealManager.addMeal(steak, recipesList);
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut); // Restore original System.out
+        outContent.reset();         // Reset captured output
+        MealPlanner.setTimeBudgetMillis(MealPlanner.DEFAULT_TIME_BUDGET_MILLIS);
+    }
+
+    @Test
+    public void testExecute_withinBudget_printsPlan() throws EZMealPlanException {
+        logger.fine("Running testExecute_withinBudget_printsPlan()");
+        mealManager.getInventory().addIngredient(new Ingredient("Egg", "0.50"));
+        new PlanCommand("plan 2 /budget 5.00").execute(mealManager, ui);
+        String expectedString = "Here is your plan of 2 meals:" + ls
+                + "    1. Chicken Rice ($3.00)" + ls
+                + "    2. Egg Rice ($1.50)" + ls
+                + "Ingredients to buy: Chicken ($2.00), Rice ($1.00)" + ls
+                + "Total spend: $3.00 (within your budget of $5.00)" + ls
+                + "Ingredients reused: 2 of 4, from your inventory or shared between the meals.";
+        String output = outContent.toString().trim();
+        assertTrue(output.startsWith("Best plan so far spends $"));
+        assertTrue(output.endsWith(expectedString));
+        logger.info("Correct plan printed");
+    }
+
+    @Test
+    public void testExecute_overBudget_printsOverBudget() throws EZMealPlanException {
+        logger.fine("Running testExecute_overBudget_printsOverBudget()");
+        new PlanCommand("plan 3 /budget 10.00").execute(mealManager, ui);
+        String expectedString = "Total spend: $12.50 (over your budget of $10.00, and no cheaper plan was found)";
+        assertTrue(outContent.toString().contains(expectedString));
+        logger.info("A plan over the budget is reported");
+    }
+
+    @Test
+    public void testExecute_interrupted_noPlanOrInterruptionPrinted() throws EZMealPlanException {
+        logger.fine("Running testExecute_interrupted_noPlanOrInterruptionPrinted()");
+        Thread.currentThread().interrupt();
+        try {
+            new PlanCommand("plan 2").execute(mealManager, ui);
+        } finally {
+            Thread.interrupted();
+        }
+        String output = outContent.toString();
+        assertTrue(output.contains("Here is your plan of 2 meals:")
+                || output.contains("Planning was interrupted before any plan was found."));
+        logger.info("An interrupted search prints either its best plan or that no plan was found");
+    }
+
+    @Test
+    public void testExecute_invalidInput_exceptionThrown() {
+        logger.fine("Running testExecute_invalidInput_exceptionThrown()");
+        String[] invalidInputs = {"plan 0", "plan two", "plan /budget 5.00", "plan 2 /budget 5", "plan 2 /budget"};
+        for (String invalidInput : invalidInputs) {
+            assertThrows(InvalidPlanException.class, () -> new PlanCommand(invalidInput).execute(mealManager, ui));
+        }
+        assertThrows(PlanCountOutOfRangeException.class, () -> new PlanCommand("plan 4").execute(mealManager, ui));
+        logger.info("Correct exceptions thrown");
+    }
+}
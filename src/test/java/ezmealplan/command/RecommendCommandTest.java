@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
 import java.util.logging.Level;
@@ -13,10 +14,12 @@ import java.util.logging.Logger;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import ezmealplan.exceptions.InvalidRecommendTopException;
 import ezmealplan.exceptions.MissingIngKeywordException;
 import ezmealplan.exceptions.MissingIngredientException;
 import ezmealplan.food.Ingredient;
 import ezmealplan.food.Meal;
+import ezmealplan.logic.MealCoverage;
 import ezmealplan.logic.MealManager;
 import ezmealplan.ui.UserInterface;
 
@@ -67,13 +70,15 @@ public class RecommendCommandTest {
         command.execute(mealManager, ui);
 
         StringBuilder sb = new StringBuilder();
-        sb.append("Recommended Meal: ").append("Salmon Rice")
+        sb.append("Recommended Meal 1: ").append("Salmon Rice")
                 .append(" (").append("Salmon Rice ($2.50)").append(")")
                 .append(System.lineSeparator());
         sb.append("Ingredients:").append(System.lineSeparator());
         sb.append("   ").append(1).append(". ").append("salmon ($2.50)")
                 .append(System.lineSeparator());
-        sb.append("Missing Ingredients: salmon");
+        sb.append("Ingredients on hand: 0 of 1 (0%), worth $0.00").append(System.lineSeparator());
+        sb.append("Missing Ingredients: salmon").append(System.lineSeparator());
+        sb.append("Estimated spend on missing ingredients: $2.50");
         assertEquals(sb.toString(), ui.capturedMessage);
         logger.info("recommendCommand_matchingIngredientInWishlist_success passed");
     }
@@ -94,13 +99,15 @@ public class RecommendCommandTest {
         command.execute(mealManager, ui);
 
         StringBuilder sb = new StringBuilder();
-        sb.append("Recommended Meal: ").append("Tofu Soup")
+        sb.append("Recommended Meal 1: ").append("Tofu Soup")
                 .append(" (").append("Tofu Soup ($1.20)").append(")")
                 .append(System.lineSeparator());
         sb.append("Ingredients:").append(System.lineSeparator());
         sb.append("   ").append(1).append(". ").append("tofu ($1.20)")
                 .append(System.lineSeparator());
-        sb.append("Missing Ingredients: tofu");
+        sb.append("Ingredients on hand: 0 of 1 (0%), worth $0.00").append(System.lineSeparator());
+        sb.append("Missing Ingredients: tofu").append(System.lineSeparator());
+        sb.append("Estimated spend on missing ingredients: $1.20");
         assertEquals(sb.toString(), ui.capturedMessage);
         logger.info("recommendCommand_matchingIngredientInRecipes_success passed");
     }
@@ -137,17 +144,78 @@ public class RecommendCommandTest {
         command.execute(mealManager, ui);
 
         StringBuilder sb = new StringBuilder();
-        sb.append("Recommended Meal: ").append("Miso Soup")
+        sb.append("Recommended Meal 1: ").append("Miso Soup")
                 .append(" (").append("Miso Soup ($1.00)").append(")")
                 .append(System.lineSeparator());
         sb.append("Ingredients:").append(System.lineSeparator());
         sb.append("   ").append(1).append(". ").append("miso ($1.00)")
                 .append(System.lineSeparator());
-        sb.append("Missing Ingredients: miso");
+        sb.append("Ingredients on hand: 0 of 1 (0%), worth $0.00").append(System.lineSeparator());
+        sb.append("Missing Ingredients: miso").append(System.lineSeparator());
+        sb.append("Estimated spend on missing ingredients: $1.00");
         assertEquals(sb.toString(), ui.capturedMessage);
         logger.info("recommendCommand_nonMatchingCase_successfulMatch passed");
     }
 
+    @Test
+    public void recommendCommand_ingredientsInInventory_rankedByCoverage() throws Exception {
+        logger.fine("Running recommendCommand_ingredientsInInventory_rankedByCoverage()");
+        MealManager mealManager = new MealManager();
+        mealManager.getWishList().getList().clear();
+        mealManager.getRecipesList().getList().clear();
+
+        Ingredient egg = new Ingredient("egg", "0.50");
+        Ingredient rice = new Ingredient("rice", "1.00");
+        Meal eggRice = new Meal("Egg Rice");
+        eggRice.addIngredient(egg);
+        eggRice.addIngredient(rice);
+        Meal eggSoup = new Meal("Egg Soup");
+        eggSoup.addIngredient(egg);
+        eggSoup.addIngredient(new Ingredient("stock", "2.00"));
+        Meal eggTart = new Meal("Egg Tart");
+        eggTart.addIngredient(new Ingredient("egg", "0.80"));
+        mealManager.getRecipesList().getList().add(eggSoup);
+        mealManager.getRecipesList().getList().add(eggTart);
+        mealManager.getRecipesList().getList().add(eggRice);
+        mealManager.getInventory().addIngredient(egg);
+        mealManager.getInventory().addIngredient(rice);
+
+        List<MealCoverage> coverages = mealManager.rankingByCoverage(mealManager.getRecipesList().getList(), 2);
+        assertEquals(2, coverages.size());
+        assertEquals(eggRice, coverages.get(0).getMeal());
+        assertEquals(100, coverages.get(0).getCoveragePercent());
+        assertEquals(eggSoup, coverages.get(1).getMeal());
+        assertEquals(50, coverages.get(1).getCoveragePercent());
+        assertEquals(200, coverages.get(1).getMissingCents());
+
+        TestUI ui = new TestUI();
+        new RecommendCommand("recommend /ing egg /top 1").execute(mealManager, ui);
+        StringBuilder sb = new StringBuilder();
+        sb.append("Recommended Meal 1: ").append("Egg Rice")
+                .append(" (").append("Egg Rice ($1.50)").append(")")
+                .append(System.lineSeparator());
+        sb.append("Ingredients:").append(System.lineSeparator());
+        sb.append("   1. egg ($0.50)").append(System.lineSeparator());
+        sb.append("   2. rice ($1.00)").append(System.lineSeparator());
+        sb.append("Ingredients on hand: 2 of 2 (100%), worth $1.50").append(System.lineSeparator());
+        sb.append("You have all the necessary ingredients for this meal.");
+        assertEquals(sb.toString(), ui.capturedMessage);
+        logger.info("recommendCommand_ingredientsInInventory_rankedByCoverage passed");
+    }
+
+    @Test
+    public void recommendCommand_invalidTop_throwsInvalidRecommendTopException() {
+        logger.fine("Running recommendCommand_invalidTop_throwsInvalidRecommendTopException()");
+        String[] invalidInputs = {"recommend /ing egg /top 0", "recommend /ing egg /top x",
+            "recommend /top 2 /ing egg"};
+        for (String invalidInput : invalidInputs) {
+            RecommendCommand command = new RecommendCommand(invalidInput);
+            assertThrows(InvalidRecommendTopException.class,
+                    () -> command.execute(new MealManager(), new TestUI()));
+        }
+        logger.info("recommendCommand_invalidTop_throwsInvalidRecommendTopException passed");
+    }
+
     @Test
     public void recommendCommand_missingKeyword_throwsRecommendFormatException() {
         logger.fine("Running recommendCommand_missingKeyword_throwsRecommendFormatException()");
@@ -12,6 +12,7 @@ import ezmealplan.food.list.MealList;
 import ezmealplan.ui.UserInterface;
 
 import org.junit.jupiter.api.Test;
+import java.util.List;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
 import java.util.logging.Level;
@@ -57,6 +58,11 @@ public class RemoveCommandTest {
         public void printRemovedMessage(Meal removedMeal, int newSize) {
             // Suppress output
         }
+
+        @Override
+        public void printRemovedMessages(List<Meal> removedMeals, int newSize) {
+            // Suppress output
+        }
     }
 
     @Test
@@ -151,4 +157,36 @@ public class RemoveCommandTest {
             logger.info("Correct exception thrown");
         }
     }
+
+    @Test
+    public void removeCommand_indexListAndRange_success() throws EZMealPlanException {
+        logger.fine("Running removeCommand_indexListAndRange_success()");
+        MealManager mealManager = new MealManager();
+        MealList wishList = mealManager.getWishList();
+        for (String mealName : new String[]{"A", "B", "C", "D", "E"}) {
+            wishList.addMeal(new Meal(mealName));
+        }
+
+        Command command = new RemoveCommand("remove 4, 1-2");
+        command.execute(mealManager, testUI);
+
+        assertEquals(2, wishList.size());
+        assertEquals("C", wishList.getList().get(0).getName());
+        assertEquals("E", wishList.getList().get(1).getName());
+        logger.info("Meals successfully removed from wish list");
+    }
+
+    @Test
+    public void removeCommand_rangePastEnd_nothingRemoved() throws EZMealPlanException {
+        logger.fine("Running removeCommand_rangePastEnd_nothingRemoved()");
+        MealManager mealManager = new MealManager();
+        MealList wishList = mealManager.getWishList();
+        wishList.addMeal(new Meal("A"));
+        wishList.addMeal(new Meal("B"));
+
+        Command command = new RemoveCommand("remove 1, 2-3");
+        assertThrows(RemoveIndexOutOfRangeException.class, () -> command.execute(mealManager, testUI));
+        assertEquals(2, wishList.size());
+        logger.info("Correct exception thrown and no meal removed");
+    }
 }
@@ -4,6 +4,7 @@ import ezmealplan.exceptions.DuplicateMealException;
 import ezmealplan.exceptions.EZMealPlanException;
 import ezmealplan.exceptions.InvalidMcostException;
 import ezmealplan.exceptions.InvalidSelectIndexException;
+import ezmealplan.exceptions.MealIdNotFoundException;
 import ezmealplan.food.Meal;
 import ezmealplan.logic.MealManager;
 import ezmealplan.food.list.MealList;
@@ -79,6 +80,51 @@ public class SelectCommandTest {
         logger.info("selectCommand_fail() passed");
     }
 
+    @Test
+    public void selectCommand_indexListAndRange_mergedIntoWishList() throws EZMealPlanException {
+        logger.fine("running selectCommand_indexListAndRange_mergedIntoWishList()");
+        mealManager.getRecipesList().getList().clear();
+        mealManager.getWishList().getList().clear();
+        addMeals();
+        List<Meal> recipes = mealManager.getRecipesList().getList();
+        List<Meal> wishList = mealManager.getWishList().getList();
+
+        new SelectCommand("select 5, 1-3").execute(mealManager, ui);
+        assertEquals(List.of(recipes.get(0), recipes.get(1), recipes.get(2), recipes.get(4)), wishList);
+
+        new SelectCommand("select 2-4").execute(mealManager, ui);
+        assertEquals(recipes.subList(0, 5), wishList);
+
+        String[] invalidIndexSelectCommands = {"select 3-1", "select 1,", "select 1-1000", "select 0, 2-3"};
+        for (String invalidIndexSelectCommand : invalidIndexSelectCommands) {
+            String expectedMessage = new InvalidSelectIndexException().getMessage();
+            checkInvalidSelectInput("checkInvalidIndexList()", expectedMessage, invalidIndexSelectCommand);
+        }
+        assertEquals(5, wishList.size());
+        logger.info("selectCommand_indexListAndRange_mergedIntoWishList() passed");
+    }
+
+    @Test
+    public void selectCommand_mealIds_selectedFromRecipesList() throws EZMealPlanException {
+        logger.fine("running selectCommand_mealIds_selectedFromRecipesList()");
+        mealManager.getRecipesList().getList().clear();
+        mealManager.getWishList().getList().clear();
+        addMeals();
+        List<Meal> recipes = mealManager.getRecipesList().getList();
+        List<Meal> wishList = mealManager.getWishList().getList();
+        int idOfSecond = mealManager.getMealId(recipes.get(1));
+        int idOfThird = mealManager.getMealId(recipes.get(2));
+
+        new SelectCommand("select #" + idOfThird + " /mname zzz").execute(mealManager, ui);
+        assertEquals(List.of(recipes.get(2)), wishList);
+        new SelectCommand("select 1-2, #" + idOfSecond).execute(mealManager, ui);
+        assertEquals(recipes.subList(0, 3), wishList);
+
+        String expectedMessage = new MealIdNotFoundException(0, "recipes list").getMessage();
+        checkInvalidSelectInput("checkMissingMealId()", expectedMessage, "select 1, #0");
+        logger.info("selectCommand_mealIds_selectedFromRecipesList() passed");
+    }
+
     private void checkInvalidSelectIndex() {
         checkInvalidIndexFormat();
         checkIndexOutOfRange();
@@ -0,0 +1,109 @@
+package ezmealplan.command;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ezmealplan.exceptions.EZMealPlanException;
+import ezmealplan.food.Ingredient;
+import ezmealplan.food.Meal;
+import ezmealplan.logic.MealManager;
+import ezmealplan.ui.UserInterface;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ShoplistCommandTest {
+    private static final Logger logger = Logger.getLogger(ShoplistCommandTest.class.getName());
+    private final ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+    private final PrintStream originalOut = System.out;
+    private final UserInterface ui = new UserInterface();
+    private final String ls = System.lineSeparator();
+    private final MealManager mealManager = new MealManager();
+
+    public ShoplistCommandTest() {
+        String fileName = "ShoplistCommandTest.log";
+        setupLogger(fileName);
+    }
+
+    private static void setupLogger(String fileName) {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+        createLogFile(fileName);
+    }
+
+    private static void createLogFile(String fileName) {
+        try {
+            FileHandler fileHandler = new FileHandler(fileName, true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "File logger is not working.", ioException);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        System.setOut(new PrintStream(outContent)); // Redirect System.out to capture output
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut); // Restore original System.out
+        outContent.reset();         // Reset captured output
+    }
+
+    @Test
+    public void testExecute_wishlistMeals_printsShoppingList() throws EZMealPlanException {
+        logger.fine("Running testExecute_wishlistMeals_printsShoppingList()");
+        Meal chickenRice = new Meal("Chicken Rice");
+        chickenRice.addIngredient(new Ingredient("Chicken", "2.00"));
+        chickenRice.addIngredient(new Ingredient("Rice", "1.00"));
+        Meal roastChicken = new Meal("Roast Chicken");
+        roastChicken.addIngredient(new Ingredient("Chicken", "2.00"));
+        mealManager.addMeal(chickenRice, mealManager.getWishList());
+        mealManager.addMeal(roastChicken, mealManager.getWishList());
+        mealManager.getInventory().addIngredient(new Ingredient("Rice", "1.00"));
+
+        new ShoplistCommand().execute(mealManager, ui);
+
+        String expectedString = "Here are the ingredients to buy for your wishlist:" + ls
+                + "    1. Chicken ($2.00) x2: $4.00" + ls
+                + "Total: $4.00 for 2 ingredients.";
+        assertEquals(expectedString, outContent.toString().trim());
+        logger.info("Correct shopping list printed");
+    }
+
+    @Test
+    public void testExecute_allIngredientsOwned_printsNothingToBuy() throws EZMealPlanException {
+        logger.fine("Running testExecute_allIngredientsOwned_printsNothingToBuy()");
+        Meal friedEgg = new Meal("Fried Egg");
+        friedEgg.addIngredient(new Ingredient("Egg", "0.50"));
+        mealManager.addMeal(friedEgg, mealManager.getWishList());
+        mealManager.getInventory().addIngredient(new Ingredient("Egg", "0.50"));
+
+        new ShoplistCommand().execute(mealManager, ui);
+
+        assertEquals("You have all the ingredients needed for the meals in your wishlist.",
+                outContent.toString().trim());
+        logger.info("Nothing to buy printed");
+    }
+
+    @Test
+    public void testExecute_emptyWishlist_printsEmptyWishlist() throws EZMealPlanException {
+        logger.fine("Running testExecute_emptyWishlist_printsEmptyWishlist()");
+        new ShoplistCommand().execute(mealManager, ui);
+        assertEquals("No meals found in wishlist.", outContent.toString().trim());
+        logger.info("Empty wishlist printed");
+    }
+}
@@ -114,6 +114,24 @@ public class ViewCommandTest {
         logger.info("testExecute_viewWishlistMeal_success passed");
     }
 
+    @Test
+    public void testExecute_viewByMealId_success() throws EZMealPlanException {
+        logger.fine("Running testExecute_viewByMealId_success()");
+        MealManager mealManager = new MealManager();
+        mealManager.getRecipesList().getList().clear();
+        Meal laterMeal = new Meal("Zucchini Soup");
+        mealManager.getRecipesList().addMeal(laterMeal);
+        int mealId = mealManager.getMealId(laterMeal);
+        mealManager.getRecipesList().addMeal(new Meal("Apple Pie"));
+
+        TestUserInterface testUI = new TestUserInterface();
+        new ViewCommand("view /r #" + mealId).execute(mealManager, testUI);
+        assertEquals(laterMeal, testUI.capturedMeal);
+        ViewCommand command = new ViewCommand("view /w #" + mealId);
+        assertThrows(EmptyListException.class, () -> command.execute(mealManager, testUI));
+        logger.info("testExecute_viewByMealId_success passed");
+    }
+
     @Test
     public void testExecute_wrongKeyword_exceptionThrown() throws EZMealPlanException {
         logger.fine("Running testExecute_wrongKeyword_exceptionThrown()");
@@ -80,4 +80,32 @@ public class RemoveDeleteCheckerTest {
             logger.info("extractIndex_noIndex_exceptionThrown() passed");
         }
     }
+
+    @Test
+    public void removeDeleteChecker_indexListsAndRanges_success() throws EZMealPlanException {
+        logger.fine("Running removeDeleteChecker_indexListsAndRanges_success()");
+        String[] validUserInputs = {"delete 3, 7, 10-20", "remove 1,2", "delete 4 - 6", "remove 5-5"};
+        for (String validUserInput : validUserInputs) {
+            RemoveDeleteChecker checker = new RemoveDeleteChecker(validUserInput);
+            checker.check();
+            assertTrue(checker.isPassed());
+        }
+        logger.info("removeDeleteChecker_indexListsAndRanges_success() passed");
+    }
+
+    @Test
+    public void parseIndexes_invalidIndexLists_exceptionThrown() {
+        logger.fine("Running parseIndexes_invalidIndexLists_exceptionThrown()");
+        String[] userInputs = {"delete 1-", "delete 3-1", "remove 1,,2", "remove 1,", "delete 1 2"};
+        for (String userInput : userInputs) {
+            RemoveDeleteChecker checker = new RemoveDeleteChecker(userInput);
+            try {
+                checker.check();
+                fail();
+            } catch (EZMealPlanException ezMealPlanException) {
+                assertEquals(new RemoveFormatException(userInput).getMessage(), ezMealPlanException.getMessage());
+            }
+        }
+        logger.info("parseIndexes_invalidIndexLists_exceptionThrown() passed");
+    }
 }
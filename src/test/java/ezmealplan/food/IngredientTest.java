@@ -122,6 +122,15 @@ public class IngredientTest {
         logger.info("Equality is true");
     }
 
+    @Test
+    void hashCode_differentCapitalisationSameName_equalHashCodes() throws EZMealPlanException {
+        logger.fine("Running hashCode_differentCapitalisationSameName_equalHashCodes()");
+        Ingredient newIngredient1 = new Ingredient("salt", "2.50");
+        Ingredient newIngredient2 = new Ingredient("Salt", "2.50");
+        assertEquals(newIngredient1.hashCode(), newIngredient2.hashCode());
+        logger.info("Hash codes are equal");
+    }
+
     @Test
     public void setPrice_negativePrice_exceptionThrown() {
         logger.fine("Running setPrice_negativePrice_exceptionThrown()");
@@ -5,6 +5,8 @@ import ezmealplan.exceptions.EZMealPlanException;
 
 
 import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
 import java.util.logging.Level;
@@ -13,6 +15,7 @@ import java.util.logging.Logger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class MealTest {
     private static final Logger logger = Logger.getLogger(MealTest.class.getName());
@@ -104,6 +107,36 @@ class MealTest {
         logger.info("Equality is true");
     }
 
+    @Test
+    void hashCode_differentCapitalisationSameIngredient_equalHashCodes() throws EZMealPlanException {
+        logger.fine("Running hashCode_differentCapitalisationSameIngredient_equalHashCodes()");
+        Meal meal1 = new Meal("Chicken Rice");
+        meal1.addIngredient(new Ingredient("Chicken", "1.00"));
+        Meal meal2 = new Meal("chicken rice");
+        meal2.addIngredient(new Ingredient("CHICKEN", "1.00"));
+        assertEquals(meal1.hashCode(), meal2.hashCode());
+        assertTrue(new HashSet<>(List.of(meal1)).contains(meal2));
+        logger.info("Hash codes are equal");
+    }
+
+    @Test
+    void equals_namesContainingKeySeparators_notEqual() throws EZMealPlanException {
+        logger.fine("Running equals_namesContainingKeySeparators_notEqual()");
+        Meal meal1 = new Meal("Rice || Chicken | 100");
+        meal1.addIngredient(new Ingredient("Egg", "1.00"));
+        Meal meal2 = new Meal("Rice");
+        meal2.addIngredient(new Ingredient("Egg", "1.00"));
+        meal2.addIngredient(new Ingredient("Chicken", "1.00"));
+        Meal meal3 = new Meal("Rice");
+        meal3.addIngredient(new Ingredient("Chicken | 100 || Egg", "1.00"));
+        assertNotEquals(meal1.getIdentityKey(), meal2.getIdentityKey());
+        assertNotEquals(meal2.getIdentityKey(), meal3.getIdentityKey());
+        assertNotEquals(meal1, meal2);
+        assertNotEquals(meal2, meal3);
+        assertEquals(3, new HashSet<>(List.of(meal1, meal2, meal3)).size());
+        logger.info("Names containing the separators of the identity key do not make different meals equal");
+    }
+
     @Test
     void addIngredient_ingredients_correctIngredientListAndPrice()
             throws EZMealPlanException {
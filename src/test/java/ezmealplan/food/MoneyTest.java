@@ -0,0 +1,88 @@
+package ezmealplan.food;
+
+import ezmealplan.exceptions.EZMealPlanException;
+import ezmealplan.exceptions.InvalidPriceException;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MoneyTest {
+    private static final Logger logger = Logger.getLogger(MoneyTest.class.getName());
+
+    public MoneyTest() {
+        String fileName = "MoneyTest.log";
+        setupLogger(fileName);
+    }
+
+    private static void setupLogger(String fileName) {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+        createLogFile(fileName);
+    }
+
+    private static void createLogFile(String fileName) {
+        try {
+            FileHandler fileHandler = new FileHandler(fileName, true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "File logger is not working.", ioException);
+        }
+    }
+
+    @Test
+    public void format_validAmounts_twoDecimalPlaces() {
+        logger.fine("Running format_validAmounts_twoDecimalPlaces()");
+        assertEquals("0.00", Money.format(0));
+        assertEquals("0.05", Money.format(5));
+        assertEquals("0.50", Money.format(50));
+        assertEquals("10.05", Money.format(1005));
+        assertEquals("9999999999999.99", Money.format(Money.MAX_CENTS));
+        logger.info("Amounts are formatted in 2 decimal places");
+    }
+
+    @Test
+    public void isValid_amountsAroundBounds_correctResult() {
+        logger.fine("Running isValid_amountsAroundBounds_correctResult()");
+        assertTrue(Money.isValid(0));
+        assertTrue(Money.isValid(Money.MAX_CENTS));
+        assertFalse(Money.isValid(-1));
+        assertFalse(Money.isValid(Money.MAX_CENTS + 1));
+        logger.info("Only amounts from 0.00 to 9999999999999.99 are valid");
+    }
+
+    @Test
+    public void addIngredient_manyIngredients_exactMealPrice() throws EZMealPlanException {
+        logger.fine("Running addIngredient_manyIngredients_exactMealPrice()");
+        Meal meal = new Meal("Tenths");
+        for (int i = 0; i < 10; i++) {
+            meal.addIngredient(new Ingredient("Ingredient " + i, "0.10"));
+        }
+        assertEquals(100, meal.getPriceInCents());
+        assertEquals("Tenths ($1.00)", meal.toString());
+        logger.info("The price of the meal is summed exactly");
+    }
+
+    @Test
+    public void addIngredient_priceAboveMaximum_exceptionThrown() throws EZMealPlanException {
+        logger.fine("Running addIngredient_priceAboveMaximum_exceptionThrown()");
+        Meal meal = new Meal("Expensive");
+        meal.addIngredient(new Ingredient("Gold", "9999999999999.99"));
+        assertThrows(InvalidPriceException.class, () -> meal.addIngredient(new Ingredient("Salt", "0.01")));
+        logger.info("Correct Exception is thrown");
+    }
+}
@@ -131,6 +131,20 @@ class InventoryTest {
         logger.info("Correct ingredients and quantities");
     }
 
+    @Test
+    void addAndRemoveIngredient_withQuantity_correctQuantity() throws InventoryIngredientNotFound {
+        logger.fine("Running addAndRemoveIngredient_withQuantity_correctQuantity()");
+        Inventory inventory = new Inventory();
+        inventory.addIngredient(ingredient1, 500);
+        inventory.addIngredient(ingredient5, 20);
+        inventory.removeIngredient(ingredient1, 120);
+        assertEquals(400, inventory.getIngredientAmount(ingredient1));
+        inventory.removeIngredient(ingredient5, 400);
+        assertFalse(inventory.hasIngredient(ingredient1));
+        assertEquals("", inventory.toString());
+        logger.info("Correct quantities");
+    }
+
     @Test
     void removeIngredient_repeatedIngredientDifferentPrice_exceptionThrown() {
         logger.fine("Running removeIngredient_repeatedIngredientDifferentPrice_exceptionThrown()");
@@ -9,6 +9,8 @@ import ezmealplan.food.Ingredient;
 import ezmealplan.food.Meal;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
 import java.util.logging.Level;
@@ -80,6 +82,100 @@ class MealListTest {
         logger.info("Correct Exception is thrown");
     }
 
+    @Test
+    void addAll_mealsWithDuplicate_sortedAndDuplicateSkipped() throws EZMealPlanException {
+        logger.fine("Running addAll_mealsWithDuplicate_sortedAndDuplicateSkipped()");
+        MealList recipesList = new RecipesList();
+        recipesList.addMeal(meal3);
+        List<DuplicateMealException> skippedMeals = recipesList.addAll(List.of(meal1, meal3, meal2, meal1));
+        assertEquals(2, skippedMeals.size());
+        assertEquals("[Apple Pie ($0.50), Chicken Rice ($1.00), French Fries ($0.80)]",
+                recipesList.getList().toString());
+        logger.info("recipesList is sorted and the duplicate meals are skipped");
+    }
+
+    @Test
+    void addAll_mealsBetweenExistingMeals_mergedInOrder() throws EZMealPlanException {
+        logger.fine("Running addAll_mealsBetweenExistingMeals_mergedInOrder()");
+        MealList recipesList = new RecipesList();
+        recipesList.addMeal(meal2);
+        recipesList.addMeal(meal3);
+        recipesList.addAll(List.of(meal1));
+        assertEquals("[Apple Pie ($0.50), Chicken Rice ($1.00), French Fries ($0.80)]",
+                recipesList.getList().toString());
+        int countAfterMerging = recipesList.getModificationCount();
+        recipesList.addAll(List.of(meal3, meal2));
+        assertEquals(countAfterMerging, recipesList.getModificationCount());
+        logger.info("The new meals are merged at their sorted positions");
+    }
+
+    @Test
+    void addAll_observer_toldAfterMealsAreInList() throws EZMealPlanException {
+        logger.fine("Running addAll_observer_toldAfterMealsAreInList()");
+        MealList recipesList = new RecipesList();
+        recipesList.addMeal(meal3);
+        int initialCount = recipesList.getModificationCount();
+        List<Meal> notifiedMeals = new ArrayList<>();
+        recipesList.addObserver(new MealListObserver() {
+            @Override
+            public void onMealAdded(Meal meal) {
+                assertEquals(3, recipesList.size());
+                assertTrue(recipesList.getModificationCount() > initialCount);
+                notifiedMeals.add(meal);
+            }
+
+            @Override
+            public void onMealRemoved(Meal meal) {
+            }
+
+            @Override
+            public void onMealsCleared() {
+            }
+        });
+        recipesList.addAll(List.of(meal1, meal2));
+        assertEquals(List.of(meal1, meal2), notifiedMeals);
+        logger.info("Observers are only told about the added meals once they are all merged into the list");
+    }
+
+    @Test
+    void getListAdd_duplicateMeal_notAdded() throws EZMealPlanException {
+        logger.fine("Running getListAdd_duplicateMeal_notAdded()");
+        MealList recipesList = new RecipesList();
+        recipesList.addMeal(meal1);
+        Meal duplicateMeal = new Meal("Chicken Rice");
+        duplicateMeal.addIngredient(new Ingredient("Chicken", "1.00"));
+        assertFalse(recipesList.getList().add(duplicateMeal));
+        assertEquals(1, recipesList.size());
+        recipesList.removeMeal(0);
+        assertFalse(recipesList.contains(meal1));
+        logger.info("A duplicate meal added through the List view is not added");
+    }
+
+    @Test
+    void getListAdd_atIndex_exceptionThrown() {
+        logger.fine("Running getListAdd_atIndex_exceptionThrown()");
+        MealList recipesList = new RecipesList();
+        assertThrows(UnsupportedOperationException.class, () -> recipesList.getList().add(0, meal1));
+        assertEquals(0, recipesList.size());
+        logger.info("Meals cannot be added at a given index through the List view");
+    }
+
+    @Test
+    void getModificationCount_addAndRemoveMeals_countIncreases() throws EZMealPlanException {
+        logger.fine("Running getModificationCount_addAndRemoveMeals_countIncreases()");
+        MealList recipesList = new RecipesList();
+        int initialCount = recipesList.getModificationCount();
+        recipesList.addMeal(meal1);
+        recipesList.getList().add(meal2);
+        assertTrue(recipesList.getModificationCount() > initialCount);
+        int countAfterAdding = recipesList.getModificationCount();
+        recipesList.getList().toString();
+        assertEquals(countAfterAdding, recipesList.getModificationCount());
+        recipesList.removeMeal(0);
+        assertTrue(recipesList.getModificationCount() > countAfterAdding);
+        logger.info("The modification count only changes when the list changes");
+    }
+
     @Test
     void removeMeal_indexWithinRange_success() throws EZMealPlanException {
         logger.fine("Running removeMeal_indexWithinRange_success()");
@@ -0,0 +1,144 @@
+package ezmealplan.food.list;
+
+import org.junit.jupiter.api.Test;
+
+import ezmealplan.exceptions.EZMealPlanException;
+import ezmealplan.food.Ingredient;
+import ezmealplan.food.Meal;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RecipesListTest {
+    private static final Logger logger = Logger.getLogger(RecipesListTest.class.getName());
+    private final Meal porkNoodles;
+    private final Meal porkChop;
+    private final Meal eggFriedRice;
+
+    public RecipesListTest() throws EZMealPlanException {
+        String fileName = "RecipesListTest.log";
+        setupLogger(fileName);
+        porkNoodles = new Meal("Minced Pork Noodles");
+        porkNoodles.addIngredient(new Ingredient("Minced Pork", "3.00"));
+        porkNoodles.addIngredient(new Ingredient("Noodles", "1.00"));
+        porkChop = new Meal("Pork Chop");
+        porkChop.addIngredient(new Ingredient("Pork Loin", "5.00"));
+        eggFriedRice = new Meal("Egg Fried Rice");
+        eggFriedRice.addIngredient(new Ingredient("Egg", "0.50"));
+        eggFriedRice.addIngredient(new Ingredient("Rice", "1.00"));
+    }
+
+    private static void setupLogger(String fileName) {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+        createLogFile(fileName);
+    }
+
+    private static void createLogFile(String fileName) {
+        try {
+            FileHandler fileHandler = new FileHandler(fileName, true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "File logger is not working.", ioException);
+        }
+    }
+
+    private RecipesList createRecipesList() throws EZMealPlanException {
+        RecipesList recipesList = new RecipesList();
+        recipesList.addMeal(porkNoodles);
+        recipesList.addMeal(porkChop);
+        recipesList.addMeal(eggFriedRice);
+        return recipesList;
+    }
+
+    @Test
+    void findMealsWithIngredients_partOfIngredientName_mealsInListOrder() throws EZMealPlanException {
+        logger.fine("Running findMealsWithIngredients_partOfIngredientName_mealsInListOrder()");
+        RecipesList recipesList = createRecipesList();
+        assertEquals(List.of(porkNoodles, porkChop), recipesList.findMealsWithIngredients(new String[]{"pork"}));
+        assertEquals(List.of(porkNoodles), recipesList.findMealsWithIngredients(new String[]{"MINCED", "noodle"}));
+        assertEquals(List.of(), recipesList.findMealsWithIngredients(new String[]{"pork", "egg"}));
+        assertEquals(2, recipesList.estimateMealsWithIngredients(new String[]{"pork"}));
+        logger.info("A term matches every ingredient whose name contains it, ignoring case");
+    }
+
+    @Test
+    void findMealsWithIngredients_mealAdded_indexUpdated() throws EZMealPlanException {
+        logger.fine("Running findMealsWithIngredients_mealAdded_indexUpdated()");
+        RecipesList recipesList = createRecipesList();
+        Meal porkRice = new Meal("Pork Rice");
+        porkRice.addIngredient(new Ingredient("Pork Belly", "4.00"));
+        porkRice.addIngredient(new Ingredient("Rice", "1.00"));
+        recipesList.getList().add(porkRice);
+        assertEquals(List.of(porkNoodles, porkChop, porkRice),
+                recipesList.findMealsWithIngredients(new String[]{"pork"}));
+        assertEquals(List.of(eggFriedRice, porkRice), recipesList.findMealsWithIngredients(new String[]{"rice"}));
+        logger.info("A meal added to the list is found by its ingredients");
+    }
+
+    @Test
+    void findMealsWithIngredients_mealRemoved_indexUpdated() throws EZMealPlanException {
+        logger.fine("Running findMealsWithIngredients_mealRemoved_indexUpdated()");
+        RecipesList recipesList = createRecipesList();
+        recipesList.removeMeal(recipesList.getIndex(porkNoodles));
+        assertEquals(List.of(porkChop), recipesList.findMealsWithIngredients(new String[]{"pork"}));
+        assertEquals(List.of(), recipesList.findMealsWithIngredients(new String[]{"minced"}));
+        assertEquals(0, recipesList.estimateMealsWithIngredients(new String[]{"noodles"}));
+        logger.info("A removed meal is no longer found by its ingredients");
+    }
+
+    @Test
+    void findMealsWithIngredients_listCleared_nothingFound() throws EZMealPlanException {
+        logger.fine("Running findMealsWithIngredients_listCleared_nothingFound()");
+        RecipesList recipesList = createRecipesList();
+        recipesList.getList().clear();
+        assertEquals(List.of(), recipesList.findMealsWithIngredients(new String[]{"pork"}));
+        assertEquals(0, recipesList.estimateMealsWithIngredients(new String[]{"rice"}));
+        recipesList.addMeal(porkChop);
+        assertEquals(List.of(porkChop), recipesList.findMealsWithIngredients(new String[]{"pork"}));
+        logger.info("Clearing the list clears the ingredient index");
+    }
+
+    @Test
+    void findMealsWithName_termsShorterThanTrigram_listScanned() throws EZMealPlanException {
+        logger.fine("Running findMealsWithName_termsShorterThanTrigram_listScanned()");
+        RecipesList recipesList = createRecipesList();
+        assertEquals(List.of(eggFriedRice, porkNoodles, porkChop), recipesList.findMealsWithName(new String[]{"r"}));
+        assertEquals(List.of(porkNoodles, porkChop), recipesList.findMealsWithName(new String[]{"PO", "k"}));
+        assertEquals(3, recipesList.estimateMealsWithName(new String[]{"po"}));
+        logger.info("Terms shorter than a trigram are matched by scanning the whole list");
+    }
+
+    @Test
+    void findMealsWithName_shortAndLongTerms_allTermsChecked() throws EZMealPlanException {
+        logger.fine("Running findMealsWithName_shortAndLongTerms_allTermsChecked()");
+        RecipesList recipesList = createRecipesList();
+        assertEquals(List.of(porkNoodles, porkChop), recipesList.findMealsWithName(new String[]{"pork", "c"}));
+        assertEquals(List.of(porkChop), recipesList.findMealsWithName(new String[]{"ch", "pork"}));
+        assertEquals(List.of(), recipesList.findMealsWithName(new String[]{"pork", "eg"}));
+        assertEquals(2, recipesList.estimateMealsWithName(new String[]{"pork", "c"}));
+        logger.info("The short terms are checked against the candidates found with the long terms");
+    }
+
+    @Test
+    void findMealsWithName_mealRemoved_indexUpdated() throws EZMealPlanException {
+        logger.fine("Running findMealsWithName_mealRemoved_indexUpdated()");
+        RecipesList recipesList = createRecipesList();
+        recipesList.removeMeal(recipesList.getIndex(porkChop));
+        assertEquals(List.of(porkNoodles), recipesList.findMealsWithName(new String[]{"pork"}));
+        assertEquals(List.of(), recipesList.findMealsWithName(new String[]{"chop"}));
+        assertEquals(0, recipesList.estimateMealsWithName(new String[]{"chop"}));
+        logger.info("A removed meal is no longer found by its name");
+    }
+}
@@ -0,0 +1,106 @@
+package ezmealplan.logic;
+
+import ezmealplan.exceptions.EZMealPlanException;
+import ezmealplan.food.Ingredient;
+import ezmealplan.food.Meal;
+import ezmealplan.food.list.MealList;
+import ezmealplan.food.list.RecipesList;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class MealIdsTest {
+    private static final Logger logger = Logger.getLogger(MealIdsTest.class.getName());
+
+    public MealIdsTest() {
+        String fileName = "MealIdsTest.log";
+        setupLogger(fileName);
+    }
+
+    private static void setupLogger(String fileName) {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+        createLogFile(fileName);
+    }
+
+    private static void createLogFile(String fileName) {
+        try {
+            FileHandler fileHandler = new FileHandler(fileName, true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "File logger is not working.", ioException);
+        }
+    }
+
+    private static Meal createMeal(String mealName) throws EZMealPlanException {
+        Meal meal = new Meal(mealName);
+        meal.addIngredient(new Ingredient("Rice", "1.00"));
+        return meal;
+    }
+
+    @Test
+    public void getId_mealsAddedAndRemoved_idsStableAndNotReused() throws EZMealPlanException {
+        logger.fine("Running getId_mealsAddedAndRemoved_idsStableAndNotReused()");
+        MealList recipesList = new RecipesList();
+        MealIds mealIds = new MealIds(recipesList);
+        Meal zucchini = createMeal("Zucchini Rice");
+        Meal apple = createMeal("Apple Rice");
+        recipesList.addMeal(zucchini);
+        recipesList.addMeal(apple);
+        assertEquals(1, mealIds.getId(zucchini));
+        assertEquals(2, mealIds.getId(apple));
+        assertEquals(createMeal("Zucchini Rice"), mealIds.getMeal(1));
+
+        recipesList.removeMeal(1);
+        Meal banana = createMeal("Banana Rice");
+        recipesList.addMeal(banana);
+        assertNull(mealIds.getMeal(1));
+        assertEquals(MealIds.NO_ID, mealIds.getId(zucchini));
+        assertEquals(2, mealIds.getId(apple));
+        assertEquals(3, mealIds.getId(banana));
+        logger.info("Meal IDs do not change as other meals are added and removed, and are not reused");
+    }
+
+    @Test
+    public void restore_savedIds_idsGivenOnlyToTheirOwnMeals() throws EZMealPlanException {
+        logger.fine("Running restore_savedIds_idsGivenOnlyToTheirOwnMeals()");
+        MealList recipesList = new RecipesList();
+        MealIds mealIds = new MealIds(recipesList);
+        Meal apple = createMeal("Apple Rice");
+        Meal banana = createMeal("Banana Rice");
+        recipesList.addMeal(banana);
+        recipesList.addMeal(apple);
+
+        Map<String, Integer> savedIdsByKey = new HashMap<>();
+        savedIdsByKey.put(banana.getIdentityKey(), 7);
+        savedIdsByKey.put(createMeal("Deleted Rice").getIdentityKey(), 4);
+        mealIds.restore(savedIdsByKey, 9);
+        assertEquals(7, mealIds.getId(banana));
+        assertNull(mealIds.getMeal(4));
+        assertEquals(9, mealIds.getId(apple));
+        Meal cherry = createMeal("Cherry Rice");
+        recipesList.addMeal(cherry);
+        assertEquals(10, mealIds.getId(cherry));
+
+        savedIdsByKey.put(apple.getIdentityKey(), 7);
+        mealIds.restore(savedIdsByKey, 12);
+        assertEquals(9, mealIds.getId(apple));
+        assertEquals(7, mealIds.getId(banana));
+        logger.info("The saved meal IDs are restored to their own meals only if they are valid");
+    }
+}
@@ -0,0 +1,91 @@
+package ezmealplan.logic;
+
+import ezmealplan.food.Meal;
+import ezmealplan.food.list.RecipesList;
+import ezmealplan.storage.Storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MealScannerTest {
+    private static final Logger logger = Logger.getLogger(MealScannerTest.class.getName());
+    private final List<Meal> meals = new ArrayList<>();
+
+    public MealScannerTest() {
+        String fileName = "MealScannerTest.log";
+        setupLogger(fileName);
+        RecipesList recipesList = new RecipesList();
+        recipesList.addAll(Storage.loadPresetMeals());
+        for (int i = 0; i < 200; i++) {
+            meals.addAll(recipesList.getList());
+        }
+    }
+
+    private static void setupLogger(String fileName) {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+        createLogFile(fileName);
+    }
+
+    private static void createLogFile(String fileName) {
+        try {
+            FileHandler fileHandler = new FileHandler(fileName, true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "File logger is not working.", ioException);
+        }
+    }
+
+    @AfterEach
+    public void resetScanner() {
+        MealScanner.setScanMode(ScanMode.AUTO);
+        MealScanner.setParallelThreshold(MealScanner.DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    @Test
+    public void scan_parallelMode_sameMealsInSameOrder() {
+        logger.fine("Running scan_parallelMode_sameMealsInSameOrder()");
+        Predicate<Meal> predicate = meal -> meal.getName().toLowerCase().contains("rice");
+        MealScanner.setScanMode(ScanMode.SEQUENTIAL);
+        List<Meal> expectedMatches = MealScanner.scan(meals, predicate);
+        MealScanner.setScanMode(ScanMode.PARALLEL);
+        assertEquals(expectedMatches, MealScanner.scan(meals, predicate));
+        assertEquals(expectedMatches, MealScanner.stream(meals, predicate).collect(Collectors.toList()));
+        assertEquals(expectedMatches.subList(0, 3), MealScanner.stream(meals, predicate).limit(3)
+                .collect(Collectors.toList()));
+        logger.info("The parallel scan finds the same meals in the order of the list");
+    }
+
+    @Test
+    public void isParallel_autoMode_onlyFromThreshold() {
+        logger.fine("Running isParallel_autoMode_onlyFromThreshold()");
+        MealScanner.setParallelThreshold(1000);
+        assertFalse(MealScanner.isParallel(999));
+        MealScanner.setScanMode(ScanMode.PARALLEL);
+        assertTrue(MealScanner.isParallel(1));
+        MealScanner.setScanMode(ScanMode.SEQUENTIAL);
+        assertFalse(MealScanner.isParallel(Integer.MAX_VALUE));
+        assertEquals(ScanMode.AUTO, ScanMode.fromString("unknown"));
+        assertEquals(ScanMode.PARALLEL, ScanMode.fromString(" parallel "));
+        logger.info("Lists below the threshold are scanned sequentially in AUTO mode");
+    }
+}
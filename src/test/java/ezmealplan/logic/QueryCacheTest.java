@@ -0,0 +1,104 @@
+package ezmealplan.logic;
+
+import ezmealplan.exceptions.EZMealPlanException;
+import ezmealplan.food.Ingredient;
+import ezmealplan.food.Meal;
+import ezmealplan.storage.Storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class QueryCacheTest {
+    private static final Logger logger = Logger.getLogger(QueryCacheTest.class.getName());
+    private final MealManager mealManager = new MealManager();
+
+    public QueryCacheTest() {
+        String fileName = "QueryCacheTest.log";
+        setupLogger(fileName);
+        mealManager.addMeals(Storage.loadPresetMeals(), mealManager.getRecipesList());
+    }
+
+    private static void setupLogger(String fileName) {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+        createLogFile(fileName);
+    }
+
+    private static void createLogFile(String fileName) {
+        try {
+            FileHandler fileHandler = new FileHandler(fileName, true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "File logger is not working.", ioException);
+        }
+    }
+
+    @Test
+    public void filteringByIng_repeatedQuery_answeredFromCache() {
+        logger.fine("Running filteringByIng_repeatedQuery_answeredFromCache()");
+        QueryCache queryCache = mealManager.getQueryCache();
+        List<Meal> firstMeals = mealManager.filteringByIng(new String[]{"Chicken", "rice"})
+                .collect(Collectors.toList());
+        List<Meal> repeatedMeals = mealManager.filteringByIng(new String[]{"rice", "chicken"})
+                .collect(Collectors.toList());
+        assertEquals(firstMeals, repeatedMeals);
+        assertEquals(1, queryCache.getHitCount());
+        assertEquals(1, queryCache.getMissCount());
+        logger.info("The same query entered differently is answered from the cache");
+    }
+
+    @Test
+    public void filteringByMname_stoppedEarly_notCached() {
+        logger.fine("Running filteringByMname_stoppedEarly_notCached()");
+        QueryCache queryCache = mealManager.getQueryCache();
+        mealManager.filteringByMname(new String[]{"a"}).limit(1).collect(Collectors.toList());
+        mealManager.filteringByMname(new String[]{"a"}).collect(Collectors.toList());
+        assertEquals(0, queryCache.getHitCount());
+        assertEquals(2, queryCache.getMissCount());
+        logger.info("Only queries consumed to their end are cached");
+    }
+
+    @Test
+    public void filteringByIng_mealAdded_cacheInvalidated() throws EZMealPlanException {
+        logger.fine("Running filteringByIng_mealAdded_cacheInvalidated()");
+        int mealCount = (int) mealManager.filteringByIng(new String[]{"chicken"}).count();
+        Meal newMeal = new Meal("Chicken Soup");
+        newMeal.addIngredient(new Ingredient("Chicken", "2.50"));
+        mealManager.addMeal(newMeal, mealManager.getRecipesList());
+        List<Meal> filteredMeals = mealManager.filteringByIng(new String[]{"chicken"}).collect(Collectors.toList());
+        assertEquals(mealCount + 1, filteredMeals.size());
+        assertTrue(filteredMeals.contains(newMeal));
+        assertEquals(0, mealManager.getQueryCache().getHitCount());
+        logger.info("Adding a meal invalidates the cached queries of its list");
+    }
+
+    @Test
+    public void findingByIngKeyword_wishListCleared_cacheInvalidated() throws EZMealPlanException {
+        logger.fine("Running findingByIngKeyword_wishListCleared_cacheInvalidated()");
+        Meal newMeal = new Meal("Chicken Soup");
+        newMeal.addIngredient(new Ingredient("Chicken", "2.50"));
+        mealManager.addMeal(newMeal, mealManager.getWishList());
+        assertEquals(1, mealManager.findingByIngKeyword(mealManager.getWishList(), "chicken").size());
+        assertEquals(1, mealManager.findingByIngKeyword(mealManager.getWishList(), "CHICKEN").size());
+        mealManager.getWishList().getList().clear();
+        assertTrue(mealManager.findingByIngKeyword(mealManager.getWishList(), "chicken").isEmpty());
+        assertEquals(1, mealManager.getQueryCache().getHitCount());
+        assertEquals(2, mealManager.getQueryCache().getMissCount());
+        logger.info("Clearing the wishlist invalidates its cached queries");
+    }
+}
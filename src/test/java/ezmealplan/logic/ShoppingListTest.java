@@ -0,0 +1,119 @@
+package ezmealplan.logic;
+
+import ezmealplan.exceptions.EZMealPlanException;
+import ezmealplan.food.Ingredient;
+import ezmealplan.food.Meal;
+import ezmealplan.food.list.Inventory;
+import ezmealplan.food.list.MealList;
+import ezmealplan.food.list.WishList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ShoppingListTest {
+    private static final Logger logger = Logger.getLogger(ShoppingListTest.class.getName());
+    private final MealList wishList = new WishList();
+    private final Inventory inventory = new Inventory();
+    private final Ingredient chicken;
+    private final Ingredient rice;
+    private final Meal chickenRice;
+    private final Meal chickenSoup;
+
+    public ShoppingListTest() throws EZMealPlanException {
+        String fileName = "ShoppingListTest.log";
+        setupLogger(fileName);
+        chicken = new Ingredient("Chicken", "2.00");
+        rice = new Ingredient("Rice", "1.00");
+        chickenRice = new Meal("Chicken Rice");
+        chickenRice.addIngredient(chicken);
+        chickenRice.addIngredient(rice);
+        chickenSoup = new Meal("Chicken Soup");
+        chickenSoup.addIngredient(new Ingredient("chicken", "2.00"));
+        chickenSoup.addIngredient(new Ingredient("Water", "0.10"));
+    }
+
+    private static void setupLogger(String fileName) {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+        createLogFile(fileName);
+    }
+
+    private static void createLogFile(String fileName) {
+        try {
+            FileHandler fileHandler = new FileHandler(fileName, true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "File logger is not working.", ioException);
+        }
+    }
+
+    @BeforeEach
+    public void setUp() throws EZMealPlanException {
+        wishList.addMeal(chickenRice);
+    }
+
+    @Test
+    public void getItems_sharedIngredient_aggregated() throws EZMealPlanException {
+        logger.fine("Running getItems_sharedIngredient_aggregated()");
+        ShoppingList shoppingList = new ShoppingList(wishList, inventory);
+        wishList.addMeal(chickenSoup);
+        List<ShoppingItem> items = shoppingList.getItems();
+        assertEquals(3, items.size());
+        assertEquals(chicken, items.get(0).getIngredient());
+        assertEquals(2, items.get(0).getQuantity());
+        assertEquals(rice, items.get(1).getIngredient());
+        assertEquals("Water", items.get(2).getIngredient().getName());
+        assertEquals(4, shoppingList.getTotalQuantity());
+        assertEquals(510, shoppingList.getTotalCents());
+        logger.info("An ingredient used by several meals is listed once with its total quantity");
+    }
+
+    @Test
+    public void getItems_buyAndConsume_inventorySubtracted() throws EZMealPlanException {
+        logger.fine("Running getItems_buyAndConsume_inventorySubtracted()");
+        ShoppingList shoppingList = new ShoppingList(wishList, inventory);
+        wishList.addMeal(chickenSoup);
+        inventory.addIngredient(chicken, 3);
+        inventory.addIngredient(new Ingredient("Salt", "0.20"));
+        assertEquals(2, shoppingList.getItems().size());
+        assertEquals(110, shoppingList.getTotalCents());
+        inventory.removeIngredient(chicken, 2);
+        assertEquals(chicken, shoppingList.getItems().get(0).getIngredient());
+        assertEquals(1, shoppingList.getItems().get(0).getQuantity());
+        assertEquals(310, shoppingList.getTotalCents());
+        logger.info("Ingredients in the inventory are left out as they are bought and consumed");
+    }
+
+    @Test
+    public void getItems_removeAndClear_updated() throws EZMealPlanException {
+        logger.fine("Running getItems_removeAndClear_updated()");
+        inventory.addIngredient(rice);
+        ShoppingList shoppingList = new ShoppingList(wishList, inventory);
+        wishList.addMeal(chickenSoup);
+        wishList.removeMeal(0);
+        assertEquals(2, shoppingList.getItems().size());
+        assertEquals(210, shoppingList.getTotalCents());
+        wishList.getList().clear();
+        assertTrue(shoppingList.getItems().isEmpty());
+        assertEquals(0, shoppingList.getTotalCents());
+        wishList.addMeal(chickenRice);
+        assertEquals(List.of(chicken), List.of(shoppingList.getItems().get(0).getIngredient()));
+        assertEquals(200, shoppingList.getTotalCents());
+        logger.info("The shopping list follows the meals removed from and cleared out of the list");
+    }
+}
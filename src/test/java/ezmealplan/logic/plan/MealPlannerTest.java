@@ -0,0 +1,113 @@
+package ezmealplan.logic.plan;
+
+import ezmealplan.exceptions.EZMealPlanException;
+import ezmealplan.food.Ingredient;
+import ezmealplan.food.Meal;
+import ezmealplan.food.list.Inventory;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MealPlannerTest {
+    private static final Logger logger = Logger.getLogger(MealPlannerTest.class.getName());
+    private final List<Meal> recipes = new ArrayList<>();
+    private final Inventory inventory = new Inventory();
+
+    public MealPlannerTest() {
+        String fileName = "MealPlannerTest.log";
+        setupLogger(fileName);
+    }
+
+    private static void setupLogger(String fileName) {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+        createLogFile(fileName);
+    }
+
+    private static void createLogFile(String fileName) {
+        try {
+            FileHandler fileHandler = new FileHandler(fileName, true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "File logger is not working.", ioException);
+        }
+    }
+
+    /**
+     * Salted Water is the cheapest meal on its own, but the two pork meals share their most expensive ingredient.
+     */
+    @BeforeEach
+    public void setUp() throws EZMealPlanException {
+        MealPlanner.setTimeBudgetMillis(50);
+        recipes.add(createMeal("Salted Water", "Salt", "1.00"));
+        recipes.add(createMeal("Pork Leek", "Pork", "3.00", "Leek", "0.10"));
+        recipes.add(createMeal("Pork Bun", "Pork", "3.00", "Bun", "0.20"));
+        recipes.add(createMeal("Tofu", "Tofu", "2.50"));
+    }
+
+    @AfterEach
+    public void resetTimeBudget() {
+        MealPlanner.setTimeBudgetMillis(MealPlanner.DEFAULT_TIME_BUDGET_MILLIS);
+    }
+
+    private static Meal createMeal(String name, String... ingredientNamesAndPrices) throws EZMealPlanException {
+        Meal meal = new Meal(name);
+        for (int i = 0; i < ingredientNamesAndPrices.length; i += 2) {
+            meal.addIngredient(new Ingredient(ingredientNamesAndPrices[i], ingredientNamesAndPrices[i + 1]));
+        }
+        return meal;
+    }
+
+    @Test
+    public void plan_sharedIngredient_sharingMealsChosen() {
+        logger.fine("Running plan_sharedIngredient_sharingMealsChosen()");
+        MealPlan plan = new MealPlanner(recipes, inventory, 2).plan(2, betterPlan -> { });
+        assertEquals(List.of(1, 2), plan.getMealIndexes());
+        assertEquals(330, plan.getSpendCents());
+        assertEquals(3, plan.getIngredientsToBuy().size());
+        assertEquals(1, plan.getReusedCount());
+        logger.info("The meals sharing an ingredient are planned together");
+    }
+
+    @Test
+    public void plan_ownedIngredient_notBought() throws EZMealPlanException {
+        logger.fine("Running plan_ownedIngredient_notBought()");
+        inventory.addIngredient(new Ingredient("Tofu", "2.50"));
+        MealPlan plan = new MealPlanner(recipes, inventory, 1).plan(1, betterPlan -> { });
+        assertEquals(List.of(3), plan.getMealIndexes());
+        assertEquals(0, plan.getSpendCents());
+        assertTrue(plan.getIngredientsToBuy().isEmpty());
+        logger.info("Ingredients in the inventory are not bought");
+    }
+
+    @Test
+    public void plan_betterPlansFound_reportedWithDecreasingSpend() {
+        logger.fine("Running plan_betterPlansFound_reportedWithDecreasingSpend()");
+        List<MealPlan> reportedPlans = new ArrayList<>();
+        MealPlan plan = new MealPlanner(recipes, inventory, 2).plan(2, reportedPlans::add);
+        assertFalse(reportedPlans.isEmpty());
+        for (int i = 1; i < reportedPlans.size(); i++) {
+            assertTrue(reportedPlans.get(i).getSpendCents() <= reportedPlans.get(i - 1).getSpendCents());
+        }
+        assertEquals(plan, reportedPlans.get(reportedPlans.size() - 1));
+        logger.info("Every better plan is reported as it is found");
+    }
+}
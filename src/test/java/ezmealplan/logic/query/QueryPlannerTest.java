@@ -0,0 +1,99 @@
+package ezmealplan.logic.query;
+
+import ezmealplan.exceptions.EZMealPlanException;
+import ezmealplan.food.Meal;
+import ezmealplan.food.list.RecipesList;
+import ezmealplan.parser.FilterQueryParser;
+import ezmealplan.storage.Storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class QueryPlannerTest {
+    private static final Logger logger = Logger.getLogger(QueryPlannerTest.class.getName());
+    private final RecipesList recipesList = new RecipesList();
+
+    public QueryPlannerTest() {
+        String fileName = "QueryPlannerTest.log";
+        setupLogger(fileName);
+        recipesList.addAll(Storage.loadPresetMeals());
+    }
+
+    private static void setupLogger(String fileName) {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+        createLogFile(fileName);
+    }
+
+    private static void createLogFile(String fileName) {
+        try {
+            FileHandler fileHandler = new FileHandler(fileName, true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "File logger is not working.", ioException);
+        }
+    }
+
+    @Test
+    public void execute_combinedQueries_sameMealsAsScan() throws EZMealPlanException {
+        logger.fine("Running execute_combinedQueries_sameMealsAsScan()");
+        String[] queries = {"filter /ing chicken /mname rice /mcost <6.00"
+                , "filter /ing chicken /not /mname rice /or /mcost <2.00"
+                , "filter /not /ing egg /or /mname mee /mcost 3.00-5.00", "filter /not /mname a"};
+        for (String queryString : queries) {
+            FilterQuery query = new FilterQueryParser(queryString, "filter").parse();
+            assertEquals(scan(query), new QueryPlanner(recipesList).execute(query));
+        }
+        logger.info("The planned queries return the same meals as a scan of the list");
+    }
+
+    @Test
+    public void execute_selectiveCondition_usedForIndexLookup() throws EZMealPlanException {
+        logger.fine("Running execute_selectiveCondition_usedForIndexLookup()");
+        FilterQuery query = new FilterQueryParser("filter /mcost <100.00 /mname rice", "filter").parse();
+        QueryPlanner queryPlanner = new QueryPlanner(recipesList);
+        queryPlanner.execute(query);
+        List<String> planSteps = queryPlanner.getPlanSteps();
+        assertTrue(planSteps.get(1).contains("Index lookup /mname rice"));
+        assertTrue(planSteps.get(2).contains("Verify /mcost <100.00"));
+        logger.info("The most selective condition is answered from its index");
+    }
+
+    private List<Meal> scan(FilterQuery query) {
+        List<Meal> matches = new ArrayList<>();
+        for (Meal meal : recipesList.getList()) {
+            if (matchesAnyGroup(query, meal)) {
+                matches.add(meal);
+            }
+        }
+        return matches;
+    }
+
+    private static boolean matchesAnyGroup(FilterQuery query, Meal meal) {
+        for (List<FilterCondition> group : query.getGroups()) {
+            boolean isMatchingGroup = true;
+            for (FilterCondition condition : group) {
+                isMatchingGroup &= condition.matches(meal);
+            }
+            if (isMatchingGroup) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
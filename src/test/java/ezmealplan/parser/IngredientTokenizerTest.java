@@ -0,0 +1,100 @@
+package ezmealplan.parser;
+
+import ezmealplan.exceptions.EZMealPlanException;
+import ezmealplan.exceptions.IngredientPriceFormatException;
+import ezmealplan.food.Ingredient;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IngredientTokenizerTest {
+    private static final Logger logger = Logger.getLogger(IngredientTokenizerTest.class.getName());
+
+    public IngredientTokenizerTest() {
+        String fileName = "IngredientTokenizerTest.log";
+        setupLogger(fileName);
+    }
+
+    private static void setupLogger(String fileName) {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+        createLogFile(fileName);
+    }
+
+    private static void createLogFile(String fileName) {
+        try {
+            FileHandler fileHandler = new FileHandler(fileName, true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "File logger is not working.", ioException);
+        }
+    }
+
+    @Test
+    public void next_mealDataLine_namesAndPricesInCents() {
+        logger.fine("Running next_mealDataLine_namesAndPricesInCents()");
+        IngredientTokenizer tokenizer = new IngredientTokenizer("Chicken Rice | chicken (2.50) |  rice ( 1.00 )", '|');
+        assertTrue(tokenizer.next());
+        assertEquals("Chicken Rice", tokenizer.getToken());
+        assertFalse(tokenizer.hasPrice());
+        assertTrue(tokenizer.next());
+        assertEquals("chicken", tokenizer.getName());
+        assertEquals(250, tokenizer.getPriceInCents());
+        assertTrue(tokenizer.next());
+        assertEquals("rice", tokenizer.getName());
+        assertEquals(100, tokenizer.getPriceInCents());
+        assertFalse(tokenizer.next());
+        logger.info("next_mealDataLine_namesAndPricesInCents() passed");
+    }
+
+    @Test
+    public void toIngredient_commandArguments_ingredientsCreated() throws EZMealPlanException {
+        logger.fine("Running toIngredient_commandArguments_ingredientsCreated()");
+        String userInput = "buy /ing egg (0.20), milk (1.10)";
+        int afterIngIndex = userInput.indexOf("/ing") + "/ing".length();
+        IngredientTokenizer tokenizer = new IngredientTokenizer(userInput, afterIngIndex, userInput.length(), ',');
+        assertTrue(tokenizer.next());
+        assertEquals(new Ingredient("egg", "0.20"), tokenizer.toIngredient());
+        assertTrue(tokenizer.next());
+        assertEquals(new Ingredient("milk", "1.10"), tokenizer.toIngredient());
+        assertFalse(tokenizer.next());
+        logger.info("toIngredient_commandArguments_ingredientsCreated() passed");
+    }
+
+    @Test
+    public void toIngredient_invalidPrice_exceptionThrown() {
+        logger.fine("Running toIngredient_invalidPrice_exceptionThrown()");
+        IngredientTokenizer tokenizer = new IngredientTokenizer("salt (1.5)", ',');
+        assertTrue(tokenizer.next());
+        assertThrows(IngredientPriceFormatException.class, tokenizer::toIngredient);
+        logger.info("toIngredient_invalidPrice_exceptionThrown() passed");
+    }
+
+    @Test
+    public void parsePriceInCents_validAndInvalidPrices_correctCents() {
+        logger.fine("Running parsePriceInCents_validAndInvalidPrices_correctCents()");
+        assertEquals(150, IngredientTokenizer.parsePriceInCents("1.50", 0, 4));
+        assertEquals(-250, IngredientTokenizer.parsePriceInCents("-2.50", 0, 5));
+        String[] invalidPrices = {"1.005", ".01", "1", ".", "1.2", "-.1", "10.", "1a.00"};
+        for (String invalidPrice : invalidPrices) {
+            assertEquals(IngredientTokenizer.INVALID_PRICE,
+                    IngredientTokenizer.parsePriceInCents(invalidPrice, 0, invalidPrice.length()));
+        }
+        logger.info("parsePriceInCents_validAndInvalidPrices_correctCents() passed");
+    }
+}
@@ -6,16 +6,19 @@ import ezmealplan.command.ByeCommand;
 import ezmealplan.command.ClearCommand;
 import ezmealplan.command.Command;
 import ezmealplan.command.ConsumeCommand;
+import ezmealplan.command.CookableCommand;
 import ezmealplan.command.CreateCommand;
 import ezmealplan.command.DeleteCommand;
 import ezmealplan.command.FilterCommand;
 import ezmealplan.command.HelpCommand;
 import ezmealplan.command.InventoryCommand;
 import ezmealplan.command.MistypedCommand;
+import ezmealplan.command.PlanCommand;
 import ezmealplan.command.RecipesCommand;
 import ezmealplan.command.RecommendCommand;
 import ezmealplan.command.RemoveCommand;
 import ezmealplan.command.SelectCommand;
+import ezmealplan.command.ShoplistCommand;
 import ezmealplan.command.UnknownCommand;
 import ezmealplan.command.ViewCommand;
 import ezmealplan.command.WishlistCommand;
@@ -102,6 +105,19 @@ public class ParserTest {
         assertInstanceOf(SelectCommand.class, command);
     }
 
+    /**
+     * parseSelectCommand_selectWithIndexListAndFilter_returnsSelectCommand
+     * Unit Being Tested: Parser.parse (select command)
+     * Description: Input "select 1-50, 60 /ing chicken"
+     * Expected Outcome: Returns an instance of SelectCommand.
+     */
+    @Test
+    public void parseSelectCommand_selectWithIndexListAndFilter_returnsSelectCommand()
+            throws ParserException, EZMealPlanException {
+        Command command = Parser.parse("select 1-50, 60 /ing chicken");
+        assertInstanceOf(SelectCommand.class, command);
+    }
+
     /**
      * parseRecipesCommand_recipesWithoutArguments_returnsRecipesCommand
      * Unit Being Tested: Parser.parse (recipes command)
@@ -230,6 +246,47 @@ public class ParserTest {
         assertInstanceOf(InventoryCommand.class, command);
     }
 
+    /**
+     * parseCookableCommand_cookableWithoutArguments_returnsCookableCommand
+     * Unit Being Tested: Parser.parse (cookable command)
+     * Description: Input "cookable" (without extra arguments)
+     * Expected Outcome: Returns an instance of CookableCommand, and extra arguments are rejected.
+     */
+    @Test
+    public void parseCookableCommand_cookableWithoutArguments_returnsCookableCommand()
+            throws ParserException, EZMealPlanException {
+        Command command = Parser.parse("cookable");
+        assertInstanceOf(CookableCommand.class, command);
+        assertThrows(ParserException.class, () -> Parser.parse("cookable extra"));
+    }
+
+    /**
+     * parsePlanCommand_planWithArgument_returnsPlanCommand
+     * Unit Being Tested: Parser.parse (plan command)
+     * Description: Input "plan 5" and "plan" (without arguments)
+     * Expected Outcome: Returns an instance of PlanCommand, and a missing argument is rejected.
+     */
+    @Test
+    public void parsePlanCommand_planWithArgument_returnsPlanCommand() throws ParserException, EZMealPlanException {
+        Command command = Parser.parse("plan 5");
+        assertInstanceOf(PlanCommand.class, command);
+        assertThrows(ParserException.class, () -> Parser.parse("plan"));
+    }
+
+    /**
+     * parseShoplistCommand_shoplistWithoutArguments_returnsShoplistCommand
+     * Unit Being Tested: Parser.parse (shoplist command)
+     * Description: Input "shoplist" (without extra arguments)
+     * Expected Outcome: Returns an instance of ShoplistCommand, and extra arguments are rejected.
+     */
+    @Test
+    public void parseShoplistCommand_shoplistWithoutArguments_returnsShoplistCommand()
+            throws ParserException, EZMealPlanException {
+        Command command = Parser.parse("shoplist");
+        assertInstanceOf(ShoplistCommand.class, command);
+        assertThrows(ParserException.class, () -> Parser.parse("shoplist extra"));
+    }
+
     @Test
     public void parseByeCommand_byeWithExtraArguments_exceptionThrown() {
         assertThrows(ParserException.class, () -> Parser.parse("bye extra"));
@@ -255,11 +312,6 @@ public class ParserTest {
         assertThrows(ParserException.class, () -> Parser.parse("select"));
     }
 
-    @Test
-    public void parseSelectCommand_selectWithTooManyArguments_exceptionThrown() {
-        assertThrows(ParserException.class, () -> Parser.parse("select item extra"));
-    }
-
     @Test
     public void parseRecipesCommand_recipesWithExtraArguments_exceptionThrown() {
         assertThrows(ParserException.class, () -> Parser.parse("recipes extra"));
@@ -0,0 +1,117 @@
+package ezmealplan.storage;
+
+import ezmealplan.food.Meal;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MealFileLoaderTest {
+    private static final Logger logger = Logger.getLogger(MealFileLoaderTest.class.getName());
+    private static final int MULTI_CHUNK_FILE_SIZE = 3 << 20;
+
+    public MealFileLoaderTest() {
+        String fileName = "MealFileLoaderTest.log";
+        setupLogger(fileName);
+    }
+
+    private static void setupLogger(String fileName) {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+        createLogFile(fileName);
+    }
+
+    private static void createLogFile(String fileName) {
+        try {
+            FileHandler fileHandler = new FileHandler(fileName, true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "File logger is not working.", ioException);
+        }
+    }
+
+    /**
+     * Returns the lines of a meal file with an invalid line every few lines, each with its own error message.
+     */
+    private static List<String> createLines(int fileSize) {
+        List<String> lines = new ArrayList<>();
+        int size = 0;
+        for (int i = 0; size < fileSize; i++) {
+            String line = switch (i % 7) {
+            case 3 -> "Meal " + i + " | Rice " + i;
+            case 5 -> "Meal " + i + " | Rice (" + i + ") | Egg " + i + " (abc)";
+            default -> "Meal " + i + " | Rice (" + i % 100 + ".50) | Egg (1.00)";
+            };
+            lines.add(line);
+            size += line.length() + 1;
+        }
+        return lines;
+    }
+
+    private static String captureErrorOutput(Runnable runnable) {
+        PrintStream originalErr = System.err;
+        ByteArrayOutputStream errorOutput = new ByteArrayOutputStream();
+        System.setErr(new PrintStream(errorOutput, true, StandardCharsets.UTF_8));
+        try {
+            runnable.run();
+        } finally {
+            System.setErr(originalErr);
+        }
+        return errorOutput.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void load_multiChunkFileWithInvalidLines_sameAsLineByLineParse() throws IOException {
+        logger.fine("Running load_multiChunkFileWithInvalidLines_sameAsLineByLineParse()");
+        List<String> lines = createLines(MULTI_CHUNK_FILE_SIZE);
+        File file = Files.createTempFile("recipesList", ".txt").toFile();
+        file.deleteOnExit();
+        Files.write(file.toPath(), lines, StandardCharsets.UTF_8);
+        assertTrue(file.length() > MULTI_CHUNK_FILE_SIZE);
+
+        List<Meal> expectedMeals = new ArrayList<>();
+        List<String> expectedErrorMessages = new ArrayList<>();
+        for (String line : lines) {
+            Meal meal = Storage.parseMeal(line, expectedErrorMessages);
+            if (meal != null) {
+                expectedMeals.add(meal);
+            }
+        }
+        String expectedErrorOutput = captureErrorOutput(() -> Storage.printErrorMessages(expectedErrorMessages));
+
+        List<Meal> meals = new ArrayList<>();
+        List<String> directives = new ArrayList<>();
+        String errorOutput = captureErrorOutput(() -> {
+            try {
+                meals.addAll(MealFileLoader.load(file, directives));
+            } catch (IOException ioException) {
+                throw new RuntimeException(ioException);
+            }
+        });
+
+        assertTrue(expectedErrorMessages.size() > 1);
+        assertEquals(expectedErrorOutput, errorOutput);
+        assertEquals(expectedMeals, meals);
+        assertEquals(0, directives.size());
+        logger.info("load_multiChunkFileWithInvalidLines_sameAsLineByLineParse passed");
+    }
+}
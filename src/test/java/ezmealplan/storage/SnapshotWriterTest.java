@@ -0,0 +1,158 @@
+package ezmealplan.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SnapshotWriterTest {
+    private static final Logger logger = Logger.getLogger(SnapshotWriterTest.class.getName());
+    private static final String PREVIOUS_SAVE = "Chicken Rice | Chicken (2.00) | Rice (1.00)";
+
+    public SnapshotWriterTest() {
+        String fileName = "SnapshotWriterTest.log";
+        setupLogger(fileName);
+    }
+
+    private static void setupLogger(String fileName) {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+        createLogFile(fileName);
+    }
+
+    private static void createLogFile(String fileName) {
+        try {
+            FileHandler fileHandler = new FileHandler(fileName, true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "File logger is not working.", ioException);
+        }
+    }
+
+    /**
+     * Returns a file holding a previous save, alone in a new directory so that leftover temporary files can be
+     * found.
+     */
+    private static Path createTarget() throws IOException {
+        Path directory = Files.createTempDirectory("snapshot");
+        directory.toFile().deleteOnExit();
+        Path target = directory.resolve("recipesList.txt");
+        Files.writeString(target, PREVIOUS_SAVE + System.lineSeparator(), StandardCharsets.UTF_8);
+        target.toFile().deleteOnExit();
+        return target;
+    }
+
+    private static void assertOnlyTargetInDirectory(Path target) {
+        String[] fileNames = target.getParent().toFile().list();
+        assertArrayEquals(new String[]{target.getFileName().toString()}, fileNames);
+    }
+
+    /**
+     * Returns more records than fit in the write buffer, including characters which take several bytes in UTF-8.
+     */
+    private static List<String> createRecords() {
+        List<String> records = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            records.add("Cr\u00e8me Br\u00fbl\u00e9e " + i + " | Cr\u00e8me (1.50) | Sucre (0.30)");
+        }
+        return records;
+    }
+
+    @Test
+    public void write_eachFsyncPolicy_targetReplacedAndByteCountCorrect() throws IOException {
+        logger.fine("Running write_eachFsyncPolicy_targetReplacedAndByteCountCorrect()");
+        List<String> records = createRecords();
+        byte[] expectedBytes = (String.join(System.lineSeparator(), records) + System.lineSeparator())
+                .getBytes(StandardCharsets.UTF_8);
+        FsyncPolicy originalPolicy = SnapshotWriter.getFsyncPolicy();
+        try {
+            for (FsyncPolicy policy : FsyncPolicy.values()) {
+                SnapshotWriter.setFsyncPolicy(policy);
+                Path target = createTarget();
+                long bytesWritten = SnapshotWriter.write(records, target.toString());
+                assertEquals(expectedBytes.length, bytesWritten);
+                assertArrayEquals(expectedBytes, Files.readAllBytes(target));
+                assertOnlyTargetInDirectory(target);
+            }
+        } finally {
+            SnapshotWriter.setFsyncPolicy(originalPolicy);
+        }
+        logger.info("Every policy replaces the target with the records and returns the number of bytes written");
+    }
+
+    @Test
+    public void write_unencodableRecord_targetUnchangedAndTempFileDeleted() throws IOException {
+        logger.fine("Running write_unencodableRecord_targetUnchangedAndTempFileDeleted()");
+        Path target = createTarget();
+        List<String> records = List.of("Egg Rice | Egg (0.50)", "Broken \uD800 Rice | Rice (1.00)");
+        assertThrows(IOException.class, () -> SnapshotWriter.write(records, target.toString()));
+        assertEquals(List.of(PREVIOUS_SAVE), Files.readAllLines(target, StandardCharsets.UTF_8));
+        assertOnlyTargetInDirectory(target);
+        logger.info("A failed write leaves the previous save and no temporary file");
+    }
+
+    @Test
+    public void write_recordsThrowWhileIterated_targetUnchangedAndTempFileDeleted() throws IOException {
+        logger.fine("Running write_recordsThrowWhileIterated_targetUnchangedAndTempFileDeleted()");
+        Path target = createTarget();
+        Iterable<String> records = () -> new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public String next() {
+                throw new IllegalStateException("The list changed while it was saved.");
+            }
+        };
+        assertThrows(IllegalStateException.class, () -> SnapshotWriter.write(records, target.toString()));
+        assertEquals(List.of(PREVIOUS_SAVE), Files.readAllLines(target, StandardCharsets.UTF_8));
+        assertOnlyTargetInDirectory(target);
+        logger.info("A write stopped by the records leaves the previous save and no temporary file");
+    }
+
+    @Test
+    public void write_missingDirectory_directoryCreated() throws IOException {
+        logger.fine("Running write_missingDirectory_directoryCreated()");
+        Path directory = Files.createTempDirectory("snapshot");
+        directory.toFile().deleteOnExit();
+        File subdirectory = directory.resolve("data").toFile();
+        subdirectory.deleteOnExit();
+        Path target = subdirectory.toPath().resolve("wishList.txt");
+        target.toFile().deleteOnExit();
+        SnapshotWriter.write(List.of(PREVIOUS_SAVE), target.toString());
+        assertEquals(List.of(PREVIOUS_SAVE), Files.readAllLines(target, StandardCharsets.UTF_8));
+        logger.info("The directory of the target is created if it does not exist");
+    }
+
+    @Test
+    public void fromString_policyNames_matchingPolicyOrData() {
+        logger.fine("Running fromString_policyNames_matchingPolicyOrData()");
+        assertEquals(FsyncPolicy.NONE, FsyncPolicy.fromString(" none "));
+        assertEquals(FsyncPolicy.FULL, FsyncPolicy.fromString("Full"));
+        assertEquals(FsyncPolicy.DATA, FsyncPolicy.fromString("data"));
+        assertEquals(FsyncPolicy.DATA, FsyncPolicy.fromString("sometimes"));
+        assertEquals(FsyncPolicy.DATA, FsyncPolicy.fromString(null));
+        logger.info("Unknown or missing policy names fall back to DATA");
+    }
+}
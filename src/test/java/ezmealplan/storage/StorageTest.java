@@ -0,0 +1,161 @@
+package ezmealplan.storage;
+
+import ezmealplan.exceptions.EZMealPlanException;
+import ezmealplan.food.Ingredient;
+import ezmealplan.food.Meal;
+import ezmealplan.food.list.Inventory;
+import ezmealplan.food.list.MealList;
+import ezmealplan.logic.MealManager;
+import ezmealplan.storage.presetmeals.PresetMeals;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class StorageTest {
+    private static final Logger logger = Logger.getLogger(StorageTest.class.getName());
+
+    public StorageTest() {
+        String fileName = "StorageTest.log";
+        setupLogger(fileName);
+    }
+
+    private static void setupLogger(String fileName) {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+        createLogFile(fileName);
+    }
+
+    private static void createLogFile(String fileName) {
+        try {
+            FileHandler fileHandler = new FileHandler(fileName, true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "File logger is not working.", ioException);
+        }
+    }
+
+    private static Meal createMeal(String mealName, String ingredientName) throws EZMealPlanException {
+        Meal meal = new Meal(mealName);
+        meal.addIngredient(new Ingredient(ingredientName, "1.50"));
+        return meal;
+    }
+
+    private static File createTempFile(String prefix) throws IOException {
+        File file = Files.createTempFile(prefix, ".txt").toFile();
+        file.deleteOnExit();
+        return file;
+    }
+
+    @Test
+    public void loadMealIds_mealDeletedAfterSaving_idsKeptByTheirOwnMeals() throws EZMealPlanException, IOException {
+        logger.fine("Running loadMealIds_mealDeletedAfterSaving_idsKeptByTheirOwnMeals()");
+        MealManager mealManager = new MealManager();
+        MealList recipesList = mealManager.getRecipesList();
+        recipesList.getList().clear();
+        mealManager.addMeals(List.of(createMeal("Apple Rice", "Apple"), createMeal("Banana Rice", "Banana"),
+                createMeal("Cherry Rice", "Cherry")), recipesList);
+        File mealIdsFile = createTempFile("mealIds");
+        Storage.writeMealIdsToFile(mealManager.getMealIds(), mealIdsFile.getPath());
+        int idOfApple = mealManager.getMealId(recipesList.getList().get(0));
+        int idOfCherry = mealManager.getMealId(recipesList.getList().get(2));
+
+        mealManager.removeMeal(1, recipesList);
+        File recipesListFile = createTempFile("recipesList");
+        Storage.writeMealsToFile(recipesList.getList(), recipesListFile.getPath());
+
+        MealManager reloadedMealManager = new MealManager();
+        MealList reloadedRecipesList = reloadedMealManager.getRecipesList();
+        reloadedRecipesList.getList().clear();
+        reloadedMealManager.addMeals(Storage.loadExistingList(recipesListFile), reloadedRecipesList);
+        Storage.loadMealIds(reloadedMealManager, mealIdsFile);
+
+        assertEquals(2, reloadedRecipesList.size());
+        assertEquals("Apple Rice", reloadedMealManager.getMealById(idOfApple, reloadedRecipesList).getName());
+        assertEquals("Cherry Rice", reloadedMealManager.getMealById(idOfCherry, reloadedRecipesList).getName());
+        logger.info("Each meal gets back its own meal ID, even from a meal IDs file saved before a deletion");
+    }
+
+    @Test
+    public void writeRecipesListToFile_presetDeletedAndMealAdded_onlyChangesWrittenAndReloaded()
+            throws EZMealPlanException, IOException {
+        logger.fine("Running writeRecipesListToFile_presetDeletedAndMealAdded_onlyChangesWrittenAndReloaded()");
+        List<Meal> presetMeals = PresetMeals.getCatalog();
+        assertFalse(presetMeals.isEmpty());
+        List<Meal> recipes = new ArrayList<>(presetMeals);
+        Meal deletedPreset = recipes.remove(0);
+        Meal addedMeal = createMeal("Zucchini Noodles", "Zucchini");
+        recipes.add(addedMeal);
+
+        File recipesListFile = createTempFile("recipesList");
+        Storage.writeRecipesListToFile(recipes, recipesListFile.getPath());
+
+        List<String> lines = Files.readAllLines(recipesListFile.toPath(), StandardCharsets.UTF_8);
+        assertEquals(List.of("| preset catalog", "| deleted | " + deletedPreset.toDataString(),
+                addedMeal.toDataString()), lines);
+        assertEquals(recipes, Storage.loadExistingList(recipesListFile));
+        logger.info("Only the deleted preset and the added meal are saved, and the same Recipes List is reloaded");
+    }
+
+    @Test
+    public void loadExistingList_fileWithoutDirectives_loadedWithoutPresetMeals()
+            throws EZMealPlanException, IOException {
+        logger.fine("Running loadExistingList_fileWithoutDirectives_loadedWithoutPresetMeals()");
+        List<Meal> meals = List.of(createMeal("Apple Rice", "Apple"), createMeal("Banana Rice", "Banana"));
+        File recipesListFile = createTempFile("recipesList");
+        Storage.writeMealsToFile(meals, recipesListFile.getPath());
+
+        assertEquals(meals, Storage.loadExistingList(recipesListFile));
+        logger.info("A file saved before overlays existed is loaded as it is");
+    }
+
+    @Test
+    public void replay_journalOverCompactedInventory_quantitiesNotChangedTwice()
+            throws EZMealPlanException, IOException {
+        logger.fine("Running replay_journalOverCompactedInventory_quantitiesNotChangedTwice()");
+        MealManager mealManager = new MealManager();
+        Inventory inventory = mealManager.getInventory();
+        Ingredient rice = new Ingredient("Rice", "1.00");
+        Ingredient egg = new Ingredient("Egg", "0.50");
+        File journalFile = createTempFile("journal");
+        Journal.open(journalFile);
+        for (Ingredient ingredient : List.of(rice, rice, rice, egg)) {
+            inventory.addIngredient(ingredient);
+            Journal.recordQuantity(ingredient, inventory.getIngredientAmount(ingredient));
+        }
+        for (Ingredient ingredient : List.of(rice, egg)) {
+            inventory.removeIngredient(ingredient);
+            Journal.recordQuantity(ingredient, inventory.getIngredientAmount(ingredient));
+        }
+        Journal.close();
+        File inventoryFile = createTempFile("inventoryList");
+        Storage.writeLinesToFile(inventory.toDataArray(), inventoryFile.getPath());
+
+        MealManager reloadedMealManager = new MealManager();
+        Storage.loadExistingInventory(reloadedMealManager, inventoryFile);
+        assertEquals(6, Journal.replay(reloadedMealManager, journalFile));
+
+        Inventory reloadedInventory = reloadedMealManager.getInventory();
+        assertEquals(2, reloadedInventory.getIngredientAmount(rice));
+        assertEquals(0, reloadedInventory.getIngredientAmount(egg));
+        assertEquals(inventory.toDataArray(), reloadedInventory.toDataArray());
+        logger.info("Replaying the journal over an Inventory which already holds its changes leaves it unchanged");
+    }
+}
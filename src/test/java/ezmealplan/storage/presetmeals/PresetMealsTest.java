@@ -0,0 +1,114 @@
+package ezmealplan.storage.presetmeals;
+
+import ezmealplan.exceptions.EZMealPlanException;
+import ezmealplan.food.Meal;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.FileHandler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PresetMealsTest {
+    private static final Logger logger = Logger.getLogger(PresetMealsTest.class.getName());
+    private static final int MAGIC_NUMBER = 0x455A4D50;
+    private static final short FORMAT_VERSION = 1;
+
+    public PresetMealsTest() {
+        String fileName = "PresetMealsTest.log";
+        setupLogger(fileName);
+    }
+
+    private static void setupLogger(String fileName) {
+        LogManager.getLogManager().reset();
+        logger.setLevel(Level.ALL);
+        ConsoleHandler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.INFO);
+        logger.addHandler(consoleHandler);
+        createLogFile(fileName);
+    }
+
+    private static void createLogFile(String fileName) {
+        try {
+            FileHandler fileHandler = new FileHandler(fileName, true);
+            fileHandler.setLevel(Level.FINE);
+            logger.addHandler(fileHandler);
+        } catch (IOException ioException) {
+            logger.log(Level.SEVERE, "File logger is not working.", ioException);
+        }
+    }
+
+    /**
+     * Returns a catalog of two meals which share the ingredient "Rice", in the format written by
+     * PresetCatalogCompiler.
+     */
+    private static DataInputStream createCatalog(int magicNumber) throws IOException {
+        ByteArrayOutputStream catalogBytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(catalogBytes);
+        output.writeInt(magicNumber);
+        output.writeShort(FORMAT_VERSION);
+        output.writeInt(2);
+        output.writeUTF("Rice");
+        output.writeLong(150);
+        output.writeUTF("Egg");
+        output.writeLong(1000);
+        output.writeInt(2);
+        output.writeUTF("Egg Fried Rice");
+        output.writeShort(2);
+        output.writeInt(0);
+        output.writeInt(1);
+        output.writeUTF("Plain Rice");
+        output.writeShort(1);
+        output.writeInt(0);
+        output.flush();
+        return new DataInputStream(new ByteArrayInputStream(catalogBytes.toByteArray()));
+    }
+
+    @Test
+    public void readCatalog_validCatalog_mealsReadInOrder() throws EZMealPlanException, IOException {
+        logger.fine("Running readCatalog_validCatalog_mealsReadInOrder()");
+        List<Meal> meals = PresetMeals.readCatalog(createCatalog(MAGIC_NUMBER));
+
+        assertEquals(2, meals.size());
+        assertEquals("Egg Fried Rice | Egg (10.00) | Rice (1.50)", meals.get(0).toDataString());
+        assertEquals("Plain Rice | Rice (1.50)", meals.get(1).toDataString());
+        assertSame(meals.get(0).getIngredientList().get(1), meals.get(1).getIngredientList().get(0));
+        logger.info("readCatalog_validCatalog_mealsReadInOrder passed");
+    }
+
+    @Test
+    public void readCatalog_wrongMagicNumber_exceptionThrown() throws IOException {
+        logger.fine("Running readCatalog_wrongMagicNumber_exceptionThrown()");
+        DataInputStream catalog = createCatalog(0);
+
+        assertThrows(IOException.class, () -> PresetMeals.readCatalog(catalog));
+        logger.info("readCatalog_wrongMagicNumber_exceptionThrown passed");
+    }
+
+    @Test
+    public void getCatalog_compiledCatalog_sortedAndUnmodifiable() {
+        logger.fine("Running getCatalog_compiledCatalog_sortedAndUnmodifiable()");
+        List<Meal> catalog = PresetMeals.getCatalog();
+
+        assertFalse(catalog.isEmpty());
+        for (int i = 1; i < catalog.size(); i++) {
+            assertTrue(catalog.get(i - 1).getName().compareToIgnoreCase(catalog.get(i).getName()) <= 0);
+        }
+        assertThrows(UnsupportedOperationException.class, () -> catalog.remove(0));
+        logger.info("getCatalog_compiledCatalog_sortedAndUnmodifiable passed");
+    }
+}
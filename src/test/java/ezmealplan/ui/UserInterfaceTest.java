@@ -265,7 +265,8 @@ public class UserInterfaceTest {
         String expected = "Entering the remove command will remove a meal in the wishlist" + ls +
                           "Sample input: remove 1 " + ls +
                           "Sample output:" + ls +
-                          "               OK.  Chicken Rice ($3.00) have been removed from the wishlist." + ls;
+                          "               OK.  Chicken Rice ($3.00) have been removed from the wishlist." + ls +
+                          "Several indexes and ranges of indexes can be removed at once: remove 1, 3-5" + ls;
         assertEquals(expected, outContent.toString(), "Remove command help output does not match.");
         logger.info("printRemoveCommandHelp_noInput_success() passed");
     }
@@ -281,7 +282,9 @@ public class UserInterfaceTest {
                           "Sample input (filtered by meal name(s)): select 1 /mname fish, ball" + ls +
                           "Sample input: select 1" + ls +
                           "Sample output based on the sample input 'select 1':" + ls +
-                          "               OK.  Chicken Rice ($3.00) have been added to the wishlist." + ls;
+                          "               OK.  Chicken Rice ($3.00) have been added to the wishlist." + ls +
+                          "Several indexes and ranges of indexes can be selected at once: select 1-50, 60 /ing fish" +
+                          ls;
         assertEquals(expected, outContent.toString(), "Select command help output does not match.");
         logger.info("printSelectCommandHelp_noInput_success() passed");
     }
@@ -300,7 +303,10 @@ public class UserInterfaceTest {
                           "               1. Chicken Rice ($5.50)" + ls +
                           "Sample input: filter /mname Hokkien Mee" + ls +
                           "Sample output:" + ls +
-                          "               1. Hokkien Mee ($5.50)" + ls;
+                          "               1. Hokkien Mee ($5.50)" + ls +
+                          "Conditions can be combined with /and, /or and /not, and /explain shows the plan used:" +
+                          ls + "Sample input: filter /explain /ing chicken /not /mname rice /or /mcost <2.00" + ls +
+                          "Adding /page N at the end shows only the N-th page of 20 meals." + ls;
         assertEquals(expected, outContent.toString(), "Filter command help output does not match.");
         logger.info("printFilterCommandHelp_noInput_success() passed");
     }
@@ -312,7 +318,8 @@ public class UserInterfaceTest {
         String expected = "Entering the delete command will delete a meal in the recipes list" + ls +
                           "Sample input: delete 1 " + ls +
                           "Sample output:" + ls +
-                          "               OK.  Chicken Rice ($3.00) have been deleted from the recipes list." + ls;
+                          "               OK.  Chicken Rice ($3.00) have been deleted from the recipes list." + ls +
+                          "Several indexes and ranges of indexes can be deleted at once: delete 3, 7, 10-20" + ls;
         assertEquals(expected, outContent.toString(), "Delete command help output does not match.");
         logger.info("printDeleteCommandHelp_noInput_success() passed");
     }
@@ -331,7 +338,9 @@ public class UserInterfaceTest {
                           "               4. egg" + ls +
                           "               5. pork lard" + ls +
                           "               6. squid" + ls +
-                          "               7. lime" + ls;
+                          "               7. lime" + ls +
+                          "A meal can also be given by its meal ID, which view shows and which does not change " +
+                          "when other meals are added or removed: view /r #42" + ls;
         assertEquals(expected, outContent.toString(), "View command help output does not match.");
         logger.info("printViewCommandHelp_noInput_success() passed");
     }
@@ -367,17 +376,20 @@ public class UserInterfaceTest {
     void printRecommendCommandHelp_noInput_success() {
         logger.fine("running printRecommendCommandHelp_noInput_success()");
         ui.printRecommendCommandHelp();
-        String expected = "Entering the recommend command with an ingredient keyword will suggest a meal" + ls +
-                "based on that ingredient from your wishlist or the recipe list." + ls +
-                "Sample input: recommend /ing chicken" + ls +
+        String expected = "Entering the recommend command with an ingredient keyword will suggest the meals" + ls +
+                "based on that ingredient from your wishlist or the recipe list," + ls +
+                "ranked by the ingredients you already own. Add /top N to see N meals instead of 3." + ls +
+                "Sample input: recommend /ing chicken /top 1" + ls +
                 "Sample output:" + ls +
-                "                Recommended Meal: Kung Pao Chicken (Kung Pao Chicken ($3.60))" + ls +
+                "                Recommended Meal 1: Kung Pao Chicken (Kung Pao Chicken ($3.60))" + ls +
                 "                Ingredients:" + ls +
                 "                   1. Chicken ($2.00)" + ls +
                 "                   2. Chilli ($0.50)" + ls +
                 "                   3. Peanuts ($0.70)" + ls +
                 "                   4. Sichuan Pepper ($0.40)" + ls +
-                "                Missing Ingredients: Chicken, Chilli, Peanuts, Sichuan Pepper" + ls;
+                "                Ingredients on hand: 1 of 4 (25%), worth $2.00" + ls +
+                "                Missing Ingredients: Chilli, Peanuts, Sichuan Pepper" + ls +
+                "                Estimated spend on missing ingredients: $1.60" + ls;
         assertEquals(expected, outContent.toString(), "Recommend command help output does not match.");
         logger.info("printRecommendCommandHelp_noInput_success() passed");
     }